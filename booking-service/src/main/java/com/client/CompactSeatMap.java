@@ -0,0 +1,98 @@
+package com.client;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.util.Constants;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Base64;
+
+/**
+ * Compact seat map returned by flight service for Accept: application/vnd.flightapp.seatmap.compact+json.
+ * Availability is a base64 bitmap with one bit per seat in layout order, decoded once and
+ * queried by seat number without building per-seat objects.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompactSeatMap {
+    private String flightId;
+    private String layout; // e.g. "ABC_DEF:B3" - seat letters per row ('_' is the aisle), business rows
+    private Integer seatCount;
+    private Integer availableSeats;
+    private String availability;
+
+    @JsonIgnore
+    private byte[] bitmap;
+
+    @JsonIgnore
+    private String seatLetters;
+
+    /**
+     * Check if a seat is available, e.g. isAvailable("12C")
+     */
+    public boolean isAvailable(String seatNumber) {
+        int index = seatIndexOf(seatNumber);
+        if (index < 0 || index >= seatCount) {
+            return false;
+        }
+        byte[] bits = bitmap();
+        return (bits[index >> 3] & (1 << (index & 7))) != 0;
+    }
+
+    /**
+     * Cabin of a seat from the layout's business rows, e.g. cabinOf("2A") is BUSINESS for "ABC_DEF:B3"
+     */
+    public String cabinOf(String seatNumber) {
+        String[] parts = layout.split(":");
+        int businessRows = parts.length > 1 && parts[1].startsWith("B") ? Integer.parseInt(parts[1].substring(1)) : 0;
+        int row = Integer.parseInt(seatNumber.substring(0, seatNumber.length() - 1));
+        return row <= businessRows ? Constants.SEAT_BUSINESS : Constants.SEAT_ECONOMY;
+    }
+
+    /**
+     * Position of a seat in layout order, or -1 if the seat number does not fit the layout
+     */
+    private int seatIndexOf(String seatNumber) {
+        return seatIndexOf(seatLetters(), seatNumber);
+    }
+
+    /**
+     * Position of a seat in layout order given the layout's seat letters, e.g. "ABCDEF"
+     */
+    static int seatIndexOf(String letters, String seatNumber) {
+        if (seatNumber == null || !seatNumber.matches("^\\d+[A-Z]$")) {
+            return -1;
+        }
+        int letterIndex = letters.indexOf(seatNumber.charAt(seatNumber.length() - 1));
+        if (letterIndex < 0) {
+            return -1;
+        }
+        int row = Integer.parseInt(seatNumber.substring(0, seatNumber.length() - 1));
+        return (row - 1) * letters.length() + letterIndex;
+    }
+
+    private byte[] bitmap() {
+        if (bitmap == null) {
+            bitmap = Base64.getDecoder().decode(availability);
+        }
+        return bitmap;
+    }
+
+    private String seatLetters() {
+        if (seatLetters == null) {
+            seatLetters = seatLettersOf(layout);
+        }
+        return seatLetters;
+    }
+
+    /**
+     * Seat letters of a layout reference, e.g. "ABCDEF" for "ABC_DEF:B3"
+     */
+    static String seatLettersOf(String layout) {
+        return layout.split(":")[0].replace("_", "");
+    }
+}
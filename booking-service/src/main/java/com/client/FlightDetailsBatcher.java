@@ -0,0 +1,131 @@
+package com.client;
+
+import com.exception.FlightNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Collects flight lookups issued within a short window and resolves them with one call to the
+ * flight service batch endpoint. A batch is sent when the window closes or when it holds
+ * maxBatchSize distinct flights. Callers asking for the same flight in one window share a result.
+ * Every batch, even of one flight, uses the batch endpoint so all callers get the same details.
+ */
+@Component
+@Slf4j
+public class FlightDetailsBatcher {
+
+    private final FlightServiceClient flightServiceClient;
+    private final FlightDetailsCache flightDetailsCache;
+    private final long windowMillis;
+    private final int maxBatchSize;
+
+    private final Object lock = new Object();
+    private Map<String, Sinks.One<FlightDetailsDto>> pending = new HashMap<>();
+    private Disposable windowTimer;
+
+    public FlightDetailsBatcher(FlightServiceClient flightServiceClient,
+                                FlightDetailsCache flightDetailsCache,
+                                @Value("${app.flight-batch.window-ms:5}") long windowMillis,
+                                @Value("${app.flight-batch.max-size:50}") int maxBatchSize) {
+        this.flightServiceClient = flightServiceClient;
+        this.flightDetailsCache = flightDetailsCache;
+        this.windowMillis = windowMillis;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public Mono<FlightDetailsDto> load(String flightId) {
+        return Mono.defer(() -> {
+            Sinks.One<FlightDetailsDto> sink;
+            Map<String, Sinks.One<FlightDetailsDto>> fullBatch = null;
+
+            synchronized (lock) {
+                sink = pending.get(flightId);
+                if (sink == null) {
+                    sink = Sinks.one();
+                    pending.put(flightId, sink);
+                    if (pending.size() == 1) {
+                        windowTimer = Schedulers.parallel().schedule(this::flushWindow, windowMillis, TimeUnit.MILLISECONDS);
+                    }
+                    if (pending.size() >= maxBatchSize) {
+                        fullBatch = takePending();
+                    }
+                }
+            }
+
+            if (fullBatch != null) {
+                dispatch(fullBatch);
+            }
+            return sink.asMono();
+        });
+    }
+
+    private void flushWindow() {
+        Map<String, Sinks.One<FlightDetailsDto>> batch;
+        synchronized (lock) {
+            batch = takePending();
+        }
+        if (!batch.isEmpty()) {
+            dispatch(batch);
+        }
+    }
+
+    // Caller holds the lock
+    private Map<String, Sinks.One<FlightDetailsDto>> takePending() {
+        Map<String, Sinks.One<FlightDetailsDto>> batch = pending;
+        pending = new HashMap<>();
+        if (windowTimer != null) {
+            windowTimer.dispose();
+            windowTimer = null;
+        }
+        return batch;
+    }
+
+    private void dispatch(Map<String, Sinks.One<FlightDetailsDto>> batch) {
+        flightServiceClient.getFlightsByIds(new ArrayList<>(batch.keySet()))
+                .map(response -> response.getData() != null ? response.getData() : List.<FlightDetailsDto>of())
+                .defaultIfEmpty(List.of())
+                .subscribe(
+                        flights -> complete(batch, flights),
+                        error -> {
+                            log.warn("Batch lookup of {} flights failed, serving cached details: {}",
+                                    batch.size(), error.getMessage());
+                            completeFromCache(batch, error);
+                        }
+                );
+    }
+
+    private void complete(Map<String, Sinks.One<FlightDetailsDto>> batch, List<FlightDetailsDto> flights) {
+        Map<String, FlightDetailsDto> byId = flights.stream()
+                .collect(Collectors.toMap(FlightDetailsDto::getId, Function.identity(), (first, second) -> first));
+
+        batch.forEach((flightId, sink) -> {
+            FlightDetailsDto flight = byId.get(flightId);
+            if (flight != null) {
+                sink.tryEmitValue(flight);
+            } else {
+                sink.tryEmitError(new FlightNotFoundException("Flight with ID " + flightId + " not found"));
+            }
+        });
+    }
+
+    /**
+     * Serve the last known details of each flight while the flight service is down
+     */
+    private void completeFromCache(Map<String, Sinks.One<FlightDetailsDto>> batch, Throwable error) {
+        batch.forEach((flightId, sink) -> flightDetailsCache.getStale(flightId)
+                .ifPresentOrElse(sink::tryEmitValue, () -> sink.tryEmitError(error)));
+    }
+}
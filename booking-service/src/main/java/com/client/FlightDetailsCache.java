@@ -0,0 +1,102 @@
+package com.client;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded, least-recently-used store of flight details fetched from the flight service. Entries
+ * record when they were fetched; callers decide how old is fresh enough. Entries are kept past
+ * that for stale-on-error fallback.
+ */
+@Component
+public class FlightDetailsCache {
+
+    private final long staleMaxAgeMillis;
+    private final Map<String, Entry> entries;
+
+    public FlightDetailsCache(@Value("${app.flight-cache.max-entries:5000}") int maxEntries,
+                              @Value("${app.flight-cache.stale-max-age-seconds:3600}") long staleMaxAgeSeconds) {
+        this.staleMaxAgeMillis = staleMaxAgeSeconds * 1000;
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    public Entry get(String flightId) {
+        return entries.get(flightId);
+    }
+
+    /**
+     * Store freshly fetched details
+     */
+    public void put(String flightId, FlightDetailsDto details) {
+        Entry current = entries.get(flightId);
+        // A stale copy served by the fallback comes back as the same instance and must not look fresh
+        if (current != null && current.details == details) {
+            return;
+        }
+        entries.put(flightId, new Entry(details, System.currentTimeMillis()));
+    }
+
+    /**
+     * Last known details for a flight, if fetched within the stale limit
+     */
+    public Optional<FlightDetailsDto> getStale(String flightId) {
+        Entry entry = entries.get(flightId);
+        if (entry == null || entry.ageMillis() > staleMaxAgeMillis) {
+            return Optional.empty();
+        }
+        return Optional.of(entry.details);
+    }
+
+    public void evict(String flightId) {
+        entries.remove(flightId);
+    }
+
+    public static final class Entry {
+
+        private final FlightDetailsDto details;
+        private final long fetchedAt;
+        private final AtomicInteger hits = new AtomicInteger();
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        private Entry(FlightDetailsDto details, long fetchedAt) {
+            this.details = details;
+            this.fetchedAt = fetchedAt;
+        }
+
+        public FlightDetailsDto details() {
+            return details;
+        }
+
+        public long ageMillis() {
+            return System.currentTimeMillis() - fetchedAt;
+        }
+
+        /**
+         * Count a cache hit
+         * @return hits since the entry was fetched
+         */
+        public int hit() {
+            return hits.incrementAndGet();
+        }
+
+        public boolean startRefresh() {
+            return refreshing.compareAndSet(false, true);
+        }
+
+        public void endRefresh() {
+            refreshing.set(false);
+        }
+    }
+}
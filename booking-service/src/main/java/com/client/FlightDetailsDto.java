@@ -6,6 +6,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 
 @Data
 @Builder
@@ -25,6 +26,8 @@ public class FlightDetailsDto {
     private Integer totalSeats;
     private Integer availableSeats;
     private Double baseFare;
+    private Double currentFare; // Economy fare from the flight service pricing engine
+    private Map<String, Double> cabinFares;
     private String currency;
     private String status;
 }
\ No newline at end of file
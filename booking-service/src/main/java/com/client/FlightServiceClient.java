@@ -1,6 +1,7 @@
 package com.client;
 
 import com.dto.response.ApiResponse;
+import com.util.Constants;
 import org.springframework.web.bind.annotation.*;
 import reactivefeign.spring.config.ReactiveFeignClient;
 import reactor.core.publisher.Mono;
@@ -13,16 +14,45 @@ public interface FlightServiceClient {
     @GetMapping("/api/v1/flights/{flightId}")
     Mono<ApiResponse<FlightDetailsDto>> getFlightById(@PathVariable String flightId);
 
+    @PostMapping("/api/v1/flights/batch")
+    Mono<ApiResponse<List<FlightDetailsDto>>> getFlightsByIds(@RequestBody List<String> flightIds);
+
     @GetMapping("/api/v1/flights/{flightId}/seats")
     Mono<ApiResponse<List<SeatDto>>> getSeats(@PathVariable String flightId);
 
+    @GetMapping(value = "/api/v1/flights/{flightId}/seats", produces = Constants.MEDIA_TYPE_COMPACT_SEAT_MAP)
+    Mono<ApiResponse<CompactSeatMap>> getCompactSeatMap(@PathVariable String flightId);
+
+    @GetMapping("/api/v1/flights/{flightId}/seats/prices")
+    Mono<ApiResponse<SeatPriceTable>> getSeatPriceTable(@PathVariable String flightId);
+
     @PutMapping("/api/v1/flights/{flightId}/seats/reserve")
     Mono<ApiResponse<Void>> reserveSeats(
             @PathVariable String flightId,
             @RequestBody List<String> seatNumbers);
 
+    @PostMapping("/api/v1/flights/{flightId}/seats/assign")
+    Mono<ApiResponse<SeatAssignmentDto>> assignSeats(
+            @PathVariable String flightId,
+            @RequestBody SeatAssignmentRequest request);
+
     @PutMapping("/api/v1/flights/{flightId}/seats/release")
     Mono<ApiResponse<Void>> releaseSeats(
             @PathVariable String flightId,
             @RequestBody List<String> seatNumbers);
-}
\ No newline at end of file
+
+    @PostMapping("/api/v1/flights/{flightId}/reservations")
+    Mono<ApiResponse<ReservationDto>> createReservation(
+            @PathVariable String flightId,
+            @RequestBody SeatReservationRequest request);
+
+    @PostMapping("/api/v1/flights/{flightId}/reservations/{reservationId}/confirm")
+    Mono<ApiResponse<ReservationDto>> confirmReservation(
+            @PathVariable String flightId,
+            @PathVariable String reservationId);
+
+    @DeleteMapping("/api/v1/flights/{flightId}/reservations/{reservationId}")
+    Mono<ApiResponse<ReservationDto>> releaseReservation(
+            @PathVariable String flightId,
+            @PathVariable String reservationId);
+}
@@ -2,6 +2,7 @@ package com.client;
 
 import com.dto.response.ApiResponse;
 import com.exception.ServiceUnavailableException;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
@@ -9,12 +10,32 @@ import reactor.core.publisher.Mono;
 import java.util.List;
 
 @Component
+@RequiredArgsConstructor
 @Slf4j
 public class FlightServiceFallback implements FlightServiceClient {
 
+    private final FlightDetailsCache flightDetailsCache;
+
     @Override
     public Mono<ApiResponse<FlightDetailsDto>> getFlightById(String flightId) {
-        log.error("Circuit Breaker: Flight Service unavailable for getFlightById({})", flightId);
+        // Serve the last known details while the flight service is down
+        return flightDetailsCache.getStale(flightId)
+                .map(stale -> {
+                    log.warn("Circuit Breaker: Flight Service unavailable, serving cached flight {}", flightId);
+                    return Mono.just(ApiResponse.success("Cached flight details", stale));
+                })
+                .orElseGet(() -> {
+                    log.error("Circuit Breaker: Flight Service unavailable for getFlightById({})", flightId);
+                    return Mono.error(new ServiceUnavailableException(
+                            "Flight Service is currently unavailable. Please try again later."
+                    ));
+                });
+    }
+
+    @Override
+    public Mono<ApiResponse<List<FlightDetailsDto>>> getFlightsByIds(List<String> flightIds) {
+        // FlightDetailsBatcher serves cached details for the flights in a failed batch
+        log.error("Circuit Breaker: Flight Service unavailable for getFlightsByIds({} flights)", flightIds.size());
         return Mono.error(new ServiceUnavailableException(
                 "Flight Service is currently unavailable. Please try again later."
         ));
@@ -28,6 +49,22 @@ public class FlightServiceFallback implements FlightServiceClient {
         ));
     }
 
+    @Override
+    public Mono<ApiResponse<CompactSeatMap>> getCompactSeatMap(String flightId) {
+        log.error("Circuit Breaker: Flight Service unavailable for getCompactSeatMap({})", flightId);
+        return Mono.error(new ServiceUnavailableException(
+                "Flight Service is currently unavailable. Seat information cannot be retrieved."
+        ));
+    }
+
+    @Override
+    public Mono<ApiResponse<SeatPriceTable>> getSeatPriceTable(String flightId) {
+        log.error("Circuit Breaker: Flight Service unavailable for getSeatPriceTable({})", flightId);
+        return Mono.error(new ServiceUnavailableException(
+                "Flight Service is currently unavailable. Seat prices cannot be retrieved."
+        ));
+    }
+
     @Override
     public Mono<ApiResponse<Void>> reserveSeats(String flightId, List<String> seatNumbers) {
         log.error("Circuit Breaker: Flight Service unavailable for reserveSeats({}, {})",
@@ -37,6 +74,15 @@ public class FlightServiceFallback implements FlightServiceClient {
         ));
     }
 
+    @Override
+    public Mono<ApiResponse<SeatAssignmentDto>> assignSeats(String flightId, SeatAssignmentRequest request) {
+        log.error("Circuit Breaker: Flight Service unavailable for assignSeats({}, {} passengers)",
+                flightId, request.getPassengers());
+        return Mono.error(new ServiceUnavailableException(
+                "Flight Service is currently unavailable. Seat assignment failed. Please try again later."
+        ));
+    }
+
     @Override
     public Mono<ApiResponse<Void>> releaseSeats(String flightId, List<String> seatNumbers) {
         log.error("Circuit Breaker: Flight Service unavailable for releaseSeats({}, {})",
@@ -45,4 +91,31 @@ public class FlightServiceFallback implements FlightServiceClient {
                 "Flight Service is currently unavailable. Seat release failed."
         ));
     }
-}
\ No newline at end of file
+
+    @Override
+    public Mono<ApiResponse<ReservationDto>> createReservation(String flightId, SeatReservationRequest request) {
+        log.error("Circuit Breaker: Flight Service unavailable for createReservation({}, {})",
+                flightId, request.getReservationId());
+        return Mono.error(new ServiceUnavailableException(
+                "Flight Service is currently unavailable. Seat reservation failed. Please try again later."
+        ));
+    }
+
+    @Override
+    public Mono<ApiResponse<ReservationDto>> confirmReservation(String flightId, String reservationId) {
+        log.error("Circuit Breaker: Flight Service unavailable for confirmReservation({}, {})",
+                flightId, reservationId);
+        return Mono.error(new ServiceUnavailableException(
+                "Flight Service is currently unavailable. Seat reservation could not be confirmed."
+        ));
+    }
+
+    @Override
+    public Mono<ApiResponse<ReservationDto>> releaseReservation(String flightId, String reservationId) {
+        log.error("Circuit Breaker: Flight Service unavailable for releaseReservation({}, {})",
+                flightId, reservationId);
+        return Mono.error(new ServiceUnavailableException(
+                "Flight Service is currently unavailable. Seat release failed."
+        ));
+    }
+}
@@ -0,0 +1,45 @@
+package com.client;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Payload of a flight service quote token
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceQuote {
+    private String flightId;
+    private String flightNumber;
+    private String origin;
+    private String destination;
+    private LocalDateTime departureDateTime;
+    private String currency;
+    private Integer availableSeats;
+
+    private String cabinClass;
+    private Integer passengers;
+    private List<Line> lines;
+    private Double totalFare;
+
+    private Long issuedAt; // Epoch millis
+    private Long expiresAt; // Epoch millis
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Line {
+        private String seatNumber;
+        private String cabinClass;
+        private Double fare;
+        private Double seatCharge;
+    }
+}
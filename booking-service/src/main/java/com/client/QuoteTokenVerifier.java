@@ -0,0 +1,69 @@
+package com.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * Verifies quote tokens signed by the flight service ("base64url(json).base64url(HMAC-SHA256)")
+ * with the shared secret. Tampered, malformed and expired tokens are all treated as absent.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class QuoteTokenVerifier {
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final ObjectMapper objectMapper;
+
+    // Required, from the config server or APP_QUOTES_SECRET; there is deliberately no default
+    @Value("${app.quotes.secret}")
+    private String secret;
+
+    @PostConstruct
+    void requireSecret() {
+        if (secret.isBlank()) {
+            throw new IllegalStateException("app.quotes.secret must not be blank");
+        }
+    }
+
+    public Optional<PriceQuote> verify(String token) {
+        try {
+            int separator = token.indexOf('.');
+            if (separator < 0) {
+                return Optional.empty();
+            }
+            Base64.Decoder decoder = Base64.getUrlDecoder();
+            byte[] payload = decoder.decode(token.substring(0, separator));
+            byte[] signature = decoder.decode(token.substring(separator + 1));
+
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM));
+            if (!MessageDigest.isEqual(mac.doFinal(payload), signature)) {
+                log.warn("Quote token signature mismatch");
+                return Optional.empty();
+            }
+
+            PriceQuote quote = objectMapper.readValue(payload, PriceQuote.class);
+            if (quote.getExpiresAt() == null || quote.getExpiresAt() < System.currentTimeMillis()) {
+                log.info("Quote for flight {} has expired", quote.getFlightId());
+                return Optional.empty();
+            }
+            return Optional.of(quote);
+        } catch (Exception ex) {
+            log.warn("Unreadable quote token: {}", ex.getMessage());
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.client;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatAssignmentDto {
+    private String flightId;
+    private String reservationId;
+    private String cabinClass;
+    private List<String> seatNumbers;
+}
@@ -0,0 +1,18 @@
+package com.client;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatAssignmentRequest {
+    private Integer passengers;
+    private String cabinClass;
+    private String seatPreference;
+    private Boolean keepTogether;
+    private String reservationId;
+}
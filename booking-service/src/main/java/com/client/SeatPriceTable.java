@@ -0,0 +1,57 @@
+package com.client;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Per-seat extra charges returned by flight service: the distinct charges plus one base-62
+ * digit per seat in layout order indexing into them. Seat charges rarely change, so the table
+ * is cached per flight and reused across bookings.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatPriceTable {
+    private static final String PRICE_CLASS_DIGITS =
+            "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+
+    private String flightId;
+    private String layout; // e.g. "ABC_DEF:B3"
+    private Integer seatCount;
+    private String currency;
+    private List<Double> charges;
+    private String priceClasses;
+
+    @JsonIgnore
+    private String seatLetters;
+
+    /**
+     * Extra charge for a seat, e.g. chargeOf("1A"); 0 for seats outside the table
+     */
+    public double chargeOf(String seatNumber) {
+        if (seatLetters == null) {
+            seatLetters = CompactSeatMap.seatLettersOf(layout);
+        }
+        int index = CompactSeatMap.seatIndexOf(seatLetters, seatNumber);
+        if (index < 0 || index >= priceClasses.length()) {
+            return 0.0;
+        }
+        int level = PRICE_CLASS_DIGITS.indexOf(priceClasses.charAt(index));
+        return level >= 0 && level < charges.size() ? charges.get(level) : 0.0;
+    }
+
+    /**
+     * Total extra charge for a set of seats
+     */
+    public double chargeOf(List<String> seatNumbers) {
+        return seatNumbers.stream()
+                .mapToDouble(this::chargeOf)
+                .sum();
+    }
+}
@@ -0,0 +1,17 @@
+package com.client;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatReservationRequest {
+    private String reservationId;
+    private List<String> seatNumbers;
+}
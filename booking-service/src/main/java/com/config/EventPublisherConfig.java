@@ -0,0 +1,20 @@
+package com.config;
+
+import com.service.BookingEventPublisher;
+import com.service.impl.InMemoryBookingEventPublisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class EventPublisherConfig {
+
+    // A broker-backed BookingEventPublisher bean replaces this one
+    @Bean
+    @ConditionalOnMissingBean(BookingEventPublisher.class)
+    public BookingEventPublisher bookingEventPublisher(
+            @Value("${app.events.in-memory.capacity:1000}") int capacity) {
+        return new InMemoryBookingEventPublisher(capacity);
+    }
+}
@@ -1,11 +1,14 @@
 package com.controller;
 
+import com.dto.request.BookingHistoryQuery;
 import com.dto.request.BookingRequest;
 import com.dto.response.ApiResponse;
+import com.dto.response.BookingPage;
 import com.dto.response.BookingResponse;
 import com.dto.response.CancellationResponse;
 import com.dto.response.TicketResponse;
 import com.service.BookingService;
+import com.service.IdempotencyService;
 import com.service.TicketService;
 import com.util.Constants;
 import io.swagger.v3.oas.annotations.Operation;
@@ -13,12 +16,13 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Mono;
 
-import java.util.List;
+import java.time.LocalDate;
 
 @RestController
 @RequestMapping(Constants.BOOKINGS_PATH)
@@ -29,18 +33,23 @@ public class BookingController {
 
     private final BookingService bookingService;
     private final TicketService ticketService;
+    private final IdempotencyService idempotencyService;
 
     @PostMapping
-    @Operation(summary = "Create booking", description = "Create a new flight booking")
+    @Operation(summary = "Create booking", description = "Create a new flight booking; retries with the same Idempotency-Key replay the original response")
     public Mono<ResponseEntity<ApiResponse<BookingResponse>>> createBooking(
-            @Valid @RequestBody BookingRequest request) {
+            @Valid @RequestBody BookingRequest request,
+            @RequestHeader(value = Constants.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
 
         log.info("Creating booking for flight: {}", request.getFlightId());
 
-        return bookingService.createBooking(request)
-                .map(booking -> ResponseEntity
-                        .status(HttpStatus.CREATED)
-                        .body(ApiResponse.success("Booking created successfully", booking)));
+        return idempotencyService.execute(idempotencyKey, request, () -> bookingService.createBooking(request))
+                // A PENDING booking is accepted but not yet confirmed; recovery finishes it
+                .map(booking -> Constants.STATUS_PENDING.equals(booking.getStatus())
+                        ? ResponseEntity.status(HttpStatus.ACCEPTED)
+                                .body(ApiResponse.success("Booking accepted, awaiting confirmation", booking))
+                        : ResponseEntity.status(HttpStatus.CREATED)
+                                .body(ApiResponse.success("Booking created successfully", booking)));
     }
 
     @GetMapping("/pnr/{pnr}")
@@ -57,28 +66,21 @@ public class BookingController {
     }
 
     @GetMapping("/user/{email}")
-    @Operation(summary = "Get booking history", description = "Retrieve all bookings for a user by email")
-    public Mono<ResponseEntity<ApiResponse<List<BookingResponse>>>> getBookingHistory(
-            @PathVariable String email) {
+    @Operation(summary = "Get booking history", description = "Retrieve a page of bookings for a user by email, newest first")
+    public Mono<ResponseEntity<ApiResponse<BookingPage>>> getBookingHistory(
+            @PathVariable String email,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String pageToken,
+            @RequestParam(required = false) Integer size) {
 
         log.info("Fetching booking history for email: {}", email);
 
-        return bookingService.getBookingHistory(email)
-                .collectList()
-                .map(bookings -> {
-                    if (bookings.isEmpty()) {
-                        return ResponseEntity
-                                .status(HttpStatus.NOT_FOUND)
-                                .body(ApiResponse.<List<BookingResponse>>builder()
-                                        .success(false)
-                                        .message("No bookings found for this email")
-                                        .data(bookings)
-                                        .build());
-                    }
-                    return ResponseEntity.ok(
-                            ApiResponse.success("Booking history retrieved successfully", bookings)
-                    );
-                });
+        BookingHistoryQuery query = historyQuery(status, from, to, pageToken, size);
+        return bookingService.getBookingHistory(email, query)
+                .map(page -> historyResponse(page, query, "No bookings found for this email",
+                        "Booking history retrieved successfully"));
     }
 
     @DeleteMapping("/{pnr}")
@@ -121,33 +123,51 @@ public class BookingController {
     @GetMapping("/my")
     @Operation(
             summary = "Get my bookings",
-            description = "Retrieve bookings for the currently logged-in user"
+            description = "Retrieve a page of bookings for the currently logged-in user, newest first"
     )
-    public Mono<ResponseEntity<ApiResponse<List<BookingResponse>>>> getMyBookings(
-            @RequestHeader("X-User-Email") String email
+    public Mono<ResponseEntity<ApiResponse<BookingPage>>> getMyBookings(
+            @RequestHeader("X-User-Email") String email,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String pageToken,
+            @RequestParam(required = false) Integer size
     ) {
         log.info("Fetching bookings for logged-in user: {}", email);
 
-        return bookingService.getMyBookings(email)
-                .collectList()
-                .map(bookings -> {
-                    if (bookings.isEmpty()) {
-                        return ResponseEntity
-                                .status(HttpStatus.NOT_FOUND)
-                                .body(ApiResponse.<List<BookingResponse>>builder()
-                                        .success(false)
-                                        .message("No bookings found for your account")
-                                        .data(bookings)
-                                        .build());
-                    }
-
-                    return ResponseEntity.ok(
-                            ApiResponse.success(
-                                    "Your bookings retrieved successfully",
-                                    bookings
-                            )
-                    );
-                });
+        BookingHistoryQuery query = historyQuery(status, from, to, pageToken, size);
+        return bookingService.getMyBookings(email, query)
+                .map(page -> historyResponse(page, query, "No bookings found for your account",
+                        "Your bookings retrieved successfully"));
     }
 
-}
\ No newline at end of file
+    private BookingHistoryQuery historyQuery(String status, LocalDate from, LocalDate to,
+                                             String pageToken, Integer size) {
+        return BookingHistoryQuery.builder()
+                .status(status)
+                .from(from)
+                .to(to)
+                .pageToken(pageToken)
+                .size(size)
+                .build();
+    }
+
+    /**
+     * 404 only when the first page is empty; later pages can be empty if bookings were removed
+     */
+    private ResponseEntity<ApiResponse<BookingPage>> historyResponse(BookingPage page, BookingHistoryQuery query,
+                                                                     String notFoundMessage, String successMessage) {
+        if (page.getBookings().isEmpty() && query.getPageToken() == null) {
+            return ResponseEntity
+                    .status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponse.<BookingPage>builder()
+                            .success(false)
+                            .message(notFoundMessage)
+                            .data(page)
+                            .build());
+        }
+
+        return ResponseEntity.ok(ApiResponse.success(successMessage, page));
+    }
+
+}
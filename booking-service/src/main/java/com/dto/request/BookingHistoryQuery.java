@@ -0,0 +1,22 @@
+package com.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingHistoryQuery {
+
+    private String status; // Optional, e.g. CONFIRMED or CANCELLED
+    private LocalDate from; // Booked on or after, inclusive
+    private LocalDate to; // Booked on or before, inclusive
+
+    private String pageToken; // nextPageToken of the previous page; empty for the first page
+    private Integer size;
+}
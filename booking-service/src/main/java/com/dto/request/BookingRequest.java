@@ -31,6 +31,18 @@ public class BookingRequest {
     @Valid
     private List<PassengerDetails> passengers;
 
-    @NotEmpty(message = "At least one seat must be selected")
+    // Leave empty to have the best available seats assigned automatically
     private List<String> seatNumbers;
+
+    private String cabinClass; // ECONOMY, BUSINESS - used for automatic seat assignment
+
+    private String seatPreference; // WINDOW, AISLE - used for automatic seat assignment
+
+    private Boolean keepTogether; // Seat the group together, defaults to true
+
+    // Seat hold to book instead of picking seats, e.g. one offered by a waitlist promotion
+    private String reservationId;
+
+    // Signed quote from the flight service; books at the quoted price without re-fetching the flight
+    private String quoteToken;
 }
\ No newline at end of file
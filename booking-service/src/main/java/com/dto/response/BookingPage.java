@@ -0,0 +1,21 @@
+package com.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingPage {
+
+    private List<BookingResponse> bookings;
+    private Integer size;
+
+    // Pass back as pageToken for the next page; null on the last page
+    private String nextPageToken;
+}
@@ -1,5 +1,6 @@
 package com.dto.response;
 
+import com.model.Booking;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -17,4 +18,19 @@ public class FareBreakdown {
     private Double mealCharges;
     private Double totalFare;
     private String currency;
+
+    /**
+     * Breakdown from the fares stored on the booking; older bookings only have their total
+     */
+    public static FareBreakdown of(Booking booking) {
+        boolean itemized = booking.getBaseFare() != null;
+        return FareBreakdown.builder()
+                .baseFare(itemized ? booking.getBaseFare() : booking.getTotalFare())
+                .taxes(0.0)
+                .seatCharges(itemized && booking.getSeatCharges() != null ? booking.getSeatCharges() : 0.0)
+                .mealCharges(0.0)
+                .totalFare(booking.getTotalFare())
+                .currency(booking.getCurrency())
+                .build();
+    }
 }
\ No newline at end of file
@@ -63,6 +63,22 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
     }
 
+    @ExceptionHandler(IdempotencyConflictException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyConflict(
+            IdempotencyConflictException ex,
+            ServerWebExchange exchange) {
+
+        ErrorResponse error = ErrorResponse.builder()
+                .success(false)
+                .error("Request In Progress")
+                .message(ex.getMessage())
+                .status(HttpStatus.CONFLICT.value())
+                .path(exchange.getRequest().getPath().value())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
     @ExceptionHandler(InvalidCancellationException.class)
     public ResponseEntity<ErrorResponse> handleInvalidCancellation(
             InvalidCancellationException ex,
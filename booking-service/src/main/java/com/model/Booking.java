@@ -5,6 +5,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
@@ -16,6 +18,13 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "bookings")
+@CompoundIndexes({
+        @CompoundIndex(name = "status_updated_idx", def = "{'status': 1, 'updatedAt': 1}"),
+        // Booking history pages; status is in the key so status filters are checked without fetching documents
+        @CompoundIndex(name = "email_booked_idx", def = "{'contactEmail': 1, 'bookingDateTime': -1, '_id': -1, 'status': 1}"),
+        @CompoundIndex(name = "outbox_pending_idx", def = "{'outbox.0.occurredAt': 1}", sparse = true),
+        @CompoundIndex(name = "seat_release_pending_idx", def = "{'seatReleasePending': 1, 'updatedAt': 1}", sparse = true)
+})
 public class Booking {
 
     @Id
@@ -28,17 +37,28 @@ public class Booking {
     private String flightNumber;
     private String route; // e.g., "DEL-BOM"
 
-    @Indexed
-    private String contactEmail;
+    private String contactEmail; // Leads email_booked_idx
     private String contactName;
 
     private List<Passenger> passengers;
     private List<String> seatNumbers;
 
+    // Seat reservation id in flight service, generated before reserving so retries are idempotent
+    private String reservationId;
+
+    // Sum of the cabin fares and of the seat charges the total was priced from; absent on older bookings
+    private Double baseFare;
+    private Double seatCharges;
     private Double totalFare;
     private String currency;
 
-    private String status; // CONFIRMED, CANCELLED, PENDING
+    private String status; // PENDING, CONFIRMED, FAILED, CANCELLED
+
+    // Booking saga: current state and the durable log of the steps taken
+    private String sagaState; // STARTED, SEATS_HELD, CONFIRMED, COMPENSATING, COMPENSATED
+    private List<SagaStep> sagaLog;
+    private Integer recoveryAttempts;
+    private String failureReason;
 
     private LocalDateTime journeyDate;
     private LocalDateTime bookingDateTime;
@@ -46,4 +66,13 @@ public class Booking {
 
     private String cancellationReason;
     private Double refundAmount;
+
+    // Set by a cancellation until flight service has released the seats; unset afterwards
+    private Boolean seatReleasePending;
+
+    private LocalDateTime updatedAt;
+
+    // Events not yet published, oldest first; the relay leases the booking while publishing
+    private List<BookingEvent> outbox;
+    private LocalDateTime outboxLockedUntil;
 }
\ No newline at end of file
@@ -0,0 +1,61 @@
+package com.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Booking lifecycle event. Events wait in the booking's outbox, written in the same update as
+ * the change they describe, until the relay has published them.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingEvent {
+
+    private String eventId;
+    private String type; // BOOKING_CREATED, BOOKING_CANCELLED, BOOKING_FAILED
+    private LocalDateTime occurredAt;
+
+    // Snapshot of the booking when the event occurred
+    private String bookingId;
+    private String pnr;
+    private String flightId;
+    private String flightNumber;
+    private String route;
+    private String contactEmail;
+    private String contactName;
+    private List<String> seatNumbers;
+    private Double totalFare;
+    private String currency;
+    private String status;
+    private LocalDateTime journeyDate;
+    private String reason;
+
+    public static BookingEvent of(String type, Booking booking, String status, String reason, LocalDateTime occurredAt) {
+        return BookingEvent.builder()
+                .eventId(UUID.randomUUID().toString())
+                .type(type)
+                .occurredAt(occurredAt)
+                .bookingId(booking.getId())
+                .pnr(booking.getPnr())
+                .flightId(booking.getFlightId())
+                .flightNumber(booking.getFlightNumber())
+                .route(booking.getRoute())
+                .contactEmail(booking.getContactEmail())
+                .contactName(booking.getContactName())
+                .seatNumbers(booking.getSeatNumbers())
+                .totalFare(booking.getTotalFare())
+                .currency(booking.getCurrency())
+                .status(status)
+                .journeyDate(booking.getJourneyDate())
+                .reason(reason)
+                .build();
+    }
+}
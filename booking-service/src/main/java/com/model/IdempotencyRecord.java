@@ -0,0 +1,33 @@
+package com.model;
+
+import com.dto.response.BookingResponse;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "idempotency_keys")
+public class IdempotencyRecord {
+
+    @Id
+    private String key; // Idempotency-Key header value
+
+    private String requestHash; // Fingerprint of the request body the key was first used with
+    private String status; // IN_PROGRESS, PENDING, COMPLETED
+    private BookingResponse response;
+
+    private LocalDateTime createdAt;
+
+    // Removed by Mongo's TTL monitor; short while in progress so a crashed request frees its key
+    @Indexed(expireAfterSeconds = 0)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,19 @@
+package com.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SagaStep {
+
+    private String state; // State entered by this step
+    private LocalDateTime at;
+    private String detail;
+}
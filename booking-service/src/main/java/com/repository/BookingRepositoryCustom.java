@@ -0,0 +1,92 @@
+package com.repository;
+
+import com.model.Booking;
+import com.model.BookingEvent;
+import com.model.Passenger;
+import com.util.BookingPageToken;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface BookingRepositoryCustom {
+
+    /**
+     * Move a pending booking's saga from one state to the next and append the step to its log
+     * @param event lifecycle event to add to the outbox in the same update, or null
+     * @return the updated booking, or empty if the saga is no longer pending in fromState
+     */
+    Mono<Booking> advanceSaga(String bookingId, String fromState, String toState, String status, String detail,
+                              BookingEvent event);
+
+    /**
+     * Record seats assigned by the flight service and move the saga from STARTED to SEATS_HELD
+     */
+    Mono<Booking> recordAssignedSeats(String bookingId, List<String> seatNumbers, List<Passenger> passengers);
+
+    /**
+     * Cancel a CONFIRMED booking and queue its cancellation event in the same update. The booking
+     * is marked as having seats to release until markSeatsReleased.
+     * @return the cancelled booking, or empty if the booking is not CONFIRMED
+     */
+    Mono<Booking> cancelConfirmed(String bookingId, LocalDateTime cancelledAt, String reason, double refundAmount,
+                                  BookingEvent event);
+
+    /**
+     * Cancelled bookings whose seats are still to be released, not touched since the given time
+     */
+    Flux<Booking> findPendingSeatReleases(LocalDateTime updatedBefore, int limit);
+
+    /**
+     * Claim a pending seat release by bumping the booking's update time
+     * @return the claimed booking, or empty if another worker claimed or finished it first
+     */
+    Mono<Booking> claimSeatRelease(String bookingId, LocalDateTime expectedUpdatedAt, LocalDateTime now);
+
+    /**
+     * Record that a cancelled booking's seats were released
+     */
+    Mono<Void> markSeatsReleased(String bookingId);
+
+    /**
+     * Move a pending saga that has not finished into COMPENSATING and record why
+     * @return the updated booking, or empty if the saga already completed or is compensating
+     */
+    Mono<Booking> beginCompensation(String bookingId, String reason);
+
+    /**
+     * Pending bookings not touched since the given time, oldest first
+     */
+    Flux<Booking> findStalledSagas(LocalDateTime updatedBefore, int limit);
+
+    /**
+     * Claim a stalled saga for recovery by bumping its update time and attempt count
+     * @return the claimed booking, or empty if another worker claimed or advanced it first
+     */
+    Mono<Booking> claimStalledSaga(String bookingId, LocalDateTime expectedUpdatedAt, LocalDateTime now);
+
+    /**
+     * Lease the booking with the oldest unpublished event that no other relay holds
+     */
+    Mono<Booking> claimOutbox(LocalDateTime now, LocalDateTime leaseUntil);
+
+    /**
+     * Drop a published event from the booking's outbox
+     */
+    Mono<Void> removeOutboxEvent(String bookingId, String eventId);
+
+    /**
+     * End the relay's lease on a booking's outbox
+     */
+    Mono<Void> releaseOutbox(String bookingId);
+
+    /**
+     * One page of a customer's bookings, newest first, read along the email/bookingDateTime index
+     * @param after position of the last booking on the previous page, or null for the first page
+     * @param bookedFrom inclusive lower bound on bookingDateTime, or null
+     * @param bookedBefore exclusive upper bound on bookingDateTime, or null
+     */
+    Flux<Booking> findHistoryPage(String email, String status, LocalDateTime bookedFrom, LocalDateTime bookedBefore,
+                                  BookingPageToken after, int limit);
+}
@@ -0,0 +1,214 @@
+package com.repository;
+
+import com.model.Booking;
+import com.model.BookingEvent;
+import com.model.Passenger;
+import com.model.SagaStep;
+import com.util.BookingPageToken;
+import com.util.Constants;
+import com.util.DateTimeUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class BookingRepositoryCustomImpl implements BookingRepositoryCustom {
+
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    @Override
+    public Mono<Booking> advanceSaga(String bookingId, String fromState, String toState, String status, String detail,
+                                     BookingEvent event) {
+        Update update = sagaStep(toState, detail).set("status", status);
+        if (event != null) {
+            update.push("outbox", event);
+        }
+
+        return mongoTemplate.findAndModify(
+                pendingInState(bookingId, fromState),
+                update,
+                FindAndModifyOptions.options().returnNew(true),
+                Booking.class);
+    }
+
+    @Override
+    public Mono<Booking> recordAssignedSeats(String bookingId, List<String> seatNumbers, List<Passenger> passengers) {
+        Update update = sagaStep(Constants.SAGA_SEATS_HELD, "Seats " + seatNumbers + " assigned")
+                .set("seatNumbers", seatNumbers)
+                .set("passengers", passengers);
+
+        return mongoTemplate.findAndModify(
+                pendingInState(bookingId, Constants.SAGA_STARTED),
+                update,
+                FindAndModifyOptions.options().returnNew(true),
+                Booking.class);
+    }
+
+    @Override
+    public Mono<Booking> cancelConfirmed(String bookingId, LocalDateTime cancelledAt, String reason,
+                                         double refundAmount, BookingEvent event) {
+        Query query = new Query(Criteria.where("id").is(bookingId)
+                .and("status").is(Constants.STATUS_CONFIRMED));
+
+        Update update = new Update()
+                .set("status", Constants.STATUS_CANCELLED)
+                .set("cancellationDateTime", cancelledAt)
+                .set("cancellationReason", reason)
+                .set("refundAmount", refundAmount)
+                .set("updatedAt", cancelledAt)
+                .set("seatReleasePending", true)
+                .push("outbox", event);
+
+        return mongoTemplate.findAndModify(query, update, FindAndModifyOptions.options().returnNew(true), Booking.class);
+    }
+
+    @Override
+    public Flux<Booking> findPendingSeatReleases(LocalDateTime updatedBefore, int limit) {
+        Query query = new Query(Criteria.where("seatReleasePending").is(true)
+                .and("updatedAt").lt(updatedBefore))
+                .with(Sort.by(Sort.Direction.ASC, "updatedAt"))
+                .limit(limit);
+
+        return mongoTemplate.find(query, Booking.class);
+    }
+
+    @Override
+    public Mono<Booking> claimSeatRelease(String bookingId, LocalDateTime expectedUpdatedAt, LocalDateTime now) {
+        Query query = new Query(Criteria.where("id").is(bookingId)
+                .and("seatReleasePending").is(true)
+                .and("updatedAt").is(expectedUpdatedAt));
+
+        return mongoTemplate.findAndModify(query, new Update().set("updatedAt", now),
+                FindAndModifyOptions.options().returnNew(true), Booking.class);
+    }
+
+    @Override
+    public Mono<Void> markSeatsReleased(String bookingId) {
+        Query query = new Query(Criteria.where("id").is(bookingId));
+
+        return mongoTemplate.updateFirst(query, new Update().unset("seatReleasePending"), Booking.class).then();
+    }
+
+    @Override
+    public Mono<Booking> beginCompensation(String bookingId, String reason) {
+        Query query = new Query(Criteria.where("id").is(bookingId)
+                .and("status").is(Constants.STATUS_PENDING)
+                .and("sagaState").in(Constants.SAGA_STARTED, Constants.SAGA_SEATS_HELD));
+
+        Update update = sagaStep(Constants.SAGA_COMPENSATING, reason)
+                .set("failureReason", reason);
+
+        return mongoTemplate.findAndModify(query, update, FindAndModifyOptions.options().returnNew(true), Booking.class);
+    }
+
+    @Override
+    public Flux<Booking> findStalledSagas(LocalDateTime updatedBefore, int limit) {
+        Query query = new Query(Criteria.where("status").is(Constants.STATUS_PENDING)
+                .and("updatedAt").lt(updatedBefore))
+                .with(Sort.by(Sort.Direction.ASC, "updatedAt"))
+                .limit(limit);
+
+        return mongoTemplate.find(query, Booking.class);
+    }
+
+    @Override
+    public Mono<Booking> claimStalledSaga(String bookingId, LocalDateTime expectedUpdatedAt, LocalDateTime now) {
+        Query query = new Query(Criteria.where("id").is(bookingId)
+                .and("status").is(Constants.STATUS_PENDING)
+                .and("updatedAt").is(expectedUpdatedAt));
+
+        Update update = new Update()
+                .set("updatedAt", now)
+                .inc("recoveryAttempts", 1);
+
+        return mongoTemplate.findAndModify(query, update, FindAndModifyOptions.options().returnNew(true), Booking.class);
+    }
+
+    @Override
+    public Mono<Booking> claimOutbox(LocalDateTime now, LocalDateTime leaseUntil) {
+        Query query = new Query(new Criteria().andOperator(
+                Criteria.where("outbox.0.occurredAt").exists(true),
+                new Criteria().orOperator(
+                        Criteria.where("outboxLockedUntil").is(null),
+                        Criteria.where("outboxLockedUntil").lt(now))))
+                .with(Sort.by(Sort.Direction.ASC, "outbox.0.occurredAt"));
+
+        return mongoTemplate.findAndModify(
+                query,
+                new Update().set("outboxLockedUntil", leaseUntil),
+                FindAndModifyOptions.options().returnNew(true),
+                Booking.class);
+    }
+
+    @Override
+    public Mono<Void> removeOutboxEvent(String bookingId, String eventId) {
+        Query query = new Query(Criteria.where("id").is(bookingId));
+        Update update = new Update().pull("outbox", Query.query(Criteria.where("eventId").is(eventId)));
+
+        return mongoTemplate.updateFirst(query, update, Booking.class).then();
+    }
+
+    @Override
+    public Mono<Void> releaseOutbox(String bookingId) {
+        Query query = new Query(Criteria.where("id").is(bookingId));
+
+        return mongoTemplate.updateFirst(query, new Update().unset("outboxLockedUntil"), Booking.class).then();
+    }
+
+    private Query pendingInState(String bookingId, String sagaState) {
+        return new Query(Criteria.where("id").is(bookingId)
+                .and("status").is(Constants.STATUS_PENDING)
+                .and("sagaState").is(sagaState));
+    }
+
+    private Update sagaStep(String toState, String detail) {
+        LocalDateTime now = DateTimeUtil.getCurrentTimestamp();
+        return new Update()
+                .set("sagaState", toState)
+                .set("updatedAt", now)
+                .push("sagaLog", SagaStep.builder()
+                        .state(toState)
+                        .at(now)
+                        .detail(detail)
+                        .build());
+    }
+
+    @Override
+    public Flux<Booking> findHistoryPage(String email, String status, LocalDateTime bookedFrom,
+                                         LocalDateTime bookedBefore, BookingPageToken after, int limit) {
+        List<Criteria> criteria = new ArrayList<>();
+        criteria.add(Criteria.where("contactEmail").is(email));
+        if (status != null) {
+            criteria.add(Criteria.where("status").is(status));
+        }
+        if (bookedFrom != null) {
+            criteria.add(Criteria.where("bookingDateTime").gte(bookedFrom));
+        }
+        if (bookedBefore != null) {
+            criteria.add(Criteria.where("bookingDateTime").lt(bookedBefore));
+        }
+        if (after != null) {
+            // Strictly after the previous page's last booking in (bookingDateTime desc, _id desc) order
+            criteria.add(new Criteria().orOperator(
+                    Criteria.where("bookingDateTime").lt(after.bookingDateTime()),
+                    Criteria.where("bookingDateTime").is(after.bookingDateTime()).and("id").lt(after.bookingId())
+            ));
+        }
+
+        Query query = new Query(new Criteria().andOperator(criteria))
+                .with(Sort.by(Sort.Direction.DESC, "bookingDateTime", "id"))
+                .limit(limit);
+
+        return mongoTemplate.find(query, Booking.class);
+    }
+}
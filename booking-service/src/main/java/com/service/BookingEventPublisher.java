@@ -0,0 +1,13 @@
+package com.service;
+
+import com.model.BookingEvent;
+import reactor.core.publisher.Mono;
+
+/**
+ * Delivers booking lifecycle events to the message broker. Delivery is at least once, so
+ * consumers must tolerate duplicates; eventId identifies an event across redeliveries.
+ */
+public interface BookingEventPublisher {
+
+    Mono<Void> publish(BookingEvent event);
+}
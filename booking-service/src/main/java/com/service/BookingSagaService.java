@@ -0,0 +1,16 @@
+package com.service;
+
+import com.model.Booking;
+import com.model.Passenger;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+public interface BookingSagaService {
+    Mono<Booking> start(Booking booking);
+    Mono<Booking> seatsHeld(Booking booking);
+    Mono<Booking> seatsAssigned(Booking booking, List<String> seatNumbers, List<Passenger> passengers);
+    Mono<Booking> complete(Booking booking);
+    Mono<Booking> compensate(Booking booking, String reason, boolean releaseSeats);
+    Mono<Long> recoverStalledSagas();
+}
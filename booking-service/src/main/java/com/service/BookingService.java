@@ -1,17 +1,20 @@
 package com.service;
 
+import com.dto.request.BookingHistoryQuery;
 import com.dto.request.BookingRequest;
+import com.dto.response.BookingPage;
 import com.dto.response.BookingResponse;
 import com.dto.response.CancellationResponse;
 import com.dto.response.TicketResponse;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface BookingService {
     Mono<BookingResponse> createBooking(BookingRequest request);
     Mono<TicketResponse> getBookingByPnr(String pnr);
-    Flux<BookingResponse> getBookingHistory(String email);
+    Mono<BookingResponse> getBookingSummary(String pnr);
+    Mono<BookingPage> getBookingHistory(String email, BookingHistoryQuery query);
     Mono<CancellationResponse> cancelBooking(String pnr);
+    Mono<Long> retryPendingSeatReleases();
 
-    Flux<BookingResponse> getMyBookings(String email);
+    Mono<BookingPage> getMyBookings(String email, BookingHistoryQuery query);
 }
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.service;
+
+import com.client.FlightDetailsDto;
+import com.client.SeatPriceTable;
+import reactor.core.publisher.Mono;
+
+/**
+ * Cached reads of flight details from the flight service
+ */
+public interface FlightLookupService {
+
+    /**
+     * Flight details recent enough for fares, seat availability and status, e.g. when booking
+     */
+    Mono<FlightDetailsDto> getFlight(String flightId);
+
+    /**
+     * Flight details for display, where schedule and airline data that rarely change suffice
+     */
+    Mono<FlightDetailsDto> getFlightSchedule(String flightId);
+
+    /**
+     * Per-seat extra charges for a flight, cached per flight since they rarely change
+     */
+    Mono<SeatPriceTable> getSeatPriceTable(String flightId);
+}
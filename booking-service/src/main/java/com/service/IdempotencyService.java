@@ -0,0 +1,17 @@
+package com.service;
+
+import com.dto.request.BookingRequest;
+import com.dto.response.BookingResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Supplier;
+
+public interface IdempotencyService {
+
+    /**
+     * Run the booking once per idempotency key. Retries with the same key and request replay the
+     * stored response; requests arriving while the first one runs wait for its outcome.
+     */
+    Mono<BookingResponse> execute(String idempotencyKey, BookingRequest request,
+                                  Supplier<Mono<BookingResponse>> booking);
+}
@@ -2,7 +2,10 @@ package com.service;
 
 import reactor.core.publisher.Mono;
 
+import java.util.function.Function;
+
 public interface PNRGeneratorService {
     Mono<String> generateUniquePNR();
+    <T> Mono<T> insertWithUniquePNR(Function<String, Mono<T>> insert);
     boolean validatePNR(String pnr);
-}
\ No newline at end of file
+}
@@ -0,0 +1,91 @@
+package com.service.impl;
+
+import com.model.Booking;
+import com.model.BookingEvent;
+import com.repository.BookingRepository;
+import com.service.BookingEventPublisher;
+import com.util.DateTimeUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Drains booking outboxes to the event publisher. Each booking is leased while its events go
+ * out one at a time, oldest first, and every event is removed only after it was published.
+ * Delivery is therefore at least once and in order per PNR. A failed publish stops that
+ * booking's outbox until the lease runs out, then it is retried.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BookingEventRelay {
+
+    private final BookingRepository bookingRepository;
+    private final BookingEventPublisher eventPublisher;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Value("${app.events.relay.batch-size:100}")
+    private int batchSize;
+
+    @Value("${app.events.relay.lease-seconds:30}")
+    private long leaseSeconds;
+
+    @Scheduled(fixedDelayString = "${app.events.relay.interval-ms:1000}")
+    public void relayEvents() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+
+        drainOutboxes()
+                .doFinally(signal -> running.set(false))
+                .subscribe(
+                        published -> { },
+                        error -> log.error("Booking event relay failed: {}", error.getMessage())
+                );
+    }
+
+    /**
+     * Publish the outboxes of up to batchSize bookings
+     * @return number of events published
+     */
+    public Mono<Long> drainOutboxes() {
+        AtomicInteger claimed = new AtomicInteger();
+
+        return claimNext()
+                .expand(booking -> claimed.incrementAndGet() < batchSize ? claimNext() : Mono.empty())
+                .concatMap(this::publishOutbox)
+                .reduce(0L, Long::sum);
+    }
+
+    private Mono<Booking> claimNext() {
+        LocalDateTime now = DateTimeUtil.getCurrentTimestamp();
+        return bookingRepository.claimOutbox(now, now.plusSeconds(leaseSeconds));
+    }
+
+    private Mono<Long> publishOutbox(Booking booking) {
+        return Flux.fromIterable(booking.getOutbox())
+                .concatMap(event -> publish(booking, event))
+                .count()
+                .flatMap(published -> bookingRepository.releaseOutbox(booking.getId()).thenReturn(published))
+                .onErrorResume(error -> {
+                    // The lease is kept, so this outbox is retried once it expires
+                    log.warn("Could not publish events for PNR {}: {}", booking.getPnr(), error.getMessage());
+                    return Mono.just(0L);
+                });
+    }
+
+    private Mono<BookingEvent> publish(Booking booking, BookingEvent event) {
+        return eventPublisher.publish(event)
+                .then(bookingRepository.removeOutboxEvent(booking.getId(), event.getEventId()))
+                .thenReturn(event);
+    }
+}
@@ -0,0 +1,37 @@
+package com.service.impl;
+
+import com.service.BookingSagaService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Periodically completes or compensates booking sagas left PENDING by a crash or an outage
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BookingSagaRecoveryWorker {
+
+    private final BookingSagaService bookingSagaService;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Scheduled(fixedDelayString = "${app.booking.saga.recovery-interval-ms:30000}",
+            initialDelayString = "${app.booking.saga.recovery-interval-ms:30000}")
+    public void recoverStalledSagas() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+
+        bookingSagaService.recoverStalledSagas()
+                .doFinally(signal -> running.set(false))
+                .subscribe(
+                        recovered -> { },
+                        error -> log.error("Booking saga recovery failed: {}", error.getMessage())
+                );
+    }
+}
@@ -0,0 +1,170 @@
+package com.service.impl;
+
+import com.client.FlightServiceClient;
+import com.model.Booking;
+import com.model.BookingEvent;
+import com.model.Passenger;
+import com.model.SagaStep;
+import com.repository.BookingRepository;
+import com.service.BookingSagaService;
+import com.service.PNRGeneratorService;
+import com.util.Constants;
+import com.util.DateTimeUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Booking saga: STARTED (booking stored as PENDING) -> SEATS_HELD (seats reserved in flight
+ * service) -> CONFIRMED (reservation confirmed, booking CONFIRMED). A failure before the
+ * seats are confirmed compensates: COMPENSATING -> release the reservation -> COMPENSATED
+ * (booking FAILED). Each step is a conditional update on the booking that also appends to its
+ * saga log. A saga interrupted by a crash is completed or compensated by the recovery worker.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BookingSagaServiceImpl implements BookingSagaService {
+
+    private final BookingRepository bookingRepository;
+    private final FlightServiceClient flightServiceClient;
+    private final PNRGeneratorService pnrGeneratorService;
+
+    @Value("${app.booking.saga.stall-timeout-seconds:120}")
+    private long stallTimeoutSeconds;
+
+    @Value("${app.booking.saga.max-recovery-attempts:5}")
+    private int maxRecoveryAttempts;
+
+    @Value("${app.booking.saga.recovery-batch-size:100}")
+    private int recoveryBatchSize;
+
+    /**
+     * Store the booking as PENDING under a fresh PNR before any seat is touched
+     */
+    @Override
+    public Mono<Booking> start(Booking booking) {
+        LocalDateTime now = DateTimeUtil.getCurrentTimestamp();
+        booking.setStatus(Constants.STATUS_PENDING);
+        booking.setSagaState(Constants.SAGA_STARTED);
+        booking.setRecoveryAttempts(0);
+        booking.setUpdatedAt(now);
+        booking.setSagaLog(new ArrayList<>(List.of(SagaStep.builder()
+                .state(Constants.SAGA_STARTED)
+                .at(now)
+                .detail("Booking received")
+                .build())));
+
+        return pnrGeneratorService.insertWithUniquePNR(pnr -> {
+            booking.setPnr(pnr);
+            return bookingRepository.save(booking);
+        });
+    }
+
+    @Override
+    public Mono<Booking> seatsHeld(Booking booking) {
+        return advance(booking, Constants.SAGA_STARTED, Constants.SAGA_SEATS_HELD, Constants.STATUS_PENDING,
+                "Seats " + booking.getSeatNumbers() + " reserved", null);
+    }
+
+    @Override
+    public Mono<Booking> seatsAssigned(Booking booking, List<String> seatNumbers, List<Passenger> passengers) {
+        return bookingRepository.recordAssignedSeats(booking.getId(), seatNumbers, passengers)
+                .switchIfEmpty(Mono.error(() -> new IllegalStateException(
+                        "Booking " + booking.getPnr() + " is no longer awaiting seats")));
+    }
+
+    /**
+     * Confirm the held seats and the booking. If flight service can't confirm right now the
+     * booking stays PENDING with its seats held, and recovery retries the confirmation.
+     */
+    @Override
+    public Mono<Booking> complete(Booking booking) {
+        return flightServiceClient.confirmReservation(booking.getFlightId(), booking.getReservationId())
+                .then(Mono.defer(() -> advance(booking, Constants.SAGA_SEATS_HELD, Constants.SAGA_CONFIRMED,
+                        Constants.STATUS_CONFIRMED, "Reservation confirmed",
+                        BookingEvent.of(Constants.EVENT_BOOKING_CREATED, booking, Constants.STATUS_CONFIRMED, null,
+                                DateTimeUtil.getCurrentTimestamp()))))
+                .doOnNext(confirmed -> log.info("Booking {} confirmed", confirmed.getPnr()))
+                .onErrorResume(error -> {
+                    log.warn("Could not confirm reservation {} for booking {}, will retry: {}",
+                            booking.getReservationId(), booking.getPnr(), error.getMessage());
+                    return Mono.just(booking);
+                });
+    }
+
+    /**
+     * Undo a saga that can't complete. The reservation is released by id even when the reserve
+     * call seemed to fail, in case it succeeded but its response was lost.
+     */
+    @Override
+    public Mono<Booking> compensate(Booking booking, String reason, boolean releaseSeats) {
+        Mono<Booking> compensating = Constants.SAGA_COMPENSATING.equals(booking.getSagaState())
+                ? Mono.just(booking)
+                : bookingRepository.beginCompensation(booking.getId(), reason);
+
+        return compensating
+                .flatMap(pending -> (releaseSeats
+                        ? flightServiceClient.releaseReservation(pending.getFlightId(), pending.getReservationId()).then()
+                        : Mono.<Void>empty())
+                        .then(Mono.defer(() -> advance(pending, Constants.SAGA_COMPENSATING, Constants.SAGA_COMPENSATED,
+                                Constants.STATUS_FAILED, releaseSeats ? "Reservation released" : "Nothing to release",
+                                BookingEvent.of(Constants.EVENT_BOOKING_FAILED, pending, Constants.STATUS_FAILED,
+                                        pending.getFailureReason(), DateTimeUtil.getCurrentTimestamp())))))
+                .doOnNext(failed -> log.info("Booking {} failed and was compensated: {}", failed.getPnr(), reason))
+                .onErrorResume(error -> {
+                    log.error("Could not compensate booking {}, will retry: {}", booking.getPnr(), error.getMessage());
+                    return Mono.just(booking);
+                });
+    }
+
+    /**
+     * Finish or undo sagas that stopped moving, e.g. because the instance running them crashed
+     */
+    @Override
+    public Mono<Long> recoverStalledSagas() {
+        LocalDateTime now = DateTimeUtil.getCurrentTimestamp();
+
+        return bookingRepository.findStalledSagas(now.minusSeconds(stallTimeoutSeconds), recoveryBatchSize)
+                .concatMap(stalled -> bookingRepository.claimStalledSaga(stalled.getId(), stalled.getUpdatedAt(), now))
+                .concatMap(this::recover)
+                .count()
+                .doOnNext(recovered -> {
+                    if (recovered > 0) {
+                        log.info("Recovered {} stalled booking sagas", recovered);
+                    }
+                });
+    }
+
+    private Mono<Booking> recover(Booking booking) {
+        log.warn("Recovering booking {} stalled in saga state {} (attempt {})",
+                booking.getPnr(), booking.getSagaState(), booking.getRecoveryAttempts());
+
+        boolean givingUp = booking.getRecoveryAttempts() != null && booking.getRecoveryAttempts() > maxRecoveryAttempts;
+
+        return switch (booking.getSagaState()) {
+            // Whether the seats were reserved is unknown, so release by reservation id
+            case Constants.SAGA_STARTED -> compensate(booking, "Interrupted before seats were held", true);
+            case Constants.SAGA_SEATS_HELD -> givingUp
+                    ? compensate(booking, "Reservation could not be confirmed", true)
+                    : complete(booking);
+            case Constants.SAGA_COMPENSATING -> compensate(booking, booking.getFailureReason(), true);
+            default -> Mono.just(booking);
+        };
+    }
+
+    private Mono<Booking> advance(Booking booking, String fromState, String toState, String status, String detail,
+                                  BookingEvent event) {
+        return bookingRepository.advanceSaga(booking.getId(), fromState, toState, status, detail, event)
+                .switchIfEmpty(Mono.defer(() -> {
+                    log.warn("Booking {} left saga state {} before it could move to {}", booking.getPnr(), fromState, toState);
+                    return bookingRepository.findById(booking.getId());
+                }));
+    }
+}
@@ -1,29 +1,46 @@
 package com.service.impl;
 
+import com.client.CompactSeatMap;
 import com.client.FlightDetailsDto;
 import com.client.FlightServiceClient;
+import com.client.PriceQuote;
+import com.client.QuoteTokenVerifier;
+import com.client.SeatAssignmentRequest;
+import com.client.SeatReservationRequest;
+import com.dto.request.BookingHistoryQuery;
 import com.dto.request.BookingRequest;
 import com.dto.response.*;
 import com.exception.BookingNotFoundException;
+import com.exception.InvalidCancellationException;
+import com.exception.InvalidRequestException;
 import com.exception.ServiceUnavailableException;
 import com.model.Booking;
+import com.model.BookingEvent;
 import com.model.Passenger;
 import com.repository.BookingRepository;
 import com.service.BookingService;
+import com.service.FlightLookupService;
+import com.service.BookingSagaService;
+import com.util.BookingPageToken;
 import com.util.Constants;
 import com.util.DateTimeUtil;
-import com.util.PNRGenerator;
 import com.validator.BookingValidator;
 import com.validator.CancellationValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
@@ -32,49 +49,45 @@ import java.util.stream.Collectors;
 public class BookingServiceImpl implements BookingService {
 
     private final BookingRepository bookingRepository;
+    private final BookingSagaService bookingSagaService;
     private final FlightServiceClient flightServiceClient;
+    private final FlightLookupService flightLookupService;
+    private final QuoteTokenVerifier quoteTokenVerifier;
     private final BookingValidator bookingValidator;
     private final CancellationValidator cancellationValidator;
 
+    @Value("${app.booking.history.default-page-size:20}")
+    private int defaultHistoryPageSize;
+
+    @Value("${app.booking.history.max-page-size:100}")
+    private int maxHistoryPageSize;
+
+    // Release calls per attempt, including the first
+    @Value("${app.booking.seat-release.attempts:3}")
+    private int seatReleaseAttempts;
+
+    // How long a failed release waits before the recovery worker retries it
+    @Value("${app.booking.seat-release.retry-after-seconds:60}")
+    private long seatReleaseRetryAfterSeconds;
+
+    @Value("${app.booking.seat-release.batch-size:100}")
+    private int seatReleaseBatchSize;
+
     @Override
     public Mono<BookingResponse> createBooking(BookingRequest request) {
         log.info("Creating booking for flight: {}", request.getFlightId());
 
-        return flightServiceClient.getFlightById(request.getFlightId())
-                .map(ApiResponse::getData)
-                .flatMap(flightDto -> {
-                    // Convert DTO to temporary Flight object for validation
-                    var tempFlight = convertToFlightForValidation(flightDto);
-
-                    // Validate booking request
-                    bookingValidator.validateBookingRequest(request, tempFlight);
-
-                    // Create booking
-                    Booking booking = buildBooking(request, flightDto);
-
-                    // Save booking first
-                    return bookingRepository.save(booking)
-                            .flatMap(savedBooking ->
-                                    // Then reserve seats in flight service
-                                    flightServiceClient.reserveSeats(
-                                                    request.getFlightId(),
-                                                    request.getSeatNumbers()
-                                            )
-                                            .doOnSuccess(v -> {
-                                                log.info("Seats reserved successfully for booking: {}",
-                                                        savedBooking.getPnr());
-                                            })
-                                            .publishOn(Schedulers.boundedElastic())
-                                            .doOnError(error -> {
-                                                log.error("Failed to reserve seats, rolling back booking: {}",
-                                                        savedBooking.getPnr());
-                                                // Rollback: delete the booking
-                                                bookingRepository.deleteById(savedBooking.getId()).subscribe();
-                                            })
-                                            .thenReturn(savedBooking)
-                            )
-                            .map(savedBooking -> convertToBookingResponse(savedBooking));
-                })
+        // A valid quote already carries the flight details and the price, saving a flight service call
+        PriceQuote quote = resolveQuote(request);
+        Mono<FlightDetailsDto> flight = quote != null
+                ? Mono.just(convertQuoteToFlightDetails(quote))
+                : flightLookupService.getFlight(request.getFlightId());
+
+        return flight
+                .flatMap(flightDto -> isSeatAssignmentRequested(request)
+                        ? createBookingWithAssignedSeats(request, flightDto, quote)
+                        : createBookingWithSelectedSeats(request, flightDto, quote))
+                .map(savedBooking -> convertToBookingResponse(savedBooking))
                 .onErrorResume(ServiceUnavailableException.class, ex -> {
                     log.error("Circuit breaker activated: {}", ex.getMessage());
                     return Mono.error(ex);
@@ -85,6 +98,197 @@ public class BookingServiceImpl implements BookingService {
                         log.error("Error creating booking: {}", error.getMessage()));
     }
 
+    /**
+     * Book the seats chosen by the customer
+     */
+    private Mono<Booking> createBookingWithSelectedSeats(BookingRequest request, FlightDetailsDto flightDto,
+                                                         PriceQuote quote) {
+        // A verified quote already priced and checked these seats, so no seat map is needed
+        if (quote != null) {
+            bookingValidator.validateBookingRequest(request, convertToFlightForValidation(flightDto), null);
+
+            Booking booking = buildBooking(request, flightDto, List.of(), 0.0, quote);
+            booking.setReservationId(UUID.randomUUID().toString());
+            return reserveSelectedSeats(request, booking);
+        }
+
+        return Mono.zip(flightServiceClient.getCompactSeatMap(request.getFlightId()).map(ApiResponse::getData),
+                        flightLookupService.getSeatPriceTable(request.getFlightId()))
+                .flatMap(tuple -> {
+                    CompactSeatMap seatMap = tuple.getT1();
+
+                    // Convert DTO to temporary Flight object for validation
+                    var tempFlight = convertToFlightForValidation(flightDto);
+
+                    // Validate booking request
+                    bookingValidator.validateBookingRequest(request, tempFlight, seatMap);
+
+                    // Create booking, priced by the cabin and charge of each chosen seat
+                    List<String> seatCabins = request.getSeatNumbers().stream()
+                            .map(seatMap::cabinOf)
+                            .toList();
+                    double seatCharges = tuple.getT2().chargeOf(request.getSeatNumbers());
+                    Booking booking = buildBooking(request, flightDto, seatCabins, seatCharges, quote);
+                    booking.setReservationId(UUID.randomUUID().toString());
+
+                    return reserveSelectedSeats(request, booking);
+                });
+    }
+
+    /**
+     * Saga for chosen seats: store PENDING, reserve the seats, then confirm
+     */
+    private Mono<Booking> reserveSelectedSeats(BookingRequest request, Booking booking) {
+        SeatReservationRequest reservationRequest = SeatReservationRequest.builder()
+                .reservationId(booking.getReservationId())
+                .seatNumbers(request.getSeatNumbers())
+                .build();
+
+        return bookingSagaService.start(booking)
+                .flatMap(pendingBooking ->
+                        // The reservation id makes retries and compensation safe
+                        flightServiceClient.createReservation(request.getFlightId(), reservationRequest)
+                                .doOnSuccess(v -> log.info("Seats reserved successfully for booking: {}",
+                                        pendingBooking.getPnr()))
+                                .then(bookingSagaService.seatsHeld(pendingBooking))
+                                .onErrorResume(error -> {
+                                    log.error("Failed to reserve seats for booking {}, compensating",
+                                            pendingBooking.getPnr());
+                                    return bookingSagaService.compensate(pendingBooking, error.getMessage(), true)
+                                            .then(Mono.error(error));
+                                }))
+                .flatMap(bookingSagaService::complete);
+    }
+
+    /**
+     * Saga for assigned seats: store PENDING, let the flight service pick and reserve the best
+     * available seats, record them, then confirm
+     */
+    private Mono<Booking> createBookingWithAssignedSeats(BookingRequest request, FlightDetailsDto flightDto,
+                                                         PriceQuote quote) {
+        bookingValidator.validateSeatAssignmentRequest(request, convertToFlightForValidation(flightDto));
+
+        // Assigning against an existing hold returns the seats it already holds
+        String reservationId = request.getReservationId() != null
+                ? request.getReservationId()
+                : UUID.randomUUID().toString();
+        String cabinClass = request.getCabinClass() != null
+                ? request.getCabinClass().toUpperCase()
+                : Constants.SEAT_ECONOMY;
+        SeatAssignmentRequest assignmentRequest = SeatAssignmentRequest.builder()
+                .passengers(request.getPassengers().size())
+                .cabinClass(cabinClass)
+                .seatPreference(request.getSeatPreference())
+                .keepTogether(request.getKeepTogether())
+                .reservationId(reservationId)
+                .build();
+
+        // Assigned seats carry no seat charge, the same rule the quote for them applies
+        List<String> seatCabins = Collections.nCopies(request.getPassengers().size(), cabinClass);
+        Booking booking = buildBooking(request, flightDto, seatCabins, 0.0, quote);
+        booking.setReservationId(reservationId);
+
+        return bookingSagaService.start(booking)
+                .flatMap(pendingBooking -> flightServiceClient.assignSeats(request.getFlightId(), assignmentRequest)
+                        .map(ApiResponse::getData)
+                        .flatMap(assignment -> {
+                            List<String> seatNumbers = assignment.getSeatNumbers();
+                            log.info("Seats {} assigned for flight: {}", seatNumbers, request.getFlightId());
+
+                            if (seatNumbers.size() != request.getPassengers().size()) {
+                                return Mono.error(new InvalidRequestException(String.format(
+                                        "Reservation %s holds %d seats, but %d passengers were given",
+                                        reservationId, seatNumbers.size(), request.getPassengers().size())));
+                            }
+
+                            applyAssignedSeats(request, seatNumbers);
+                            List<Passenger> passengers = pendingBooking.getPassengers();
+                            for (int i = 0; i < passengers.size(); i++) {
+                                passengers.get(i).setSeatNumber(seatNumbers.get(i));
+                            }
+                            return bookingSagaService.seatsAssigned(pendingBooking, seatNumbers, passengers);
+                        })
+                        .onErrorResume(error -> {
+                            // A caller's own hold is kept when it simply doesn't fit the passenger list
+                            boolean releaseSeats = !(error instanceof InvalidRequestException
+                                    && request.getReservationId() != null);
+                            log.error("Failed to assign seats for booking {}, compensating", pendingBooking.getPnr());
+                            return bookingSagaService.compensate(pendingBooking, error.getMessage(), releaseSeats)
+                                    .then(Mono.error(error));
+                        }))
+                .flatMap(bookingSagaService::complete);
+    }
+
+    /**
+     * Release a booking's seats, by reservation id when the booking has one
+     */
+    private Mono<?> releaseBookingSeats(Booking booking) {
+        if (booking.getReservationId() != null) {
+            return flightServiceClient.releaseReservation(booking.getFlightId(), booking.getReservationId());
+        }
+        return flightServiceClient.releaseSeats(booking.getFlightId(), booking.getSeatNumbers());
+    }
+
+    /**
+     * The request's quote if it is genuine, unexpired and covers exactly what is being booked;
+     * otherwise null, and the booking is priced from a fresh flight lookup
+     */
+    PriceQuote resolveQuote(BookingRequest request) {
+        if (request.getQuoteToken() == null) {
+            return null;
+        }
+
+        PriceQuote quote = quoteTokenVerifier.verify(request.getQuoteToken()).orElse(null);
+        if (quote == null || !quoteMatches(quote, request)) {
+            log.info("Quote not usable for flight {}, pricing from flight service", request.getFlightId());
+            return null;
+        }
+        return quote;
+    }
+
+    private boolean quoteMatches(PriceQuote quote, BookingRequest request) {
+        if (!request.getFlightId().equals(quote.getFlightId())
+                || quote.getLines() == null
+                || quote.getLines().size() != request.getPassengers().size()) {
+            return false;
+        }
+
+        if (isSeatAssignmentRequested(request)) {
+            String cabin = request.getCabinClass() != null
+                    ? request.getCabinClass().toUpperCase()
+                    : Constants.SEAT_ECONOMY;
+            return cabin.equals(quote.getCabinClass());
+        }
+
+        Set<String> quotedSeats = quote.getLines().stream()
+                .map(PriceQuote.Line::getSeatNumber)
+                .collect(Collectors.toSet());
+        return quotedSeats.equals(new HashSet<>(request.getSeatNumbers()));
+    }
+
+    private boolean isSeatAssignmentRequested(BookingRequest request) {
+        return request.getReservationId() != null
+                || request.getSeatNumbers() == null
+                || request.getSeatNumbers().isEmpty();
+    }
+
+    /**
+     * Copy assigned seats onto the request, one per passenger in order
+     */
+    private void applyAssignedSeats(BookingRequest request, List<String> seatNumbers) {
+        request.setSeatNumbers(seatNumbers);
+        for (int i = 0; i < request.getPassengers().size(); i++) {
+            request.getPassengers().get(i).setSeatNumber(seatNumbers.get(i));
+        }
+    }
+
+    @Override
+    public Mono<BookingResponse> getBookingSummary(String pnr) {
+        return bookingRepository.findByPnr(pnr.toUpperCase())
+                .switchIfEmpty(Mono.error(new BookingNotFoundException(pnr)))
+                .map(this::convertToBookingResponse);
+    }
+
     @Override
     public Mono<TicketResponse> getBookingByPnr(String pnr) {
         log.info("Fetching booking with PNR: {}", pnr);
@@ -92,8 +296,7 @@ public class BookingServiceImpl implements BookingService {
         return bookingRepository.findByPnr(pnr.toUpperCase())
                 .switchIfEmpty(Mono.error(new BookingNotFoundException(pnr)))
                 .flatMap(booking ->
-                        flightServiceClient.getFlightById(booking.getFlightId())
-                                .map(ApiResponse::getData)
+                        flightLookupService.getFlightSchedule(booking.getFlightId())
                                 .map(flightDto -> convertToTicketResponse(booking, flightDto))
                                 .onErrorResume(ServiceUnavailableException.class, ex -> {
                                     // If flight service is down, still return booking info
@@ -104,21 +307,9 @@ public class BookingServiceImpl implements BookingService {
     }
 
     @Override
-    public Flux<BookingResponse> getBookingHistory(String email) {
+    public Mono<BookingPage> getBookingHistory(String email, BookingHistoryQuery query) {
         log.info("Fetching booking history for email: {}", email);
-
-        return bookingRepository.findByContactEmailOrderByBookingDateTimeDesc(email.toLowerCase())
-                .flatMap(booking ->
-                        flightServiceClient.getFlightById(booking.getFlightId())
-                                .map(apiResponse -> apiResponse.getData())
-                                .map(flightDto -> convertToBookingResponse(booking))
-                                .onErrorResume(error -> {
-                                    log.warn("Could not fetch flight details for booking {}, using cached data",
-                                            booking.getPnr());
-                                    return Mono.just(convertToBookingResponseWithoutFlightDetails(booking));
-                                })
-                )
-                .switchIfEmpty(Flux.empty());
+        return findHistoryPage(email, query);
     }
 
     @Override
@@ -134,22 +325,20 @@ public class BookingServiceImpl implements BookingService {
                     // Calculate refund
                     double refundAmount = cancellationValidator.calculateRefundAmount(booking);
 
-                    // Update booking status
-                    booking.setStatus(Constants.STATUS_CANCELLED);
-                    booking.setCancellationDateTime(DateTimeUtil.getCurrentTimestamp());
-                    booking.setCancellationReason("Cancelled by user");
-                    booking.setRefundAmount(refundAmount);
-
-                    // Release seats in flight service
-                    return flightServiceClient.releaseSeats(
-                                    booking.getFlightId(),
-                                    booking.getSeatNumbers()
-                            )
-                            .doOnSuccess(v ->
-                                    log.info("Seats released successfully for PNR: {}", pnr))
-                            .doOnError(error ->
-                                    log.error("Failed to release seats for PNR: {}", pnr))
-                            .then(bookingRepository.save(booking))
+                    // Queued in the same write as the cancellation
+                    LocalDateTime cancelledAt = DateTimeUtil.getCurrentTimestamp();
+                    String reason = "Cancelled by user";
+                    BookingEvent event = BookingEvent.of(Constants.EVENT_BOOKING_CANCELLED, booking,
+                            Constants.STATUS_CANCELLED, reason, cancelledAt);
+
+                    // Only a CONFIRMED booking is cancelled, without rewriting fields other writers
+                    // (the saga, the outbox relay) may be changing. Seats are released only once the
+                    // cancellation is stored, so they can't be sold twice.
+                    return bookingRepository.cancelConfirmed(booking.getId(), cancelledAt, reason, refundAmount, event)
+                            .switchIfEmpty(Mono.error(() -> new InvalidCancellationException(
+                                    "Booking " + booking.getPnr() + " is not confirmed and cannot be cancelled")))
+                            .flatMap(cancelledBooking -> releaseCancelledSeats(cancelledBooking)
+                                    .thenReturn(cancelledBooking))
                             .map(cancelledBooking -> buildCancellationResponse(cancelledBooking, refundAmount));
                 })
                 .doOnError(error ->
@@ -157,11 +346,44 @@ public class BookingServiceImpl implements BookingService {
     }
 
     /**
-     * Build Booking entity from request
+     * Release the seats of cancellations whose release failed, e.g. while flight service was down
+     * @return the number of bookings whose seats were released
+     */
+    @Override
+    public Mono<Long> retryPendingSeatReleases() {
+        LocalDateTime now = DateTimeUtil.getCurrentTimestamp();
+
+        return bookingRepository.findPendingSeatReleases(now.minusSeconds(seatReleaseRetryAfterSeconds),
+                        seatReleaseBatchSize)
+                .concatMap(pending -> bookingRepository.claimSeatRelease(pending.getId(), pending.getUpdatedAt(), now))
+                .concatMap(this::releaseCancelledSeats)
+                .filter(Boolean::booleanValue)
+                .count();
+    }
+
+    /**
+     * Release a cancelled booking's seats, retrying briefly. A release that still fails stays
+     * pending on the booking for retryPendingSeatReleases.
+     * @return whether the seats were released
      */
-    private Booking buildBooking(BookingRequest request, FlightDetailsDto flightDto) {
-        String pnr = generateUniquePNR();
+    private Mono<Boolean> releaseCancelledSeats(Booking booking) {
+        return releaseBookingSeats(booking)
+                .retryWhen(Retry.backoff(seatReleaseAttempts - 1, Duration.ofMillis(200)))
+                .then(bookingRepository.markSeatsReleased(booking.getId()))
+                .thenReturn(true)
+                .doOnSuccess(released -> log.info("Seats released successfully for PNR: {}", booking.getPnr()))
+                .onErrorResume(error -> {
+                    log.warn("Failed to release seats for PNR: {}, will retry: {}", booking.getPnr(),
+                            error.getMessage());
+                    return Mono.just(false);
+                });
+    }
 
+    /**
+     * Build Booking entity from request
+     */
+    private Booking buildBooking(BookingRequest request, FlightDetailsDto flightDto, List<String> seatCabins,
+                                 double seatCharges, PriceQuote quote) {
         List<Passenger> passengers = request.getPassengers().stream()
                 .map(passengerDto -> Passenger.builder()
                         .name(passengerDto.getName())
@@ -172,10 +394,18 @@ public class BookingServiceImpl implements BookingService {
                         .build())
                 .collect(Collectors.toList());
 
-        double totalFare = calculateTotalFare(flightDto, request.getSeatNumbers());
+        // Cabin fares and seat charges are stored apart so the ticket can show how the total is made up
+        double baseFare = quote != null
+                ? quote.getLines().stream().mapToDouble(PriceQuote.Line::getFare).sum()
+                : calculateBaseFare(flightDto, seatCabins);
+        double totalSeatCharges = quote != null
+                ? quote.getLines().stream().mapToDouble(PriceQuote.Line::getSeatCharge).sum()
+                : seatCharges;
+        double totalFare = quote != null
+                ? quote.getTotalFare()
+                : baseFare + totalSeatCharges;
 
         return Booking.builder()
-                .pnr(pnr)
                 .flightId(flightDto.getId())
                 .flightNumber(flightDto.getFlightNumber())
                 .route(flightDto.getOrigin() + "-" + flightDto.getDestination())
@@ -183,37 +413,49 @@ public class BookingServiceImpl implements BookingService {
                 .contactName(request.getContactName())
                 .passengers(passengers)
                 .seatNumbers(request.getSeatNumbers())
+                .baseFare(baseFare)
+                .seatCharges(totalSeatCharges)
                 .totalFare(totalFare)
                 .currency(flightDto.getCurrency())
-                .status(Constants.STATUS_CONFIRMED)
+                .status(Constants.STATUS_PENDING)
                 .journeyDate(flightDto.getDepartureDateTime())
                 .bookingDateTime(DateTimeUtil.getCurrentTimestamp())
                 .build();
     }
 
     /**
-     * Generate unique PNR
+     * Calculate the fare of the seats from the flight service's current cabin fares, the same prices
+     * search shows
      */
-    private String generateUniquePNR() {
-        String pnr;
-        do {
-            pnr = PNRGenerator.generatePNR();
-        } while (Boolean.TRUE.equals(bookingRepository.existsByPnr(pnr).block()));
-
-        return pnr;
+    private double calculateBaseFare(FlightDetailsDto flight, List<String> seatCabins) {
+        return seatCabins.stream()
+                .mapToDouble(cabin -> cabinFare(flight, cabin))
+                .sum();
     }
 
     /**
-     * Calculate total fare (simplified - without accessing seat details)
+     * Fare for one seat in a cabin, falling back to the economy fare and then the base fare
      */
-    private double calculateTotalFare(FlightDetailsDto flight, List<String> seatNumbers) {
-        // Base fare calculation
-        double baseFare = flight.getBaseFare() * seatNumbers.size();
-
-        // Simplified seat charges estimation
-        double estimatedSeatCharges = 200 * seatNumbers.size(); // Average charge
+    private double cabinFare(FlightDetailsDto flight, String cabin) {
+        if (flight.getCabinFares() != null && cabin != null && flight.getCabinFares().containsKey(cabin)) {
+            return flight.getCabinFares().get(cabin);
+        }
+        return flight.getCurrentFare() != null ? flight.getCurrentFare() : flight.getBaseFare();
+    }
 
-        return baseFare + estimatedSeatCharges;
+    /**
+     * Flight details as captured in a quote
+     */
+    private FlightDetailsDto convertQuoteToFlightDetails(PriceQuote quote) {
+        return FlightDetailsDto.builder()
+                .id(quote.getFlightId())
+                .flightNumber(quote.getFlightNumber())
+                .origin(quote.getOrigin())
+                .destination(quote.getDestination())
+                .departureDateTime(quote.getDepartureDateTime())
+                .availableSeats(quote.getAvailableSeats())
+                .currency(quote.getCurrency())
+                .build();
     }
 
     /**
@@ -225,7 +467,7 @@ public class BookingServiceImpl implements BookingService {
                 .flightNumber(dto.getFlightNumber())
                 .availableSeats(dto.getAvailableSeats())
                 .baseFare(dto.getBaseFare())
-                .seats(List.of()) // Empty list, validator will check availability count
+                .seats(List.of()) // Seat availability is checked against the compact seat map
                 .build();
     }
 
@@ -260,39 +502,21 @@ public class BookingServiceImpl implements BookingService {
                 .currency(booking.getCurrency())
                 .journeyDate(booking.getJourneyDate())
                 .bookingDateTime(booking.getBookingDateTime())
-                .message("Booking confirmed successfully")
+                .message(bookingMessage(booking.getStatus()))
                 .build();
     }
 
-    private BookingResponse convertToBookingResponseWithoutFlightDetails(Booking booking) {
-        List<PassengerInfo> passengerInfos = new ArrayList<>();
-        for (Passenger p : booking.getPassengers()) {
-            PassengerInfo build = PassengerInfo.builder()
-                    .name(p.getName())
-                    .gender(p.getGender())
-                    .age(p.getAge())
-                    .seatNumber(p.getSeatNumber())
-                    .mealPreference(p.getMealPreference())
-                    .build();
-            passengerInfos.add(build);
-        }
-
-        return BookingResponse.builder()
-                .bookingId(booking.getId())
-                .pnr(booking.getPnr())
-                .status(booking.getStatus())
-                .flightNumber(booking.getFlightNumber())
-                .route(booking.getRoute())
-                .contactName(booking.getContactName())
-                .contactEmail(booking.getContactEmail())
-                .passengers(passengerInfos)
-                .seatNumbers(booking.getSeatNumbers())
-                .totalFare(booking.getTotalFare())
-                .currency(booking.getCurrency())
-                .journeyDate(booking.getJourneyDate())
-                .bookingDateTime(booking.getBookingDateTime())
-                .message("Booking details (flight service temporarily unavailable)")
-                .build();
+    /**
+     * Message for a booking response; a booking still PENDING has its seats held but not yet confirmed
+     */
+    private String bookingMessage(String status) {
+        return switch (status) {
+            case Constants.STATUS_CONFIRMED -> "Booking confirmed successfully";
+            case Constants.STATUS_PENDING -> "Booking received, seats are held and awaiting confirmation";
+            case Constants.STATUS_FAILED -> "Booking failed";
+            case Constants.STATUS_CANCELLED -> "Booking cancelled";
+            default -> "Booking " + status.toLowerCase();
+        };
     }
 
     /**
@@ -333,14 +557,7 @@ public class BookingServiceImpl implements BookingService {
             passengers.add(build);
         }
 
-        FareBreakdown fareBreakdown = FareBreakdown.builder()
-                .baseFare(flight.getBaseFare() * booking.getPassengers().size())
-                .taxes(0.0)
-                .seatCharges(booking.getTotalFare() - (flight.getBaseFare() * booking.getPassengers().size()))
-                .mealCharges(0.0)
-                .totalFare(booking.getTotalFare())
-                .currency(booking.getCurrency())
-                .build();
+        FareBreakdown fareBreakdown = FareBreakdown.of(booking);
 
         return TicketResponse.builder()
                 .pnr(booking.getPnr())
@@ -374,10 +591,7 @@ public class BookingServiceImpl implements BookingService {
             passengers.add(build);
         }
 
-        FareBreakdown fareBreakdown = FareBreakdown.builder()
-                .totalFare(booking.getTotalFare())
-                .currency(booking.getCurrency())
-                .build();
+        FareBreakdown fareBreakdown = FareBreakdown.of(booking);
 
         return TicketResponse.builder()
                 .pnr(booking.getPnr())
@@ -405,13 +619,52 @@ public class BookingServiceImpl implements BookingService {
     }
 
     @Override
-    public Flux<BookingResponse> getMyBookings(String email) {
+    public Mono<BookingPage> getMyBookings(String email, BookingHistoryQuery query) {
         log.info("Fetching bookings for authenticated user: {}", email);
+        return findHistoryPage(email, query);
+    }
+
+    /**
+     * Read one page of history by keyset from the email/bookingDateTime index. One extra booking
+     * is fetched to tell whether another page follows. Bookings carry a snapshot of their flight,
+     * so no flight service calls are made.
+     */
+    private Mono<BookingPage> findHistoryPage(String email, BookingHistoryQuery query) {
+        int size = query.getSize() != null ? query.getSize() : defaultHistoryPageSize;
+        if (size < 1 || size > maxHistoryPageSize) {
+            return Mono.error(new InvalidRequestException(
+                    "Page size must be between 1 and " + maxHistoryPageSize));
+        }
+        if (query.getFrom() != null && query.getTo() != null && query.getFrom().isAfter(query.getTo())) {
+            return Mono.error(new InvalidRequestException("'from' must not be after 'to'"));
+        }
 
-        return bookingRepository
-                .findByContactEmailOrderByBookingDateTimeDesc(email.toLowerCase())
-                .map(this::convertToBookingResponse)
-                .switchIfEmpty(Flux.empty());
+        BookingPageToken after = query.getPageToken() == null || query.getPageToken().isBlank()
+                ? null
+                : BookingPageToken.decode(query.getPageToken());
+        String status = query.getStatus() != null ? query.getStatus().toUpperCase() : null;
+
+        return bookingRepository.findHistoryPage(
+                        email.toLowerCase(),
+                        status,
+                        query.getFrom() != null ? query.getFrom().atStartOfDay() : null,
+                        query.getTo() != null ? query.getTo().plusDays(1).atStartOfDay() : null,
+                        after,
+                        size + 1)
+                .collectList()
+                .map(bookings -> {
+                    boolean hasMore = bookings.size() > size;
+                    List<Booking> page = hasMore ? bookings.subList(0, size) : bookings;
+                    Booking last = hasMore ? page.get(page.size() - 1) : null;
+
+                    return BookingPage.builder()
+                            .bookings(page.stream().map(this::convertToBookingResponse).toList())
+                            .size(page.size())
+                            .nextPageToken(last != null
+                                    ? new BookingPageToken(last.getBookingDateTime(), last.getId()).encode()
+                                    : null)
+                            .build();
+                });
     }
 
-}
\ No newline at end of file
+}
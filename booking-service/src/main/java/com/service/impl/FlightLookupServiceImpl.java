@@ -0,0 +1,122 @@
+package com.service.impl;
+
+import com.client.FlightDetailsBatcher;
+import com.client.FlightDetailsCache;
+import com.client.FlightDetailsDto;
+import com.client.FlightServiceClient;
+import com.client.SeatPriceTable;
+import com.dto.response.ApiResponse;
+import com.service.FlightLookupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Serves flight details from FlightDetailsCache. Concurrent misses for one flight share a single
+ * fetch, misses across flights are batched by FlightDetailsBatcher, and hot entries are refreshed
+ * in the background before they expire. When the flight service fails, FlightServiceFallback
+ * answers from the cache's stale entries.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FlightLookupServiceImpl implements FlightLookupService {
+
+    private final FlightServiceClient flightServiceClient;
+    private final FlightDetailsBatcher flightDetailsBatcher;
+    private final FlightDetailsCache flightDetailsCache;
+
+    private final Map<String, Mono<FlightDetailsDto>> inFlight = new ConcurrentHashMap<>();
+
+    // Least-recently-used, like FlightDetailsCache, so a full cache drops only the coldest flights
+    private final Map<String, Mono<SeatPriceTable>> seatPriceTables = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Mono<SeatPriceTable>> eldest) {
+                    return size() > seatPricesMaxEntries;
+                }
+            });
+
+    // Availability-sensitive: seats, fares, status
+    @Value("${app.flight-cache.availability-ttl-seconds:15}")
+    private long availabilityTtlSeconds;
+
+    // Schedule and airline data
+    @Value("${app.flight-cache.static-ttl-seconds:600}")
+    private long staticTtlSeconds;
+
+    // Fraction of the TTL after which a hot entry is refreshed in the background
+    @Value("${app.flight-cache.refresh-ahead-ratio:0.75}")
+    private double refreshAheadRatio;
+
+    @Value("${app.flight-cache.hot-hits:5}")
+    private int hotHits;
+
+    @Value("${app.flight-cache.seat-prices-ttl-seconds:3600}")
+    private long seatPricesTtlSeconds;
+
+    @Value("${app.flight-cache.seat-prices-max-entries:2000}")
+    private int seatPricesMaxEntries;
+
+    @Override
+    public Mono<FlightDetailsDto> getFlight(String flightId) {
+        return lookup(flightId, availabilityTtlSeconds * 1000);
+    }
+
+    @Override
+    public Mono<FlightDetailsDto> getFlightSchedule(String flightId) {
+        return lookup(flightId, staticTtlSeconds * 1000);
+    }
+
+    @Override
+    public Mono<SeatPriceTable> getSeatPriceTable(String flightId) {
+        // Failures are not cached, so the next booking fetches the table again
+        return seatPriceTables.computeIfAbsent(flightId, id -> flightServiceClient.getSeatPriceTable(id)
+                .map(ApiResponse::getData)
+                .cache(table -> Duration.ofSeconds(seatPricesTtlSeconds),
+                        error -> Duration.ZERO,
+                        () -> Duration.ZERO));
+    }
+
+    private Mono<FlightDetailsDto> lookup(String flightId, long ttlMillis) {
+        return Mono.defer(() -> {
+            FlightDetailsCache.Entry entry = flightDetailsCache.get(flightId);
+            if (entry == null || entry.ageMillis() >= ttlMillis) {
+                return fetch(flightId);
+            }
+
+            if (entry.hit() >= hotHits && entry.ageMillis() >= ttlMillis * refreshAheadRatio) {
+                refreshAhead(flightId, entry);
+            }
+            return Mono.just(entry.details());
+        });
+    }
+
+    private Mono<FlightDetailsDto> fetch(String flightId) {
+        return inFlight.computeIfAbsent(flightId, id -> flightDetailsBatcher.load(id)
+                .doOnNext(details -> flightDetailsCache.put(id, details))
+                .doFinally(signal -> inFlight.remove(id))
+                .cache());
+    }
+
+    private void refreshAhead(String flightId, FlightDetailsCache.Entry entry) {
+        if (!entry.startRefresh()) {
+            return;
+        }
+
+        fetch(flightId)
+                .doFinally(signal -> entry.endRefresh())
+                .subscribe(
+                        details -> log.debug("Refreshed cached flight {}", flightId),
+                        error -> log.warn("Could not refresh cached flight {}: {}", flightId, error.getMessage())
+                );
+    }
+}
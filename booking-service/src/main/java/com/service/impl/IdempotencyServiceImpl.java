@@ -0,0 +1,164 @@
+package com.service.impl;
+
+import com.dto.request.BookingRequest;
+import com.dto.response.BookingResponse;
+import com.exception.IdempotencyConflictException;
+import com.exception.InvalidRequestException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.model.IdempotencyRecord;
+import com.repository.IdempotencyRecordRepository;
+import com.service.BookingService;
+import com.service.IdempotencyService;
+import com.util.Constants;
+import com.util.DateTimeUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class IdempotencyServiceImpl implements IdempotencyService {
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final BookingService bookingService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.idempotency.ttl-hours:24}")
+    private long ttlHours;
+
+    // How long a key stays reserved by a request that never finishes, e.g. after a crash
+    @Value("${app.idempotency.in-progress-seconds:120}")
+    private long inProgressSeconds;
+
+    @Value("${app.idempotency.wait-seconds:30}")
+    private long waitSeconds;
+
+    @Value("${app.idempotency.poll-interval-ms:250}")
+    private long pollIntervalMs;
+
+    @Override
+    public Mono<BookingResponse> execute(String idempotencyKey, BookingRequest request,
+                                         Supplier<Mono<BookingResponse>> booking) {
+        if (idempotencyKey == null) {
+            return booking.get();
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            return Mono.error(new InvalidRequestException(
+                    Constants.IDEMPOTENCY_KEY_HEADER + " must be 1-" + MAX_KEY_LENGTH + " characters"));
+        }
+
+        return Mono.fromCallable(() -> fingerprint(request))
+                .flatMap(requestHash -> claimOrReplay(idempotencyKey, requestHash, booking));
+    }
+
+    private Mono<BookingResponse> claimOrReplay(String key, String requestHash,
+                                                Supplier<Mono<BookingResponse>> booking) {
+        LocalDateTime now = DateTimeUtil.getCurrentTimestamp();
+        IdempotencyRecord claim = IdempotencyRecord.builder()
+                .key(key)
+                .requestHash(requestHash)
+                .status(Constants.IDEMPOTENCY_IN_PROGRESS)
+                .createdAt(now)
+                .expiresAt(now.plusSeconds(inProgressSeconds))
+                .build();
+
+        return idempotencyRecordRepository.insert(claim)
+                .flatMap(claimed -> run(claimed, booking))
+                .onErrorResume(DuplicateKeyException.class, ex -> awaitOutcome(key, requestHash, booking));
+    }
+
+    private Mono<BookingResponse> run(IdempotencyRecord claimed, Supplier<Mono<BookingResponse>> booking) {
+        return booking.get()
+                .flatMap(response -> {
+                    // A PENDING booking isn't a final outcome; replays look up where it got to
+                    claimed.setStatus(Constants.STATUS_PENDING.equals(response.getStatus())
+                            ? Constants.IDEMPOTENCY_PENDING
+                            : Constants.IDEMPOTENCY_COMPLETED);
+                    claimed.setResponse(response);
+                    claimed.setExpiresAt(DateTimeUtil.getCurrentTimestamp().plusHours(ttlHours));
+                    return idempotencyRecordRepository.save(claimed)
+                            .thenReturn(response)
+                            // The booking exists either way; a retry before the record lands runs again
+                            .onErrorResume(error -> {
+                                log.error("Could not store outcome for idempotency key {}: {}",
+                                        claimed.getKey(), error.getMessage());
+                                return Mono.just(response);
+                            });
+                })
+                // Failed attempts are not recorded, so the client can retry with the same key
+                .onErrorResume(error -> idempotencyRecordRepository.deleteById(claimed.getKey())
+                        .onErrorResume(deleteError -> Mono.empty())
+                        .then(Mono.error(error)));
+    }
+
+    /**
+     * Wait for the request holding the key. Replays its response once stored, or takes the key
+     * over if that request failed and released it.
+     */
+    private Mono<BookingResponse> awaitOutcome(String key, String requestHash,
+                                               Supplier<Mono<BookingResponse>> booking) {
+        return Flux.interval(Duration.ZERO, Duration.ofMillis(pollIntervalMs))
+                .concatMap(tick -> idempotencyRecordRepository.findById(key)
+                        .map(Optional::of)
+                        .defaultIfEmpty(Optional.empty()))
+                .filter(record -> record.isEmpty()
+                        || !requestHash.equals(record.get().getRequestHash())
+                        || !Constants.IDEMPOTENCY_IN_PROGRESS.equals(record.get().getStatus()))
+                .next()
+                .timeout(Duration.ofSeconds(waitSeconds), Mono.error(() -> new IdempotencyConflictException(
+                        "A request with this " + Constants.IDEMPOTENCY_KEY_HEADER + " is still being processed")))
+                .flatMap(record -> {
+                    if (record.isEmpty()) {
+                        return claimOrReplay(key, requestHash, booking);
+                    }
+                    if (!requestHash.equals(record.get().getRequestHash())) {
+                        return Mono.error(new InvalidRequestException(
+                                Constants.IDEMPOTENCY_KEY_HEADER + " was already used with a different request"));
+                    }
+                    log.info("Replaying booking {} for idempotency key {}", record.get().getResponse().getPnr(), key);
+                    if (Constants.IDEMPOTENCY_PENDING.equals(record.get().getStatus())) {
+                        return replayPending(record.get());
+                    }
+                    return Mono.just(record.get().getResponse());
+                });
+    }
+
+    /**
+     * Replay a booking that was still PENDING from its current state, and keep that state as the
+     * final response once the saga has finished
+     */
+    private Mono<BookingResponse> replayPending(IdempotencyRecord record) {
+        return bookingService.getBookingSummary(record.getResponse().getPnr())
+                .flatMap(current -> {
+                    if (Constants.STATUS_PENDING.equals(current.getStatus())) {
+                        return Mono.just(current);
+                    }
+                    record.setStatus(Constants.IDEMPOTENCY_COMPLETED);
+                    record.setResponse(current);
+                    return idempotencyRecordRepository.save(record)
+                            .thenReturn(current)
+                            .onErrorResume(error -> Mono.just(current));
+                });
+    }
+
+    private String fingerprint(BookingRequest request) throws JsonProcessingException, NoSuchAlgorithmException {
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+        return HexFormat.of().formatHex(digest);
+    }
+}
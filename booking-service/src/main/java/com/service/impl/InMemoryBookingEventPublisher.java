@@ -0,0 +1,44 @@
+package com.service.impl;
+
+import com.model.BookingEvent;
+import com.service.BookingEventPublisher;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * In-process stand-in used when no broker publisher is configured: logs each event and keeps
+ * the most recent ones for inspection in tests
+ */
+@Slf4j
+public class InMemoryBookingEventPublisher implements BookingEventPublisher {
+
+    private final int capacity;
+    private final Deque<BookingEvent> recentEvents = new ArrayDeque<>();
+
+    public InMemoryBookingEventPublisher(int capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    public Mono<Void> publish(BookingEvent event) {
+        return Mono.fromRunnable(() -> {
+            log.info("Booking event {} for PNR {} ({})", event.getType(), event.getPnr(), event.getEventId());
+            synchronized (recentEvents) {
+                if (recentEvents.size() >= capacity) {
+                    recentEvents.removeFirst();
+                }
+                recentEvents.addLast(event);
+            }
+        });
+    }
+
+    public List<BookingEvent> recentEvents() {
+        synchronized (recentEvents) {
+            return List.copyOf(recentEvents);
+        }
+    }
+}
@@ -1,40 +1,94 @@
 package com.service.impl;
 
-import com.repository.BookingRepository;
+import com.exception.ServiceUnavailableException;
 import com.service.PNRGeneratorService;
 import com.util.PNRGenerator;
-import lombok.RequiredArgsConstructor;
+import com.util.SequencePNRGenerator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
+import java.util.function.Function;
+
+/**
+ * Non-blocking PNR allocation. PNRs come from a per-node time/sequence generator and are unique
+ * without any lookup. The unique pnr index still backs that up: if two nodes share a node id,
+ * the colliding insert retries with a new PNR, up to a fixed number of attempts. Collisions are
+ * counted in booking.pnr.collisions.
+ */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class PNRGeneratorServiceImpl implements PNRGeneratorService {
 
-    private final BookingRepository bookingRepository;
+    private final SequencePNRGenerator generator;
+    private final Counter collisions;
+    private final Counter exhausted;
+
+    @Value("${app.pnr.max-attempts:5}")
+    private int maxAttempts;
+
+    public PNRGeneratorServiceImpl(
+            MeterRegistry meterRegistry,
+            @Value("${app.pnr.node-id:-1}") int nodeId,
+            @Value("${eureka.instance.instance-id:${spring.cloud.client.hostname:localhost}:${server.port:9092}}") String instanceId,
+            @Value("${app.pnr.secret}") String secret) {
+
+        // Required, from the config server or APP_PNR_SECRET; a known key makes PNRs enumerable
+        if (secret.isBlank()) {
+            throw new IllegalStateException("app.pnr.secret must not be blank");
+        }
+
+        int resolvedNodeId = nodeId >= 0 ? nodeId : SequencePNRGenerator.nodeIdFor(instanceId);
+        if (nodeId < 0) {
+            log.warn("app.pnr.node-id is not set, using node id {} derived from instance {}", resolvedNodeId, instanceId);
+        }
+        this.generator = new SequencePNRGenerator(resolvedNodeId, secret);
+        this.collisions = Counter.builder("booking.pnr.collisions")
+                .description("PNRs that were already taken and had to be regenerated")
+                .register(meterRegistry);
+        this.exhausted = Counter.builder("booking.pnr.allocation.failures")
+                .description("PNR allocations that collided on every attempt")
+                .register(meterRegistry);
+    }
 
     @Override
     public Mono<String> generateUniquePNR() {
-        return Mono.defer(() -> {
-            String pnr = PNRGenerator.generatePNR();
-
-            return bookingRepository.existsByPnr(pnr)
-                    .flatMap(exists -> {
-                        if (Boolean.TRUE.equals(exists)) {
-                            // If PNR exists, generate a new one recursively
-                            log.debug("PNR {} already exists, generating new one", pnr);
-                            return generateUniquePNR();
-                        }
-                        log.debug("Generated unique PNR: {}", pnr);
-                        return Mono.just(pnr);
-                    });
-        });
+        return Mono.fromSupplier(generator::next);
+    }
+
+    @Override
+    public <T> Mono<T> insertWithUniquePNR(Function<String, Mono<T>> insert) {
+        return Mono.defer(() -> insert.apply(generator.next()))
+                .retryWhen(Retry.max(maxAttempts - 1)
+                        .filter(this::isPnrCollision)
+                        .doBeforeRetry(signal -> {
+                            log.debug("PNR collision, retrying with a new PNR (attempt {})", signal.totalRetries() + 2);
+                            collisions.increment();
+                        })
+                        .onRetryExhaustedThrow((spec, signal) -> {
+                            collisions.increment();
+                            return signal.failure();
+                        }))
+                .onErrorResume(this::isPnrCollision, error -> allocationFailed());
     }
 
     @Override
     public boolean validatePNR(String pnr) {
         return PNRGenerator.isValidPNR(pnr);
     }
-}
\ No newline at end of file
+
+    private boolean isPnrCollision(Throwable error) {
+        return error instanceof DuplicateKeyException && error.getMessage() != null && error.getMessage().contains("pnr");
+    }
+
+    private <T> Mono<T> allocationFailed() {
+        exhausted.increment();
+        log.error("Could not allocate a unique PNR after {} attempts", maxAttempts);
+        return Mono.error(new ServiceUnavailableException("Could not allocate a booking reference, please retry"));
+    }
+}
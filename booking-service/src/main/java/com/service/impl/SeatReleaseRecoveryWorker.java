@@ -0,0 +1,41 @@
+package com.service.impl;
+
+import com.service.BookingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Periodically releases the seats of cancelled bookings whose release failed at cancellation time
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SeatReleaseRecoveryWorker {
+
+    private final BookingService bookingService;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Scheduled(fixedDelayString = "${app.booking.seat-release.recovery-interval-ms:30000}",
+            initialDelayString = "${app.booking.seat-release.recovery-interval-ms:30000}")
+    public void retryPendingSeatReleases() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+
+        bookingService.retryPendingSeatReleases()
+                .doFinally(signal -> running.set(false))
+                .subscribe(
+                        released -> {
+                            if (released > 0) {
+                                log.info("Released seats of {} cancelled bookings", released);
+                            }
+                        },
+                        error -> log.error("Seat release recovery failed: {}", error.getMessage())
+                );
+    }
+}
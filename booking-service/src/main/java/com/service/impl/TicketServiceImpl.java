@@ -77,17 +77,7 @@ public class TicketServiceImpl implements TicketService {
                         .build())
                 .toList();
 
-        double baseFare = flight.getBaseFare() * booking.getPassengers().size();
-        double seatCharges = booking.getTotalFare() - baseFare;
-
-        FareBreakdown fareBreakdown = FareBreakdown.builder()
-                .baseFare(baseFare)
-                .taxes(0.0)
-                .seatCharges(seatCharges)
-                .mealCharges(0.0)
-                .totalFare(booking.getTotalFare())
-                .currency(booking.getCurrency())
-                .build();
+        FareBreakdown fareBreakdown = FareBreakdown.of(booking);
 
         return TicketResponse.builder()
                 .pnr(booking.getPnr())
@@ -0,0 +1,37 @@
+package com.util;
+
+import com.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque keyset position in booking history: the booking time and id of the last booking on a
+ * page, newest first. The next page starts strictly after it, so no documents are skipped.
+ */
+public record BookingPageToken(LocalDateTime bookingDateTime, String bookingId) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String position = bookingDateTime + SEPARATOR + bookingId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static BookingPageToken decode(String token) {
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = position.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidRequestException("Invalid page token");
+            }
+            return new BookingPageToken(
+                    LocalDateTime.parse(position.substring(0, separator)),
+                    position.substring(separator + 1));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new InvalidRequestException("Invalid page token");
+        }
+    }
+}
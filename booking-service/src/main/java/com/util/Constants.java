@@ -12,6 +12,9 @@ public final class Constants {
     public static final String BOOKINGS_PATH = API_BASE_PATH + "/bookings";
     public static final String ADMIN_PATH = API_BASE_PATH + "/admin";
 
+    // Media Types
+    public static final String MEDIA_TYPE_COMPACT_SEAT_MAP = "application/vnd.flightapp.seatmap.compact+json";
+
     // Date/Time Formats
     public static final String DATE_FORMAT = "yyyy-MM-dd";
     public static final String DATETIME_FORMAT = "yyyy-MM-dd'T'HH:mm:ss";
@@ -19,12 +22,31 @@ public final class Constants {
 
     // PNR Configuration
     public static final String PNR_PREFIX = "PNR";
-    public static final int PNR_NUMBER_LENGTH = 9;
+    public static final int PNR_NUMBER_LENGTH = 10;
 
     // Booking Status
     public static final String STATUS_CONFIRMED = "CONFIRMED";
     public static final String STATUS_CANCELLED = "CANCELLED";
     public static final String STATUS_PENDING = "PENDING";
+    public static final String STATUS_FAILED = "FAILED";
+
+    // Booking Events
+    public static final String EVENT_BOOKING_CREATED = "BOOKING_CREATED";
+    public static final String EVENT_BOOKING_CANCELLED = "BOOKING_CANCELLED";
+    public static final String EVENT_BOOKING_FAILED = "BOOKING_FAILED";
+
+    // Idempotency Record States
+    public static final String IDEMPOTENCY_IN_PROGRESS = "IN_PROGRESS";
+    public static final String IDEMPOTENCY_PENDING = "PENDING";
+    public static final String IDEMPOTENCY_COMPLETED = "COMPLETED";
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    // Booking Saga States
+    public static final String SAGA_STARTED = "STARTED";
+    public static final String SAGA_SEATS_HELD = "SEATS_HELD";
+    public static final String SAGA_CONFIRMED = "CONFIRMED";
+    public static final String SAGA_COMPENSATING = "COMPENSATING";
+    public static final String SAGA_COMPENSATED = "COMPENSATED";
 
     // Seat Types
     public static final String SEAT_ECONOMY = "ECONOMY";
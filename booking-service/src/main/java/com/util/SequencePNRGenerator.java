@@ -0,0 +1,117 @@
+package com.util;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * PNRs that are unique by construction. Each one packs seconds since 2024 (30 bits), the node
+ * id (8 bits) and a per-node sequence (12 bits) into 50 bits. A keyed Feistel permutation then
+ * scrambles the value so consecutive PNRs look unrelated, and the result is written as 10
+ * characters of a 32-letter alphabet. The permutation is a bijection, so distinct inputs give
+ * distinct PNRs without any database lookup.
+ *
+ * <p>The clock and sequence live in one AtomicLong, so issuing a PNR is a single CAS. When a
+ * node issues more than 4096 PNRs in a second, it borrows the next second.
+ */
+public final class SequencePNRGenerator {
+
+    // No I or O, and no 0 or 1, so PNRs read back unambiguously
+    private static final char[] ALPHABET = "ABCDEFGHJKLMNPQRSTUVWXYZ23456789".toCharArray();
+    private static final int CHARS = 10;
+    private static final int CHAR_BITS = 5;
+
+    private static final int SEQUENCE_BITS = 12;
+    private static final int NODE_BITS = 8;
+    private static final int TIME_BITS = 30;
+    private static final long TIME_MASK = (1L << TIME_BITS) - 1;
+    private static final long EPOCH_SECOND = 1_704_067_200L; // 2024-01-01T00:00:00Z
+
+    private static final int HALF_BITS = (TIME_BITS + NODE_BITS + SEQUENCE_BITS) / 2;
+    private static final long HALF_MASK = (1L << HALF_BITS) - 1;
+    private static final int ROUNDS = 4;
+
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+
+    private final long nodeId;
+    private final long[] roundKeys;
+
+    // (second << SEQUENCE_BITS) | sequence of the last PNR issued
+    private final AtomicLong clock;
+
+    public SequencePNRGenerator(int nodeId, String secret) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("PNR node id must be between 0 and " + MAX_NODE_ID);
+        }
+        this.nodeId = nodeId;
+        this.roundKeys = deriveRoundKeys(secret);
+        // Start in the next second so a quick restart cannot reissue this second's sequence
+        this.clock = new AtomicLong((currentSecond() + 1) << SEQUENCE_BITS);
+    }
+
+    public String next() {
+        long now = currentSecond();
+        long issued = clock.updateAndGet(last -> (last >>> SEQUENCE_BITS) < now ? now << SEQUENCE_BITS : last + 1);
+
+        long second = (issued >>> SEQUENCE_BITS) & TIME_MASK;
+        long sequence = issued & ((1L << SEQUENCE_BITS) - 1);
+        long value = (second << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+
+        return Constants.PNR_PREFIX + encode(permute(value));
+    }
+
+    /**
+     * Derive a node id in 0..MAX_NODE_ID from an instance id. Prefer configuring node ids
+     * explicitly: two instance ids can hash to the same node id.
+     */
+    public static int nodeIdFor(String instanceId) {
+        return Math.floorMod(instanceId.hashCode(), MAX_NODE_ID + 1);
+    }
+
+    private long permute(long value) {
+        long left = value >>> HALF_BITS;
+        long right = value & HALF_MASK;
+        for (long key : roundKeys) {
+            long mixed = left ^ (mix(right ^ key) & HALF_MASK);
+            left = right;
+            right = mixed;
+        }
+        return (left << HALF_BITS) | right;
+    }
+
+    private static String encode(long value) {
+        char[] chars = new char[CHARS];
+        for (int i = CHARS - 1; i >= 0; i--) {
+            chars[i] = ALPHABET[(int) (value & (ALPHABET.length - 1))];
+            value >>>= CHAR_BITS;
+        }
+        return new String(chars);
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private static long[] deriveRoundKeys(String secret) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(secret.getBytes(StandardCharsets.UTF_8));
+            ByteBuffer buffer = ByteBuffer.wrap(digest);
+            long[] keys = new long[ROUNDS];
+            for (int i = 0; i < ROUNDS; i++) {
+                keys[i] = buffer.getLong();
+            }
+            return keys;
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    private static long currentSecond() {
+        return System.currentTimeMillis() / 1000 - EPOCH_SECOND;
+    }
+}
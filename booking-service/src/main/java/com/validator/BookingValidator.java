@@ -1,9 +1,9 @@
 package com.validator;
 
+import com.client.CompactSeatMap;
 import com.dto.request.BookingRequest;
 import com.exception.InvalidRequestException;
 import com.model.Flight;
-import com.model.Seat;
 import org.springframework.stereotype.Component;
 
 import java.util.HashSet;
@@ -15,8 +15,9 @@ public class BookingValidator {
 
     /**
      * Validate booking request against flight data
+     * @param seatMap current seat availability, or null when a verified quote already checked the seats
      */
-    public void validateBookingRequest(BookingRequest request, Flight flight) {
+    public void validateBookingRequest(BookingRequest request, Flight flight, CompactSeatMap seatMap) {
         // Check passenger count matches seat count
         if (request.getPassengers().size() != request.getSeatNumbers().size()) {
             throw new InvalidRequestException(
@@ -32,8 +33,10 @@ public class BookingValidator {
             );
         }
 
-        // Validate seat availability
-        validateSeatAvailability(request.getSeatNumbers(), flight.getSeats());
+        // Validate seat availability; the reservation itself still rejects seats taken since
+        if (seatMap != null) {
+            validateSeatAvailability(request.getSeatNumbers(), seatMap);
+        }
 
         // Check if enough seats available
         if (flight.getAvailableSeats() < request.getPassengers().size()) {
@@ -45,6 +48,36 @@ public class BookingValidator {
         }
 
         // Validate passenger details
+        validatePassengers(request);
+    }
+
+    /**
+     * Validate a booking request whose seats will be assigned by the flight service
+     */
+    public void validateSeatAssignmentRequest(BookingRequest request, Flight flight) {
+        if (request.getPassengers().size() > 9) {
+            throw new InvalidRequestException(
+                    "Automatic seat assignment supports at most 9 passengers"
+            );
+        }
+
+        // Seats of an existing hold are already taken out of the available count
+        if (request.getReservationId() == null
+                && flight.getAvailableSeats() < request.getPassengers().size()) {
+            throw new InvalidRequestException(
+                    String.format("Only %d seats available, but requested %d",
+                            flight.getAvailableSeats(),
+                            request.getPassengers().size())
+            );
+        }
+
+        validatePassengers(request);
+    }
+
+    /**
+     * Validate passenger details
+     */
+    private void validatePassengers(BookingRequest request) {
         request.getPassengers().forEach(passenger -> {
             if (passenger.getAge() < 0 || passenger.getAge() > 120) {
                 throw new InvalidRequestException(
@@ -57,9 +90,9 @@ public class BookingValidator {
     /**
      * Validate seat availability
      */
-    private void validateSeatAvailability(List<String> requestedSeats, List<Seat> flightSeats) {
+    private void validateSeatAvailability(List<String> requestedSeats, CompactSeatMap seatMap) {
         List<String> unavailableSeats = requestedSeats.stream()
-                .filter(seatNumber -> !isSeatAvailable(seatNumber, flightSeats))
+                .filter(seatNumber -> !seatMap.isAvailable(seatNumber))
                 .toList();
 
         if (!unavailableSeats.isEmpty()) {
@@ -68,12 +101,4 @@ public class BookingValidator {
             );
         }
     }
-
-    /**
-     * Check if a specific seat is available
-     */
-    private boolean isSeatAvailable(String seatNumber, List<Seat> flightSeats) {
-        return flightSeats.stream()
-                .anyMatch(seat -> seat.getSeatNumber().equals(seatNumber) && seat.getIsAvailable());
-    }
-}
\ No newline at end of file
+}
@@ -24,6 +24,20 @@ public class CancellationValidator {
             );
         }
 
+        // Failed bookings never held seats
+        if (Constants.STATUS_FAILED.equals(booking.getStatus())) {
+            throw new InvalidCancellationException(
+                    "Booking failed and has nothing to cancel"
+            );
+        }
+
+        // A booking mid-saga may still be holding or confirming its seats
+        if (Constants.STATUS_PENDING.equals(booking.getStatus())) {
+            throw new InvalidCancellationException(
+                    "Booking is still being confirmed and cannot be cancelled yet"
+            );
+        }
+
         // Check if journey date is in the past
         if (DateTimeUtil.isPast(booking.getJourneyDate())) {
             throw new InvalidCancellationException(
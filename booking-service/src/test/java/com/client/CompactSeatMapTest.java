@@ -0,0 +1,44 @@
+package com.client;
+
+import com.util.Constants;
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompactSeatMapTest {
+
+    // 12 seats; 1B and 2D taken
+    private final CompactSeatMap seatMap = CompactSeatMap.builder()
+            .flightId("FL1")
+            .layout("ABC_DEF:B1")
+            .seatCount(12)
+            .availableSeats(10)
+            .availability(Base64.getEncoder().encodeToString(new byte[]{(byte) 0b1111_1101, 0b0000_1101}))
+            .build();
+
+    @Test
+    void readsAvailabilityBySeatNumber() {
+        assertTrue(seatMap.isAvailable("1A"));
+        assertFalse(seatMap.isAvailable("1B"));
+        assertTrue(seatMap.isAvailable("2C"));
+        assertFalse(seatMap.isAvailable("2D"));
+    }
+
+    @Test
+    void treatsSeatsOutsideTheLayoutAsUnavailable() {
+        assertFalse(seatMap.isAvailable("3A"));
+        assertFalse(seatMap.isAvailable("1G"));
+        assertFalse(seatMap.isAvailable("A1"));
+        assertFalse(seatMap.isAvailable(null));
+    }
+
+    @Test
+    void derivesCabinFromBusinessRows() {
+        assertEquals(Constants.SEAT_BUSINESS, seatMap.cabinOf("1F"));
+        assertEquals(Constants.SEAT_ECONOMY, seatMap.cabinOf("2A"));
+    }
+}
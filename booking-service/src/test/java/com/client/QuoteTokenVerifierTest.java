@@ -0,0 +1,121 @@
+package com.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class QuoteTokenVerifierTest {
+
+    private static final String SECRET = "test-secret";
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final QuoteTokenVerifier verifier = new QuoteTokenVerifier(objectMapper);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(verifier, "secret", SECRET);
+    }
+
+    @Test
+    void acceptsGenuineUnexpiredToken() {
+        Optional<PriceQuote> quote = verifier.verify(sign(quote(), SECRET));
+
+        assertTrue(quote.isPresent());
+        assertEquals("FL1", quote.get().getFlightId());
+        assertEquals(5200.0, quote.get().getTotalFare());
+    }
+
+    @Test
+    void rejectsTamperedPayload() {
+        String token = sign(quote(), SECRET);
+        PriceQuote cheaper = quote();
+        cheaper.setTotalFare(1.0);
+        String tampered = encode(json(cheaper)) + token.substring(token.indexOf('.'));
+
+        assertTrue(verifier.verify(tampered).isEmpty());
+    }
+
+    @Test
+    void rejectsTamperedSignature() {
+        String token = sign(quote(), SECRET);
+        String tampered = token.substring(0, token.indexOf('.') + 1) + encode(new byte[32]);
+
+        assertTrue(verifier.verify(tampered).isEmpty());
+    }
+
+    @Test
+    void rejectsTokenSignedWithAnotherSecret() {
+        assertTrue(verifier.verify(sign(quote(), "other-secret")).isEmpty());
+    }
+
+    @Test
+    void rejectsExpiredToken() {
+        PriceQuote expired = quote();
+        expired.setExpiresAt(System.currentTimeMillis() - 1);
+
+        assertTrue(verifier.verify(sign(expired, SECRET)).isEmpty());
+    }
+
+    @Test
+    void rejectsTokenWithoutSeparator() {
+        String token = sign(quote(), SECRET);
+
+        assertTrue(verifier.verify(token.replace(".", "")).isEmpty());
+        assertTrue(verifier.verify(token.substring(0, token.indexOf('.'))).isEmpty());
+    }
+
+    @Test
+    void rejectsMalformedToken() {
+        assertTrue(verifier.verify("not base64!.also not").isEmpty());
+        assertTrue(verifier.verify(encode("{".getBytes(StandardCharsets.UTF_8)) + ".").isEmpty());
+    }
+
+    private PriceQuote quote() {
+        return PriceQuote.builder()
+                .flightId("FL1")
+                .cabinClass("ECONOMY")
+                .passengers(1)
+                .lines(List.of(PriceQuote.Line.builder()
+                        .seatNumber("12A").cabinClass("ECONOMY").fare(5000.0).seatCharge(200.0).build()))
+                .totalFare(5200.0)
+                .currency("INR")
+                .issuedAt(System.currentTimeMillis())
+                .expiresAt(System.currentTimeMillis() + 60_000)
+                .build();
+    }
+
+    // Same format the flight service signs: base64url(json).base64url(HMAC-SHA256)
+    private String sign(PriceQuote quote, String secret) {
+        try {
+            byte[] payload = json(quote);
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            return encode(payload) + "." + encode(mac.doFinal(payload));
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private byte[] json(PriceQuote quote) {
+        try {
+            return objectMapper.writeValueAsBytes(quote);
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static String encode(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
@@ -0,0 +1,39 @@
+package com.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SeatPriceTableTest {
+
+    // Row 1: window 200, middle 0, aisle 100
+    private final SeatPriceTable table = SeatPriceTable.builder()
+            .flightId("FL1")
+            .layout("ABC_DEF:B1")
+            .seatCount(6)
+            .currency("INR")
+            .charges(List.of(0.0, 200.0, 100.0))
+            .priceClasses("102201")
+            .build();
+
+    @Test
+    void looksUpChargeBySeatNumber() {
+        assertEquals(200.0, table.chargeOf("1A"));
+        assertEquals(0.0, table.chargeOf("1B"));
+        assertEquals(100.0, table.chargeOf("1C"));
+    }
+
+    @Test
+    void sumsChargesOfSeveralSeats() {
+        assertEquals(600.0, table.chargeOf(List.of("1A", "1C", "1D", "1F")));
+    }
+
+    @Test
+    void chargesNothingForSeatsOutsideTheTable() {
+        assertEquals(0.0, table.chargeOf("2A"));
+        assertEquals(0.0, table.chargeOf("1G"));
+        assertEquals(0.0, table.chargeOf("bad"));
+    }
+}
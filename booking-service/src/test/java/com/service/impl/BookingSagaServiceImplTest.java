@@ -0,0 +1,248 @@
+package com.service.impl;
+
+import com.client.FlightServiceClient;
+import com.client.ReservationDto;
+import com.dto.response.ApiResponse;
+import com.model.Booking;
+import com.model.BookingEvent;
+import com.repository.BookingRepository;
+import com.service.PNRGeneratorService;
+import com.util.Constants;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BookingSagaServiceImplTest {
+
+    private static final String FLIGHT_ID = "FL1";
+    private static final String RESERVATION_ID = "res-1";
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private FlightServiceClient flightServiceClient;
+
+    @Mock
+    private PNRGeneratorService pnrGeneratorService;
+
+    @InjectMocks
+    private BookingSagaServiceImpl bookingSagaService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(bookingSagaService, "stallTimeoutSeconds", 120L);
+        ReflectionTestUtils.setField(bookingSagaService, "maxRecoveryAttempts", 5);
+        ReflectionTestUtils.setField(bookingSagaService, "recoveryBatchSize", 100);
+    }
+
+    @Test
+    void startStoresPendingBookingUnderNewPnr() {
+        Booking booking = Booking.builder().flightId(FLIGHT_ID).build();
+        when(pnrGeneratorService.insertWithUniquePNR(any()))
+                .thenAnswer(invocation -> invocation.<Function<String, Mono<Booking>>>getArgument(0).apply("PNRABC"));
+        when(bookingRepository.save(booking)).thenReturn(Mono.just(booking));
+
+        StepVerifier.create(bookingSagaService.start(booking))
+                .assertNext(started -> {
+                    assertEquals("PNRABC", started.getPnr());
+                    assertEquals(Constants.STATUS_PENDING, started.getStatus());
+                    assertEquals(Constants.SAGA_STARTED, started.getSagaState());
+                    assertEquals(1, started.getSagaLog().size());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void seatsHeldMovesFromStartedToSeatsHeld() {
+        Booking booking = booking(Constants.SAGA_STARTED);
+        Booking held = booking(Constants.SAGA_SEATS_HELD);
+        when(bookingRepository.advanceSaga(eq("b1"), eq(Constants.SAGA_STARTED), eq(Constants.SAGA_SEATS_HELD),
+                eq(Constants.STATUS_PENDING), anyString(), isNull()))
+                .thenReturn(Mono.just(held));
+
+        StepVerifier.create(bookingSagaService.seatsHeld(booking))
+                .expectNext(held)
+                .verifyComplete();
+    }
+
+    @Test
+    void seatsAssignedFailsWhenSagaMovedOn() {
+        Booking booking = booking(Constants.SAGA_COMPENSATING);
+        when(bookingRepository.recordAssignedSeats("b1", List.of("4A"), List.of())).thenReturn(Mono.empty());
+
+        StepVerifier.create(bookingSagaService.seatsAssigned(booking, List.of("4A"), List.of()))
+                .verifyError(IllegalStateException.class);
+    }
+
+    @Test
+    void completeConfirmsReservationThenBooking() {
+        Booking booking = booking(Constants.SAGA_SEATS_HELD);
+        Booking confirmed = booking(Constants.SAGA_CONFIRMED);
+        confirmed.setStatus(Constants.STATUS_CONFIRMED);
+        when(flightServiceClient.confirmReservation(FLIGHT_ID, RESERVATION_ID))
+                .thenReturn(Mono.just(ApiResponse.success("Confirmed", new ReservationDto())));
+        ArgumentCaptor<BookingEvent> event = ArgumentCaptor.forClass(BookingEvent.class);
+        when(bookingRepository.advanceSaga(eq("b1"), eq(Constants.SAGA_SEATS_HELD), eq(Constants.SAGA_CONFIRMED),
+                eq(Constants.STATUS_CONFIRMED), anyString(), event.capture()))
+                .thenReturn(Mono.just(confirmed));
+
+        StepVerifier.create(bookingSagaService.complete(booking))
+                .expectNext(confirmed)
+                .verifyComplete();
+        assertEquals(Constants.EVENT_BOOKING_CREATED, event.getValue().getType());
+    }
+
+    @Test
+    void completeLeavesBookingPendingWhenConfirmFails() {
+        Booking booking = booking(Constants.SAGA_SEATS_HELD);
+        when(flightServiceClient.confirmReservation(FLIGHT_ID, RESERVATION_ID))
+                .thenReturn(Mono.error(new RuntimeException("flight service down")));
+
+        StepVerifier.create(bookingSagaService.complete(booking))
+                .assertNext(pending -> assertEquals(Constants.STATUS_PENDING, pending.getStatus()))
+                .verifyComplete();
+        verify(bookingRepository, never()).advanceSaga(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void advanceReturnsCurrentBookingWhenStepLosesRace() {
+        Booking booking = booking(Constants.SAGA_SEATS_HELD);
+        Booking alreadyConfirmed = booking(Constants.SAGA_CONFIRMED);
+        when(flightServiceClient.confirmReservation(FLIGHT_ID, RESERVATION_ID))
+                .thenReturn(Mono.just(ApiResponse.success("Confirmed", new ReservationDto())));
+        when(bookingRepository.advanceSaga(any(), any(), any(), any(), any(), any())).thenReturn(Mono.empty());
+        when(bookingRepository.findById("b1")).thenReturn(Mono.just(alreadyConfirmed));
+
+        StepVerifier.create(bookingSagaService.complete(booking))
+                .expectNext(alreadyConfirmed)
+                .verifyComplete();
+    }
+
+    @Test
+    void compensateReleasesSeatsAndFailsBooking() {
+        Booking booking = booking(Constants.SAGA_SEATS_HELD);
+        Booking compensating = booking(Constants.SAGA_COMPENSATING);
+        Booking failed = booking(Constants.SAGA_COMPENSATED);
+        failed.setStatus(Constants.STATUS_FAILED);
+        when(bookingRepository.beginCompensation("b1", "no seats")).thenReturn(Mono.just(compensating));
+        when(flightServiceClient.releaseReservation(FLIGHT_ID, RESERVATION_ID))
+                .thenReturn(Mono.just(ApiResponse.success("Released", new ReservationDto())));
+        ArgumentCaptor<BookingEvent> event = ArgumentCaptor.forClass(BookingEvent.class);
+        when(bookingRepository.advanceSaga(eq("b1"), eq(Constants.SAGA_COMPENSATING), eq(Constants.SAGA_COMPENSATED),
+                eq(Constants.STATUS_FAILED), anyString(), event.capture()))
+                .thenReturn(Mono.just(failed));
+
+        StepVerifier.create(bookingSagaService.compensate(booking, "no seats", true))
+                .expectNext(failed)
+                .verifyComplete();
+        assertEquals(Constants.EVENT_BOOKING_FAILED, event.getValue().getType());
+    }
+
+    @Test
+    void compensateWithoutSeatsSkipsRelease() {
+        Booking booking = booking(Constants.SAGA_STARTED);
+        Booking compensating = booking(Constants.SAGA_COMPENSATING);
+        when(bookingRepository.beginCompensation("b1", "bad request")).thenReturn(Mono.just(compensating));
+        when(bookingRepository.advanceSaga(any(), any(), any(), any(), any(), any()))
+                .thenReturn(Mono.just(booking(Constants.SAGA_COMPENSATED)));
+
+        StepVerifier.create(bookingSagaService.compensate(booking, "bad request", false))
+                .expectNextCount(1)
+                .verifyComplete();
+        verify(flightServiceClient, never()).releaseReservation(anyString(), anyString());
+    }
+
+    @Test
+    void recoveryCompensatesSagaInterruptedBeforeSeatsWereHeld() {
+        Booking stalled = booking(Constants.SAGA_STARTED);
+        Booking compensating = booking(Constants.SAGA_COMPENSATING);
+        when(bookingRepository.findStalledSagas(any(LocalDateTime.class), anyInt())).thenReturn(Flux.just(stalled));
+        when(bookingRepository.claimStalledSaga(eq("b1"), any(), any())).thenReturn(Mono.just(stalled));
+        when(bookingRepository.beginCompensation(eq("b1"), anyString())).thenReturn(Mono.just(compensating));
+        when(flightServiceClient.releaseReservation(FLIGHT_ID, RESERVATION_ID))
+                .thenReturn(Mono.just(ApiResponse.success("Released", new ReservationDto())));
+        when(bookingRepository.advanceSaga(eq("b1"), eq(Constants.SAGA_COMPENSATING), eq(Constants.SAGA_COMPENSATED),
+                any(), any(), any()))
+                .thenReturn(Mono.just(booking(Constants.SAGA_COMPENSATED)));
+
+        StepVerifier.create(bookingSagaService.recoverStalledSagas())
+                .expectNext(1L)
+                .verifyComplete();
+    }
+
+    @Test
+    void recoveryRetriesConfirmationOfHeldSeats() {
+        Booking stalled = booking(Constants.SAGA_SEATS_HELD);
+        stalled.setRecoveryAttempts(1);
+        when(bookingRepository.findStalledSagas(any(LocalDateTime.class), anyInt())).thenReturn(Flux.just(stalled));
+        when(bookingRepository.claimStalledSaga(eq("b1"), any(), any())).thenReturn(Mono.just(stalled));
+        when(flightServiceClient.confirmReservation(FLIGHT_ID, RESERVATION_ID))
+                .thenReturn(Mono.just(ApiResponse.success("Confirmed", new ReservationDto())));
+        when(bookingRepository.advanceSaga(eq("b1"), eq(Constants.SAGA_SEATS_HELD), eq(Constants.SAGA_CONFIRMED),
+                any(), any(), any()))
+                .thenReturn(Mono.just(booking(Constants.SAGA_CONFIRMED)));
+
+        StepVerifier.create(bookingSagaService.recoverStalledSagas())
+                .expectNext(1L)
+                .verifyComplete();
+        verify(bookingRepository, never()).beginCompensation(any(), any());
+    }
+
+    @Test
+    void recoveryGivesUpOnHeldSeatsAfterMaxAttempts() {
+        Booking stalled = booking(Constants.SAGA_SEATS_HELD);
+        stalled.setRecoveryAttempts(6);
+        when(bookingRepository.findStalledSagas(any(LocalDateTime.class), anyInt())).thenReturn(Flux.just(stalled));
+        when(bookingRepository.claimStalledSaga(eq("b1"), any(), any())).thenReturn(Mono.just(stalled));
+        when(bookingRepository.beginCompensation(eq("b1"), anyString()))
+                .thenReturn(Mono.just(booking(Constants.SAGA_COMPENSATING)));
+        when(flightServiceClient.releaseReservation(FLIGHT_ID, RESERVATION_ID))
+                .thenReturn(Mono.just(ApiResponse.success("Released", new ReservationDto())));
+        when(bookingRepository.advanceSaga(eq("b1"), eq(Constants.SAGA_COMPENSATING), eq(Constants.SAGA_COMPENSATED),
+                any(), any(), any()))
+                .thenReturn(Mono.just(booking(Constants.SAGA_COMPENSATED)));
+
+        StepVerifier.create(bookingSagaService.recoverStalledSagas())
+                .expectNext(1L)
+                .verifyComplete();
+        verify(flightServiceClient, never()).confirmReservation(anyString(), anyString());
+    }
+
+    private Booking booking(String sagaState) {
+        return Booking.builder()
+                .id("b1")
+                .pnr("PNRABC")
+                .flightId(FLIGHT_ID)
+                .reservationId(RESERVATION_ID)
+                .seatNumbers(List.of("4A"))
+                .status(Constants.STATUS_PENDING)
+                .sagaState(sagaState)
+                .recoveryAttempts(0)
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,118 @@
+package com.service.impl;
+
+import com.client.PriceQuote;
+import com.client.QuoteTokenVerifier;
+import com.dto.request.BookingRequest;
+import com.dto.request.PassengerDetails;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BookingServiceImplTest {
+
+    private static final String TOKEN = "payload.signature";
+
+    @Mock
+    private QuoteTokenVerifier quoteTokenVerifier;
+
+    @InjectMocks
+    private BookingServiceImpl bookingService;
+
+    @Test
+    void usesQuoteForTheSameFlightAndSeats() {
+        PriceQuote quote = quote("FL1", "ECONOMY", "12A", "12B");
+        when(quoteTokenVerifier.verify(TOKEN)).thenReturn(Optional.of(quote));
+
+        assertSame(quote, bookingService.resolveQuote(request("FL1", null, "12B", "12A")));
+    }
+
+    @Test
+    void ignoresRequestWithoutQuote() {
+        BookingRequest request = request("FL1", null, "12A");
+        request.setQuoteToken(null);
+
+        assertNull(bookingService.resolveQuote(request));
+    }
+
+    @Test
+    void ignoresQuoteThatFailsVerification() {
+        when(quoteTokenVerifier.verify(TOKEN)).thenReturn(Optional.empty());
+
+        assertNull(bookingService.resolveQuote(request("FL1", null, "12A")));
+    }
+
+    @Test
+    void ignoresQuoteForDifferentFlight() {
+        when(quoteTokenVerifier.verify(TOKEN)).thenReturn(Optional.of(quote("FL2", "ECONOMY", "12A")));
+
+        assertNull(bookingService.resolveQuote(request("FL1", null, "12A")));
+    }
+
+    @Test
+    void ignoresQuoteForDifferentSeats() {
+        when(quoteTokenVerifier.verify(TOKEN)).thenReturn(Optional.of(quote("FL1", "ECONOMY", "12A", "12B")));
+
+        assertNull(bookingService.resolveQuote(request("FL1", null, "12A", "12C")));
+    }
+
+    @Test
+    void ignoresQuoteForDifferentPassengerCount() {
+        when(quoteTokenVerifier.verify(TOKEN)).thenReturn(Optional.of(quote("FL1", "ECONOMY", "12A")));
+
+        assertNull(bookingService.resolveQuote(request("FL1", null, "12A", "12B")));
+    }
+
+    @Test
+    void usesQuoteForAssignedSeatsInTheSameCabin() {
+        PriceQuote quote = quote("FL1", "BUSINESS", (String) null);
+        when(quoteTokenVerifier.verify(TOKEN)).thenReturn(Optional.of(quote));
+
+        assertSame(quote, bookingService.resolveQuote(request("FL1", "business")));
+    }
+
+    @Test
+    void ignoresQuoteForAssignedSeatsInAnotherCabin() {
+        when(quoteTokenVerifier.verify(TOKEN)).thenReturn(Optional.of(quote("FL1", "BUSINESS", (String) null)));
+
+        // No cabin requested means economy
+        assertNull(bookingService.resolveQuote(request("FL1", null)));
+    }
+
+    /**
+     * Request for one passenger per seat, or for one passenger with assigned seats when no seats are given
+     */
+    private BookingRequest request(String flightId, String cabinClass, String... seatNumbers) {
+        int passengers = Math.max(seatNumbers.length, 1);
+        return BookingRequest.builder()
+                .flightId(flightId)
+                .cabinClass(cabinClass)
+                .seatNumbers(List.of(seatNumbers))
+                .passengers(Stream.generate(() -> PassengerDetails.builder().name("A").gender("MALE").age(30).build())
+                        .limit(passengers)
+                        .toList())
+                .quoteToken(TOKEN)
+                .build();
+    }
+
+    private PriceQuote quote(String flightId, String cabinClass, String... seatNumbers) {
+        return PriceQuote.builder()
+                .flightId(flightId)
+                .cabinClass(cabinClass)
+                .passengers(seatNumbers.length)
+                .lines(Stream.of(seatNumbers)
+                        .map(seat -> PriceQuote.Line.builder().seatNumber(seat).cabinClass(cabinClass).fare(5000.0).build())
+                        .toList())
+                .build();
+    }
+}
@@ -0,0 +1,76 @@
+package com.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SequencePNRGeneratorTest {
+
+    private static final String SECRET = "test-secret";
+
+    @Test
+    void issuesPrefixedTenCharacterPnrsFromTheUnambiguousAlphabet() {
+        SequencePNRGenerator generator = new SequencePNRGenerator(1, SECRET);
+
+        for (int i = 0; i < 1000; i++) {
+            String pnr = generator.next();
+            assertTrue(pnr.matches(Constants.PNR_PREFIX + "[A-HJ-NP-Z2-9]{10}"), pnr);
+        }
+    }
+
+    @Test
+    void neverRepeatsWithinANode() {
+        SequencePNRGenerator generator = new SequencePNRGenerator(1, SECRET);
+        Set<String> issued = new HashSet<>();
+
+        // More than one second's sequence, so borrowed seconds are covered too
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(issued.add(generator.next()));
+        }
+    }
+
+    @Test
+    void neverRepeatsUnderConcurrentUse() {
+        SequencePNRGenerator generator = new SequencePNRGenerator(1, SECRET);
+        Set<String> issued = ConcurrentHashMap.newKeySet();
+
+        IntStream.range(0, 20_000).parallel().forEach(i -> issued.add(generator.next()));
+
+        assertEquals(20_000, issued.size());
+    }
+
+    @Test
+    void nodesIssueDistinctPnrs() {
+        SequencePNRGenerator first = new SequencePNRGenerator(1, SECRET);
+        SequencePNRGenerator second = new SequencePNRGenerator(2, SECRET);
+        Set<String> issued = new HashSet<>();
+
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(issued.add(first.next()));
+            assertTrue(issued.add(second.next()));
+        }
+    }
+
+    @Test
+    void secretChangesThePermutation() {
+        String first = new SequencePNRGenerator(1, SECRET).next();
+        String second = new SequencePNRGenerator(1, "another-secret").next();
+
+        assertNotEquals(first, second);
+    }
+
+    @Test
+    void rejectsNodeIdsOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> new SequencePNRGenerator(-1, SECRET));
+        assertThrows(IllegalArgumentException.class,
+                () -> new SequencePNRGenerator(SequencePNRGenerator.MAX_NODE_ID + 1, SECRET));
+    }
+}
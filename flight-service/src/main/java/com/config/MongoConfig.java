@@ -21,6 +21,12 @@ public class MongoConfig extends AbstractReactiveMongoConfiguration {
         return "flightBookingDB";
     }
 
+    // Create the @CompoundIndex definitions declared on the documents
+    @Override
+    protected boolean autoIndexCreation() {
+        return true;
+    }
+
     @Override
     @Bean
     public MongoClient reactiveMongoClient() {
@@ -2,15 +2,22 @@ package com.controller;
 
 import com.dto.request.AirlineRequest;
 import com.dto.request.AirportRequest;
+import com.dto.request.FareAdjustmentRequest;
 import com.dto.request.InventoryRequest;
 import com.dto.response.ApiResponse;
+import com.dto.response.BulkImportResponse;
+import com.dto.response.FareAdjustmentResponse;
 import com.exception.AirlineNotFoundException;
 import com.exception.AirportNotFoundException;
 import com.exception.DuplicateResourceException;
 import com.model.Airline;
+import com.model.AirlinePropagationJob;
 import com.model.Airport;
 import com.repository.AirlineRepository;
 import com.repository.AirportRepository;
+import com.service.AirlinePropagationService;
+import com.service.InventoryExportService;
+import com.service.InventoryImportService;
 import com.service.InventoryService;
 import com.util.Constants;
 import com.util.DateTimeUtil;
@@ -19,12 +26,21 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Objects;
 
 @RestController
 @RequestMapping(Constants.ADMIN_PATH)
@@ -34,6 +50,9 @@ import java.util.List;
 public class AdminController {
 
     private final InventoryService inventoryService;
+    private final InventoryImportService inventoryImportService;
+    private final InventoryExportService inventoryExportService;
+    private final AirlinePropagationService propagationService;
     private final AirlineRepository airlineRepository;
     private final AirportRepository airportRepository;
 
@@ -50,6 +69,41 @@ public class AdminController {
                         .body(response));
     }
 
+    @PostMapping(value = "/inventory/bulk",
+            consumes = {Constants.MEDIA_TYPE_CSV, MediaType.APPLICATION_NDJSON_VALUE})
+    @Operation(summary = "Bulk import flight inventory",
+            description = "Stream a schedule file as CSV (header row with InventoryRequest field names) "
+                    + "or NDJSON (one InventoryRequest per line); rows that fail are reported individually")
+    public Mono<ResponseEntity<ApiResponse<BulkImportResponse>>> importFlightInventory(ServerHttpRequest request) {
+        log.info("Admin: Bulk importing flight inventory");
+
+        return inventoryImportService.importInventory(request.getBody(), request.getHeaders().getContentType())
+                .map(report -> ResponseEntity.ok(ApiResponse.success(
+                        String.format("Imported %d of %d flights", report.getImported(), report.getTotalRows()),
+                        report
+                )));
+    }
+
+    @GetMapping(value = "/inventory/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Export flight inventory",
+            description = "Stream all flights, optionally filtered by airline and departure dates, as gzip-compressed NDJSON")
+    public ResponseEntity<Flux<DataBuffer>> exportFlightInventory(
+            @RequestParam(required = false) String airlineCode,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        log.info("Admin: Exporting flight inventory");
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("flights-" + LocalDate.now() + ".ndjson.gz")
+                        .build()
+                        .toString())
+                .body(inventoryExportService.exportFlights(airlineCode, from, to));
+    }
+
     @PutMapping("/inventory/{inventoryId}")
     @Operation(summary = "Update flight inventory", description = "Update an existing flight schedule")
     public Mono<ResponseEntity<ApiResponse<String>>> updateFlightInventory(
@@ -62,6 +116,18 @@ public class AdminController {
                 .map(ResponseEntity::ok);
     }
 
+    @PostMapping("/inventory/fares/adjust")
+    @Operation(summary = "Adjust fares in bulk",
+            description = "Apply an absolute or percentage fare change to upcoming flights matching an airline, route and date filter; dryRun only counts them")
+    public Mono<ResponseEntity<ApiResponse<FareAdjustmentResponse>>> adjustFares(
+            @Valid @RequestBody FareAdjustmentRequest request) {
+
+        log.info("Admin: Adjusting fares");
+
+        return inventoryService.adjustFares(request)
+                .map(ResponseEntity::ok);
+    }
+
     @PostMapping("/airlines")
     @Operation(summary = "Create airline", description = "Register a new airline in the system")
     public Mono<ResponseEntity<ApiResponse<Airline>>> createAirline(
@@ -107,6 +173,10 @@ public class AdminController {
         return airlineRepository.findByAirlineCode(airlineCode.toUpperCase())
                 .switchIfEmpty(Mono.error(new AirlineNotFoundException(airlineCode)))
                 .flatMap(airline -> {
+                    // Flights keep their own copy of name and logo, which a background job rewrites
+                    boolean flightFieldsChanged = !Objects.equals(airline.getName(), request.getName())
+                            || !Objects.equals(airline.getLogoUrl(), request.getLogoUrl());
+
                     airline.setName(request.getName());
                     airline.setLogoUrl(request.getLogoUrl());
                     airline.setContactEmail(request.getContactEmail());
@@ -115,12 +185,47 @@ public class AdminController {
                     airline.setUpdatedAt(DateTimeUtil.getCurrentTimestamp());
 
                     return airlineRepository.save(airline)
-                            .map(updated -> ResponseEntity.ok(
-                                    ApiResponse.success("Airline updated successfully", updated)
-                            ));
+                            .flatMap(updated -> {
+                                if (!flightFieldsChanged) {
+                                    return Mono.just(ResponseEntity.ok(
+                                            ApiResponse.success("Airline updated successfully", updated)
+                                    ));
+                                }
+                                return propagationService.enqueue(updated)
+                                        .map(job -> ResponseEntity.ok(ApiResponse.success(
+                                                "Airline updated successfully; flights are being updated by job " + job.getId(),
+                                                updated
+                                        )));
+                            });
                 });
     }
 
+    @GetMapping("/airlines/{airlineCode}/propagation-jobs")
+    @Operation(summary = "Get airline propagation jobs",
+            description = "Progress of the background jobs copying airline changes onto flights, newest first")
+    public Mono<ResponseEntity<ApiResponse<List<AirlinePropagationJob>>>> getPropagationJobs(
+            @PathVariable String airlineCode) {
+
+        log.info("Admin: Fetching propagation jobs for airline {}", airlineCode);
+
+        return propagationService.getJobsForAirline(airlineCode)
+                .collectList()
+                .map(jobs -> ResponseEntity.ok(
+                        ApiResponse.success("Propagation jobs retrieved successfully", jobs)
+                ));
+    }
+
+    @GetMapping("/propagation-jobs/{jobId}")
+    @Operation(summary = "Get propagation job", description = "Progress of a background airline propagation job")
+    public Mono<ResponseEntity<ApiResponse<AirlinePropagationJob>>> getPropagationJob(@PathVariable String jobId) {
+        log.info("Admin: Fetching propagation job {}", jobId);
+
+        return propagationService.getJob(jobId)
+                .map(job -> ResponseEntity.ok(
+                        ApiResponse.success("Propagation job retrieved successfully", job)
+                ));
+    }
+
     @GetMapping("/airlines")
     @Operation(summary = "Get all airlines", description = "Retrieve list of all registered airlines")
     public Mono<ResponseEntity<ApiResponse<List<Airline>>>> getAllAirlines() {
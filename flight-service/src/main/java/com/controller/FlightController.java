@@ -2,16 +2,27 @@ package com.controller;
 
 import com.dto.request.CreateFlightRequest;
 import com.dto.request.FlightSearchRequest;
+import com.dto.request.QuoteRequest;
+import com.dto.request.SeatAssignmentRequest;
+import com.dto.request.SeatReservationRequest;
 import com.dto.response.ApiResponse;
 import com.dto.response.FlightSearchResponse;
+import com.dto.response.QuoteResponse;
+import com.dto.response.ReservationResponse;
+import com.dto.response.SeatAssignmentResponse;
+import com.dto.response.SeatPriceTable;
+import com.model.Flight;
 import com.service.FlightService;
+import com.service.QuoteService;
 import com.util.Constants;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Mono;
@@ -26,6 +37,7 @@ import java.util.List;
 public class FlightController {
 
     private final FlightService flightService;
+    private final QuoteService quoteService;
 
     @PostMapping("/search")
     @Operation(summary = "Search flights", description = "Search for available flights based on origin, destination, and date")
@@ -63,17 +75,54 @@ public class FlightController {
                 ));
     }
 
+    @PostMapping("/batch")
+    @Operation(summary = "Get several flights",
+            description = "Retrieve details of several flights in one call, without seat maps; unknown ids are omitted")
+    public Mono<ResponseEntity<ApiResponse<List<Flight>>>> getFlightsByIds(@RequestBody List<String> flightIds) {
+        log.info("Fetching flight details for {} IDs", flightIds.size());
+
+        return flightService.getFlightsByIds(flightIds)
+                .collectList()
+                .map(flights -> ResponseEntity.ok(
+                        ApiResponse.success("Flight details retrieved successfully", flights)
+                ));
+    }
+
     @GetMapping("/{flightId}/seats")
-    @Operation(summary = "Get seat map", description = "Retrieve the seat map for a specific flight")
-    public Mono<ResponseEntity<ApiResponse<Object>>> getSeatMap(@PathVariable String flightId) {
+    @Operation(summary = "Get seat map",
+            description = "Retrieve the seat map for a specific flight; send Accept: "
+                    + Constants.MEDIA_TYPE_COMPACT_SEAT_MAP + " for the compact encoding")
+    public Mono<ResponseEntity<ApiResponse<Object>>> getSeatMap(
+            @PathVariable String flightId,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
         log.info("Fetching seat map for flight: {}", flightId);
 
+        // Clients that accept the compact media type get a layout reference plus availability bitmap
+        if (accept != null && accept.contains(Constants.MEDIA_TYPE_COMPACT_SEAT_MAP)) {
+            return flightService.getCompactSeatMap(flightId)
+                    .map(seatMap -> ResponseEntity.ok()
+                            .contentType(MediaType.parseMediaType(Constants.MEDIA_TYPE_COMPACT_SEAT_MAP))
+                            .body(ApiResponse.success("Seat map retrieved successfully", seatMap)));
+        }
+
         return flightService.getFlightById(flightId)
                 .map(flight -> ResponseEntity.ok(
                         ApiResponse.success("Seat map retrieved successfully", flight.getSeats())
                 ));
     }
 
+    @GetMapping("/{flightId}/seats/prices")
+    @Operation(summary = "Get seat price table",
+            description = "Retrieve every seat's extra charge as distinct charges plus one price class per seat")
+    public Mono<ResponseEntity<ApiResponse<SeatPriceTable>>> getSeatPriceTable(@PathVariable String flightId) {
+        log.info("Fetching seat price table for flight: {}", flightId);
+
+        return flightService.getSeatPriceTable(flightId)
+                .map(table -> ResponseEntity.ok(
+                        ApiResponse.success("Seat price table retrieved successfully", table)
+                ));
+    }
+
     @PutMapping("/{flightId}/seats/reserve")
     public Mono<ResponseEntity<ApiResponse<Void>>> reserveSeats(
             @PathVariable String flightId,
@@ -90,6 +139,36 @@ public class FlightController {
                 )));
     }
 
+    @PostMapping("/{flightId}/seats/assign")
+    @Operation(summary = "Assign best available seats",
+            description = "Pick the best available seats for a group and reserve them atomically")
+    public Mono<ResponseEntity<ApiResponse<SeatAssignmentResponse>>> assignSeats(
+            @PathVariable String flightId,
+            @Valid @RequestBody SeatAssignmentRequest request) {
+
+        log.info("Assigning {} seats for flight {}", request.getPassengers(), flightId);
+
+        return flightService.assignSeats(flightId, request)
+                .map(assignment -> ResponseEntity.ok(
+                        ApiResponse.success("Seats assigned successfully", assignment)
+                ));
+    }
+
+    @PostMapping("/{flightId}/quotes")
+    @Operation(summary = "Quote a price",
+            description = "Price chosen seats or a passenger count at current fares and return a signed, short-lived quote token for booking")
+    public Mono<ResponseEntity<ApiResponse<QuoteResponse>>> createQuote(
+            @PathVariable String flightId,
+            @Valid @RequestBody QuoteRequest request) {
+
+        log.info("Quoting flight {}", flightId);
+
+        return quoteService.createQuote(flightId, request)
+                .map(quote -> ResponseEntity.ok(
+                        ApiResponse.success("Quote created successfully", quote)
+                ));
+    }
+
     @PutMapping("/{flightId}/seats/release")
     public Mono<ResponseEntity<ApiResponse<Void>>> releaseSeats(
             @PathVariable String flightId,
@@ -106,6 +185,51 @@ public class FlightController {
                 )));
     }
 
+    @PostMapping("/{flightId}/reservations")
+    @Operation(summary = "Reserve seats",
+            description = "Reserve seats under a reservation id; retries with the same id are idempotent")
+    public Mono<ResponseEntity<ApiResponse<ReservationResponse>>> createReservation(
+            @PathVariable String flightId,
+            @Valid @RequestBody SeatReservationRequest request) {
+
+        log.info("Reserving seats {} for flight {} (reservation {})",
+                request.getSeatNumbers(), flightId, request.getReservationId());
+
+        return flightService.reserveSeats(flightId, request)
+                .map(reservation -> ResponseEntity.ok(
+                        ApiResponse.success("Seats reserved successfully", reservation)
+                ));
+    }
+
+    @PostMapping("/{flightId}/reservations/{reservationId}/confirm")
+    @Operation(summary = "Confirm reservation", description = "Confirm a held seat reservation")
+    public Mono<ResponseEntity<ApiResponse<ReservationResponse>>> confirmReservation(
+            @PathVariable String flightId,
+            @PathVariable String reservationId) {
+
+        log.info("Confirming reservation {} for flight {}", reservationId, flightId);
+
+        return flightService.confirmReservation(flightId, reservationId)
+                .map(reservation -> ResponseEntity.ok(
+                        ApiResponse.success("Reservation confirmed successfully", reservation)
+                ));
+    }
+
+    @DeleteMapping("/{flightId}/reservations/{reservationId}")
+    @Operation(summary = "Release reservation",
+            description = "Release the seats of a reservation; releasing twice has no further effect")
+    public Mono<ResponseEntity<ApiResponse<ReservationResponse>>> releaseReservation(
+            @PathVariable String flightId,
+            @PathVariable String reservationId) {
+
+        log.info("Releasing reservation {} for flight {}", reservationId, flightId);
+
+        return flightService.releaseReservation(flightId, reservationId)
+                .map(reservation -> ResponseEntity.ok(
+                        ApiResponse.success("Reservation released successfully", reservation)
+                ));
+    }
+
     @PostMapping
     @Operation(summary = "Create new flight (Admin only)")
     public Mono<ResponseEntity<ApiResponse<Object>>> createFlight(
@@ -0,0 +1,43 @@
+package com.controller;
+
+import com.dto.response.ApiResponse;
+import com.dto.response.LoadFactorReport;
+import com.service.ReportService;
+import com.util.Constants;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping(Constants.ADMIN_PATH + "/reports")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Reports", description = "APIs for inventory performance reports")
+public class ReportController {
+
+    private final ReportService reportService;
+
+    @GetMapping("/load-factor")
+    @Operation(summary = "Load-factor report",
+            description = "Seats sold, load factor and projected revenue per route, airline and departure day, "
+                    + "including archived flights")
+    public Mono<ResponseEntity<ApiResponse<LoadFactorReport>>> getLoadFactorReport(
+            @RequestParam(required = false) String airlineCode,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        log.info("Admin: Fetching load-factor report");
+
+        return reportService.getLoadFactorReport(airlineCode, from, to)
+                .map(report -> ResponseEntity.ok(
+                        ApiResponse.success("Report generated successfully", report)
+                ));
+    }
+}
@@ -0,0 +1,90 @@
+package com.controller;
+
+import com.dto.request.ScheduleRequest;
+import com.dto.response.ApiResponse;
+import com.dto.response.ScheduleGenerationResponse;
+import com.model.FlightSchedule;
+import com.service.ScheduleService;
+import com.util.Constants;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@RestController
+@RequestMapping(Constants.ADMIN_PATH + "/schedules")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Schedule Operations", description = "APIs for recurring flight schedules")
+public class ScheduleController {
+
+    private final ScheduleService scheduleService;
+
+    @PostMapping
+    @Operation(summary = "Create schedule",
+            description = "Register a recurring schedule; dated flights are generated for the rolling horizon")
+    public Mono<ResponseEntity<ApiResponse<FlightSchedule>>> createSchedule(
+            @Valid @RequestBody ScheduleRequest request) {
+
+        log.info("Admin: Creating schedule for {}", request.getFlightNumber());
+
+        return scheduleService.createSchedule(request)
+                .map(schedule -> ResponseEntity
+                        .status(HttpStatus.CREATED)
+                        .body(ApiResponse.success("Schedule created successfully", schedule)));
+    }
+
+    @GetMapping
+    @Operation(summary = "Get all schedules", description = "Retrieve all recurring schedules")
+    public Mono<ResponseEntity<ApiResponse<List<FlightSchedule>>>> getAllSchedules() {
+        log.info("Admin: Fetching all schedules");
+
+        return scheduleService.getAllSchedules()
+                .collectList()
+                .map(schedules -> ResponseEntity.ok(
+                        ApiResponse.success("Schedules retrieved successfully", schedules)
+                ));
+    }
+
+    @GetMapping("/{scheduleId}")
+    @Operation(summary = "Get schedule", description = "Retrieve a recurring schedule")
+    public Mono<ResponseEntity<ApiResponse<FlightSchedule>>> getSchedule(@PathVariable String scheduleId) {
+        log.info("Admin: Fetching schedule {}", scheduleId);
+
+        return scheduleService.getScheduleById(scheduleId)
+                .map(schedule -> ResponseEntity.ok(
+                        ApiResponse.success("Schedule retrieved successfully", schedule)
+                ));
+    }
+
+    @DeleteMapping("/{scheduleId}")
+    @Operation(summary = "Deactivate schedule",
+            description = "Stop generating flights for a schedule; existing flights are kept")
+    public Mono<ResponseEntity<ApiResponse<FlightSchedule>>> deactivateSchedule(@PathVariable String scheduleId) {
+        log.info("Admin: Deactivating schedule {}", scheduleId);
+
+        return scheduleService.deactivateSchedule(scheduleId)
+                .map(schedule -> ResponseEntity.ok(
+                        ApiResponse.success("Schedule deactivated successfully", schedule)
+                ));
+    }
+
+    @PostMapping("/generate")
+    @Operation(summary = "Generate scheduled flights",
+            description = "Generate dated flights for all active schedules up to the rolling horizon now")
+    public Mono<ResponseEntity<ApiResponse<ScheduleGenerationResponse>>> generateFlights() {
+        log.info("Admin: Generating scheduled flights");
+
+        return scheduleService.generateFlights()
+                .map(response -> ResponseEntity.ok(
+                        ApiResponse.success("Scheduled flights generated successfully", response)
+                ));
+    }
+}
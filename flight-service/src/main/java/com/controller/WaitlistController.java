@@ -0,0 +1,66 @@
+package com.controller;
+
+import com.dto.request.WaitlistRequest;
+import com.dto.response.ApiResponse;
+import com.dto.response.WaitlistResponse;
+import com.service.WaitlistService;
+import com.util.Constants;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping(Constants.FLIGHTS_PATH + "/{flightId}/waitlist")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Flight Waitlist", description = "APIs for waitlisting on sold-out flights")
+public class WaitlistController {
+
+    private final WaitlistService waitlistService;
+
+    @PostMapping
+    @Operation(summary = "Join waitlist",
+            description = "Queue for seats in a sold-out cabin; seats are held for the customer when they free up")
+    public Mono<ResponseEntity<ApiResponse<WaitlistResponse>>> joinWaitlist(
+            @PathVariable String flightId,
+            @Valid @RequestBody WaitlistRequest request) {
+
+        log.info("Waitlist request for flight {} from {}", flightId, request.getContactEmail());
+
+        return waitlistService.joinWaitlist(flightId, request)
+                .map(entry -> ResponseEntity.status(HttpStatus.CREATED)
+                        .body(ApiResponse.success("Added to waitlist successfully", entry)));
+    }
+
+    @GetMapping("/{entryId}")
+    @Operation(summary = "Get waitlist entry", description = "Current status and queue position of a waitlist entry")
+    public Mono<ResponseEntity<ApiResponse<WaitlistResponse>>> getWaitlistEntry(
+            @PathVariable String flightId,
+            @PathVariable String entryId) {
+
+        return waitlistService.getWaitlistEntry(flightId, entryId)
+                .map(entry -> ResponseEntity.ok(
+                        ApiResponse.success("Waitlist entry retrieved successfully", entry)
+                ));
+    }
+
+    @DeleteMapping("/{entryId}")
+    @Operation(summary = "Leave waitlist", description = "Leave the waitlist, releasing any seats held for the entry")
+    public Mono<ResponseEntity<ApiResponse<WaitlistResponse>>> leaveWaitlist(
+            @PathVariable String flightId,
+            @PathVariable String entryId) {
+
+        log.info("Leaving waitlist entry {} on flight {}", entryId, flightId);
+
+        return waitlistService.leaveWaitlist(flightId, entryId)
+                .map(entry -> ResponseEntity.ok(
+                        ApiResponse.success("Left waitlist successfully", entry)
+                ));
+    }
+}
@@ -0,0 +1,36 @@
+package com.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FareAdjustmentRequest {
+
+    // Filter; at least one of airline or route is required
+    private String airlineCode;
+    private String origin;
+    private String destination;
+    private LocalDate departureFrom;
+    private LocalDate departureTo; // Inclusive
+
+    // Adjustment
+    @NotBlank(message = "Adjustment type is required")
+    private String adjustmentType; // ABSOLUTE, PERCENTAGE
+
+    @NotNull(message = "Adjustment amount is required")
+    private Double amount; // Fare delta, or percent change for PERCENTAGE
+
+    private Double minFare;
+    private Double maxFare;
+
+    private Boolean dryRun; // Only count the affected flights
+}
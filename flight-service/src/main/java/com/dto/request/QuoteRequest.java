@@ -0,0 +1,26 @@
+package com.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuoteRequest {
+
+    // Either the chosen seats, or a passenger count for seats assigned at booking time
+    private List<String> seatNumbers;
+
+    @Min(value = 1, message = "At least 1 passenger required")
+    @Max(value = 9, message = "At most 9 passengers can be quoted together")
+    private Integer passengers;
+
+    private String cabinClass; // ECONOMY, BUSINESS; used with passengers
+}
@@ -0,0 +1,64 @@
+package com.dto.request;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduleRequest {
+
+    @NotBlank(message = "Airline code is required")
+    private String airlineCode;
+
+    @NotBlank(message = "Flight number is required")
+    private String flightNumber;
+
+    @NotBlank(message = "Origin is required")
+    private String origin;
+
+    @NotBlank(message = "Destination is required")
+    private String destination;
+
+    @NotNull(message = "Departure time is required")
+    private LocalTime departureTime;
+
+    @NotNull(message = "Arrival time is required")
+    private LocalTime arrivalTime;
+
+    @Min(value = 0, message = "Arrival day offset cannot be negative")
+    private Integer arrivalDayOffset; // 1 for flights that land the next day
+
+    @NotEmpty(message = "At least one day of week is required")
+    private List<String> daysOfWeek;
+
+    @NotNull(message = "Validity start date is required")
+    private LocalDate validFrom;
+
+    @NotNull(message = "Validity end date is required")
+    private LocalDate validTo;
+
+    @NotBlank(message = "Aircraft type is required")
+    private String aircraftType;
+
+    @NotNull(message = "Total seats is required")
+    @Min(value = 1, message = "At least 1 seat required")
+    private Integer totalSeats;
+
+    @NotNull(message = "Base fare is required")
+    @Min(value = 0, message = "Fare must be non-negative")
+    private Double baseFare;
+
+    private String currency;
+}
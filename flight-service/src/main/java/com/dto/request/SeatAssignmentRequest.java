@@ -0,0 +1,31 @@
+package com.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatAssignmentRequest {
+
+    @NotNull(message = "Number of passengers is required")
+    @Min(value = 1, message = "At least 1 passenger required")
+    @Max(value = 9, message = "At most 9 passengers can be seated together")
+    private Integer passengers;
+
+    private String cabinClass; // ECONOMY, BUSINESS, FIRST_CLASS
+
+    private String seatPreference; // WINDOW, AISLE
+
+    @Builder.Default
+    private Boolean keepTogether = true;
+
+    // Client-generated id; a retried assignment returns the seats it already reserved
+    private String reservationId;
+}
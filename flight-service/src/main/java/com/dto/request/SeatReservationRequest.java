@@ -0,0 +1,22 @@
+package com.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatReservationRequest {
+
+    // Client-generated id; retries with the same id never reserve twice
+    private String reservationId;
+
+    @NotEmpty(message = "At least one seat must be selected")
+    private List<String> seatNumbers;
+}
@@ -0,0 +1,32 @@
+package com.dto.request;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WaitlistRequest {
+
+    @NotNull(message = "Number of passengers is required")
+    @Min(value = 1, message = "At least 1 passenger required")
+    @Max(value = 9, message = "At most 9 passengers can join the waitlist together")
+    private Integer passengers;
+
+    private String cabinClass; // ECONOMY, BUSINESS, FIRST_CLASS - defaults to ECONOMY
+
+    @NotBlank(message = "Contact name is required")
+    private String contactName;
+
+    @NotBlank(message = "Contact email is required")
+    @Email(message = "Invalid email format")
+    private String contactEmail;
+}
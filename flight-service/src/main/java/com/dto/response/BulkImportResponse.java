@@ -0,0 +1,36 @@
+package com.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkImportResponse {
+
+    private Long totalRows;
+    private Long imported;
+    private Long failed;
+
+    private List<RowError> errors;
+
+    // True when more rows failed than are listed in errors
+    private Boolean errorsTruncated;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private Long line;
+        private String flightNumber;
+        private String message;
+    }
+}
@@ -0,0 +1,21 @@
+package com.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompactSeatMap {
+
+    private String flightId;
+
+    private String layout; // SeatGenerator layout reference, e.g. "ABC_DEF:B3"
+    private Integer seatCount;
+    private Integer availableSeats;
+
+    private String availability; // Base64 bitmap, one bit per seat in layout order
+}
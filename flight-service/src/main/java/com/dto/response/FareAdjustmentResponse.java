@@ -0,0 +1,20 @@
+package com.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class FareAdjustmentResponse {
+
+    private Boolean dryRun;
+    private Long matchedFlights;
+    private Long updatedFlights; // Null for a dry run
+    private Integer chunks;
+}
@@ -6,6 +6,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 
 @Data
 @Builder
@@ -28,6 +29,8 @@ public class FlightSearchResponse {
     private String duration; // Calculated duration
 
     private Double baseFare;
+    private Double currentFare; // Economy fare from the pricing engine
+    private Map<String, Double> cabinFares;
     private String currency;
 
     private Integer availableSeats;
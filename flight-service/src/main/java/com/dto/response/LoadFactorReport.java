@@ -0,0 +1,52 @@
+package com.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class LoadFactorReport {
+
+    private LocalDate from;
+    private LocalDate to; // Inclusive
+    private String airlineCode;
+    private LocalDateTime generatedAt;
+
+    private Long totalFlights;
+    private Long totalSeats;
+    private Long seatsSold;
+    private Double loadFactor;
+
+    private List<Row> rows;
+
+    /**
+     * Figures for one route, airline and departure day
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Row {
+        private String origin;
+        private String destination;
+        private String airlineCode;
+        private String date;
+        private String currency;
+
+        private Long flights;
+        private Long totalSeats;
+        private Long seatsSold;
+        private Double loadFactor;
+        private Double projectedRevenue; // Seats sold at base fare
+    }
+}
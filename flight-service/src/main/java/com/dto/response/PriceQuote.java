@@ -0,0 +1,53 @@
+package com.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Priced offer for seats on a flight. This is the signed payload of a quote token, so booking
+ * service can take flight details and the fare from it without calling flight service again.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PriceQuote {
+
+    private String flightId;
+    private String flightNumber;
+    private String origin;
+    private String destination;
+    private LocalDateTime departureDateTime;
+    private String currency;
+    private Integer availableSeats; // At quote time
+
+    private String cabinClass; // Set for quotes without seat numbers
+    private Integer passengers;
+    private List<Line> lines;
+    private Double totalFare;
+
+    private Long issuedAt; // Epoch millis
+    private Long expiresAt; // Epoch millis
+
+    /**
+     * Fare for one passenger
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Line {
+        private String seatNumber;
+        private String cabinClass;
+        private Double fare;
+        private Double seatCharge;
+    }
+}
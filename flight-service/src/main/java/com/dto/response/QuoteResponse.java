@@ -0,0 +1,19 @@
+package com.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuoteResponse {
+
+    private String quoteToken; // Pass to booking to book at this price
+    private LocalDateTime expiresAt;
+    private PriceQuote quote;
+}
@@ -0,0 +1,20 @@
+package com.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationResponse {
+
+    private String reservationId;
+    private String flightId;
+    private List<String> seatNumbers;
+    private String status;
+}
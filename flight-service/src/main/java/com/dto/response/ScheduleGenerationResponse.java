@@ -0,0 +1,21 @@
+package com.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduleGenerationResponse {
+
+    private LocalDate horizonEnd;
+    private Integer schedulesProcessed;
+    private Integer schedulesFailed;
+    private Integer flightsCreated;
+    private Integer flightsSkipped; // Already existed
+}
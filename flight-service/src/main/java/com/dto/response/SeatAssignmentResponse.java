@@ -0,0 +1,20 @@
+package com.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatAssignmentResponse {
+
+    private String flightId;
+    private String reservationId;
+    private String cabinClass;
+    private List<String> seatNumbers;
+}
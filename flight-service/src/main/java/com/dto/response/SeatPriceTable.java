@@ -0,0 +1,26 @@
+package com.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatPriceTable {
+
+    private String flightId;
+
+    private String layout; // SeatGenerator layout reference, e.g. "ABC_DEF:B3"
+    private Integer seatCount;
+    private String currency;
+
+    private List<Double> charges; // Distinct seat charges; index 0 is always 0.0
+
+    // One character per seat in layout order, the base-62 index into charges
+    private String priceClasses;
+}
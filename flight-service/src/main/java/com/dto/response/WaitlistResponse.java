@@ -0,0 +1,32 @@
+package com.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WaitlistResponse {
+
+    private String entryId;
+    private String flightId;
+    private String cabinClass;
+    private Integer passengers;
+    private String status;
+
+    // 1-based place in the cabin queue, only while waiting
+    private Long position;
+
+    // Seat hold to book with, once promoted
+    private String reservationId;
+    private List<String> seatNumbers;
+    private LocalDateTime holdExpiresAt;
+
+    private LocalDateTime createdAt;
+}
@@ -79,6 +79,102 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
     }
 
+    @ExceptionHandler(ScheduleNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleScheduleNotFound(
+            ScheduleNotFoundException ex,
+            ServerWebExchange exchange) {
+
+        ErrorResponse error = ErrorResponse.builder()
+                .success(false)
+                .error("Schedule Not Found")
+                .message(ex.getMessage())
+                .status(HttpStatus.NOT_FOUND.value())
+                .path(exchange.getRequest().getPath().value())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+    }
+
+    @ExceptionHandler(JobNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleJobNotFound(
+            JobNotFoundException ex,
+            ServerWebExchange exchange) {
+
+        ErrorResponse error = ErrorResponse.builder()
+                .success(false)
+                .error("Job Not Found")
+                .message(ex.getMessage())
+                .status(HttpStatus.NOT_FOUND.value())
+                .path(exchange.getRequest().getPath().value())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+    }
+
+    @ExceptionHandler(ReservationNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleReservationNotFound(
+            ReservationNotFoundException ex,
+            ServerWebExchange exchange) {
+
+        ErrorResponse error = ErrorResponse.builder()
+                .success(false)
+                .error("Reservation Not Found")
+                .message(ex.getMessage())
+                .status(HttpStatus.NOT_FOUND.value())
+                .path(exchange.getRequest().getPath().value())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+    }
+
+    @ExceptionHandler(WaitlistEntryNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleWaitlistEntryNotFound(
+            WaitlistEntryNotFoundException ex,
+            ServerWebExchange exchange) {
+
+        ErrorResponse error = ErrorResponse.builder()
+                .success(false)
+                .error("Waitlist Entry Not Found")
+                .message(ex.getMessage())
+                .status(HttpStatus.NOT_FOUND.value())
+                .path(exchange.getRequest().getPath().value())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+    }
+
+    @ExceptionHandler(SeatUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleSeatUnavailable(
+            SeatUnavailableException ex,
+            ServerWebExchange exchange) {
+
+        ErrorResponse error = ErrorResponse.builder()
+                .success(false)
+                .error("Seat Unavailable")
+                .message(ex.getMessage())
+                .status(HttpStatus.CONFLICT.value())
+                .path(exchange.getRequest().getPath().value())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidRequest(
+            InvalidRequestException ex,
+            ServerWebExchange exchange) {
+
+        ErrorResponse error = ErrorResponse.builder()
+                .success(false)
+                .error("Invalid Request")
+                .message(ex.getMessage())
+                .status(HttpStatus.BAD_REQUEST.value())
+                .path(exchange.getRequest().getPath().value())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+
     @ExceptionHandler(WebExchangeBindException.class)
     public ResponseEntity<ErrorResponse> handleValidationErrors(
             WebExchangeBindException ex,
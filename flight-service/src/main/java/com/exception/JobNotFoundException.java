@@ -0,0 +1,8 @@
+package com.exception;
+
+public class JobNotFoundException extends RuntimeException {
+
+    public JobNotFoundException(String jobId) {
+        super(String.format("Job with ID '%s' not found", jobId));
+    }
+}
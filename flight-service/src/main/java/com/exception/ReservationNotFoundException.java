@@ -0,0 +1,14 @@
+package com.exception;
+
+public class ReservationNotFoundException extends RuntimeException {
+
+    public ReservationNotFoundException(String message) {
+        super(message);
+    }
+
+    public static ReservationNotFoundException forId(String flightId, String reservationId) {
+        return new ReservationNotFoundException(
+                String.format("Reservation '%s' not found on flight '%s'", reservationId, flightId)
+        );
+    }
+}
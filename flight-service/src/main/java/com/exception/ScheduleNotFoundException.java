@@ -0,0 +1,8 @@
+package com.exception;
+
+public class ScheduleNotFoundException extends RuntimeException {
+
+    public ScheduleNotFoundException(String scheduleId) {
+        super(String.format("Flight schedule with ID '%s' not found", scheduleId));
+    }
+}
@@ -0,0 +1,14 @@
+package com.exception;
+
+public class WaitlistEntryNotFoundException extends RuntimeException {
+
+    public WaitlistEntryNotFoundException(String message) {
+        super(message);
+    }
+
+    public static WaitlistEntryNotFoundException forId(String flightId, String entryId) {
+        return new WaitlistEntryNotFoundException(
+                String.format("Waitlist entry '%s' not found on flight '%s'", entryId, flightId)
+        );
+    }
+}
@@ -0,0 +1,70 @@
+package com.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Seat write counters for a single flight. Updated lock-free on the request path;
+ * the write rate is folded into a moving average by the periodic tick.
+ */
+public class FlightWriteStats {
+
+    // Upper bounds in milliseconds of the latency histogram buckets; the last bucket is unbounded
+    static final long[] LATENCY_BUCKETS_MS = {1, 2, 5, 10, 25, 50, 100, 250, 500, 1000};
+
+    private final String flightId;
+
+    final LongAdder attempts = new LongAdder();
+    final LongAdder conflicts = new LongAdder();
+    final LongAdder retries = new LongAdder();
+    final LongAdder totalLatencyNanos = new LongAdder();
+    final LongAdder[] latencyBuckets = new LongAdder[LATENCY_BUCKETS_MS.length + 1];
+
+    // Only touched by the tick thread
+    private long attemptsAtLastTick;
+    private volatile double writeRatePerSecond;
+    private volatile long lastActiveTick;
+
+    FlightWriteStats(String flightId) {
+        this.flightId = flightId;
+        for (int i = 0; i < latencyBuckets.length; i++) {
+            latencyBuckets[i] = new LongAdder();
+        }
+    }
+
+    void recordLatency(long nanos) {
+        totalLatencyNanos.add(nanos);
+        long millis = nanos / 1_000_000;
+        int bucket = 0;
+        while (bucket < LATENCY_BUCKETS_MS.length && millis > LATENCY_BUCKETS_MS[bucket]) {
+            bucket++;
+        }
+        latencyBuckets[bucket].increment();
+    }
+
+    /**
+     * Fold the writes since the previous tick into the moving average
+     */
+    void tick(long tickNumber, double tickSeconds, double alpha) {
+        long currentAttempts = attempts.sum();
+        long delta = currentAttempts - attemptsAtLastTick;
+        attemptsAtLastTick = currentAttempts;
+
+        if (delta > 0) {
+            lastActiveTick = tickNumber;
+        }
+        double instantRate = delta / tickSeconds;
+        writeRatePerSecond = writeRatePerSecond + alpha * (instantRate - writeRatePerSecond);
+    }
+
+    public String getFlightId() {
+        return flightId;
+    }
+
+    public double getWriteRatePerSecond() {
+        return writeRatePerSecond;
+    }
+
+    long getLastActiveTick() {
+        return lastActiveTick;
+    }
+}
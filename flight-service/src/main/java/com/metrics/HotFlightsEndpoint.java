@@ -0,0 +1,34 @@
+package com.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Actuator endpoint listing flights with the highest seat write rate: /actuator/hotflights
+ */
+@Component
+@Endpoint(id = "hotflights")
+@RequiredArgsConstructor
+public class HotFlightsEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final SeatWriteMetrics seatWriteMetrics;
+
+    @ReadOperation
+    public List<Map<String, Object>> hotFlights(@Nullable Integer limit) {
+        return seatWriteMetrics.hotFlights(limit != null ? limit : DEFAULT_LIMIT);
+    }
+
+    @ReadOperation
+    public Map<String, Object> flight(@Selector String flightId) {
+        return seatWriteMetrics.flight(flightId);
+    }
+}
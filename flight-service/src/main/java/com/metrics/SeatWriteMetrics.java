@@ -0,0 +1,189 @@
+package com.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Contention metrics for the seat write path (reserve, release, assign, updateFlightSeats).
+ * Aggregate counters and latency histograms go to Micrometer tagged by operation only;
+ * per-flight numbers are kept in a bounded in-memory table and exposed through the
+ * hotflights actuator endpoint, so flight ids never become metric tags.
+ */
+@Component
+@Slf4j
+public class SeatWriteMetrics {
+
+    public static final String OP_RESERVE = "reserve";
+    public static final String OP_RELEASE = "release";
+    public static final String OP_CONFIRM = "confirm";
+    public static final String OP_ASSIGN = "assign";
+    public static final String OP_UPDATE_SEATS = "updateFlightSeats";
+
+    private static final String OVERFLOW_FLIGHT_ID = "_untracked";
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, FlightWriteStats> flightStats = new ConcurrentHashMap<>();
+    private final FlightWriteStats overflowStats = new FlightWriteStats(OVERFLOW_FLIGHT_ID);
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final AtomicLong tickNumber = new AtomicLong();
+
+    @Value("${app.metrics.hot-flights.max-tracked:10000}")
+    private int maxTrackedFlights;
+
+    @Value("${app.metrics.hot-flights.tick-ms:5000}")
+    private long tickMillis;
+
+    @Value("${app.metrics.hot-flights.rate-window-seconds:60}")
+    private long rateWindowSeconds;
+
+    @Value("${app.metrics.hot-flights.idle-ticks-before-eviction:120}")
+    private long idleTicksBeforeEviction;
+
+    public SeatWriteMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Count a write attempt and time it from subscription until it terminates
+     */
+    public <T> Mono<T> timed(String operation, String flightId, Mono<T> write) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            FlightWriteStats stats = statsFor(flightId);
+            stats.attempts.increment();
+            counter("flight.seat.write.attempts", operation).increment();
+
+            return write.doFinally(signal -> {
+                long elapsed = System.nanoTime() - start;
+                stats.recordLatency(elapsed);
+                timer(operation, outcomeOf(signal)).record(elapsed, TimeUnit.NANOSECONDS);
+            });
+        });
+    }
+
+    /**
+     * A conditional seat update matched nothing because the seats changed underneath it
+     */
+    public void recordConflict(String operation, String flightId) {
+        statsFor(flightId).conflicts.increment();
+        counter("flight.seat.write.conflicts", operation).increment();
+    }
+
+    /**
+     * An operation re-read the flight and tried again after a conflict
+     */
+    public void recordRetry(String operation, String flightId) {
+        statsFor(flightId).retries.increment();
+        counter("flight.seat.write.retries", operation).increment();
+    }
+
+    /**
+     * Flights ranked by their recent write rate
+     */
+    public List<Map<String, Object>> hotFlights(int limit) {
+        return flightStats.values().stream()
+                .filter(stats -> stats.getWriteRatePerSecond() > 0)
+                .sorted(Comparator.comparingDouble(FlightWriteStats::getWriteRatePerSecond).reversed())
+                .limit(limit)
+                .map(this::describe)
+                .toList();
+    }
+
+    public Map<String, Object> flight(String flightId) {
+        FlightWriteStats stats = flightStats.get(flightId);
+        return stats != null ? describe(stats) : null;
+    }
+
+    @Scheduled(fixedRateString = "${app.metrics.hot-flights.tick-ms:5000}")
+    public void tick() {
+        long tick = tickNumber.incrementAndGet();
+        double tickSeconds = tickMillis / 1000.0;
+        double alpha = 1 - Math.exp(-tickSeconds / rateWindowSeconds);
+
+        flightStats.values().forEach(stats -> stats.tick(tick, tickSeconds, alpha));
+        overflowStats.tick(tick, tickSeconds, alpha);
+
+        // Forget flights that have been idle for a while so the table stays bounded
+        flightStats.values().removeIf(stats -> tick - stats.getLastActiveTick() > idleTicksBeforeEviction);
+    }
+
+    private FlightWriteStats statsFor(String flightId) {
+        FlightWriteStats stats = flightStats.get(flightId);
+        if (stats != null) {
+            return stats;
+        }
+        if (flightStats.size() >= maxTrackedFlights) {
+            return overflowStats;
+        }
+        return flightStats.computeIfAbsent(flightId, id -> {
+            FlightWriteStats created = new FlightWriteStats(id);
+            created.tick(tickNumber.get(), 1, 0);
+            return created;
+        });
+    }
+
+    private Map<String, Object> describe(FlightWriteStats stats) {
+        long attempts = stats.attempts.sum();
+        long conflicts = stats.conflicts.sum();
+
+        Map<String, Long> latencyHistogram = new LinkedHashMap<>();
+        for (int i = 0; i < stats.latencyBuckets.length; i++) {
+            String bucket = i < FlightWriteStats.LATENCY_BUCKETS_MS.length
+                    ? "le_" + FlightWriteStats.LATENCY_BUCKETS_MS[i] + "ms"
+                    : "gt_" + FlightWriteStats.LATENCY_BUCKETS_MS[i - 1] + "ms";
+            latencyHistogram.put(bucket, stats.latencyBuckets[i].sum());
+        }
+
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("flightId", stats.getFlightId());
+        description.put("writeRatePerSecond", Math.round(stats.getWriteRatePerSecond() * 100) / 100.0);
+        description.put("attempts", attempts);
+        description.put("conflicts", conflicts);
+        description.put("retries", stats.retries.sum());
+        description.put("conflictRatio", attempts > 0 ? (double) conflicts / attempts : 0.0);
+        description.put("meanLatencyMs", attempts > 0
+                ? stats.totalLatencyNanos.sum() / 1_000_000.0 / attempts
+                : 0.0);
+        description.put("latencyHistogram", latencyHistogram);
+        return description;
+    }
+
+    private Counter counter(String name, String operation) {
+        return counters.computeIfAbsent(name + ":" + operation, key -> Counter.builder(name)
+                .tag("operation", operation)
+                .register(meterRegistry));
+    }
+
+    private Timer timer(String operation, String outcome) {
+        return timers.computeIfAbsent(operation + ":" + outcome, key -> Timer.builder("flight.seat.write.latency")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    private String outcomeOf(SignalType signal) {
+        return switch (signal) {
+            case ON_COMPLETE -> "success";
+            case ON_ERROR -> "error";
+            default -> "cancelled";
+        };
+    }
+}
@@ -0,0 +1,48 @@
+package com.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "airline_propagation_jobs")
+@CompoundIndexes({
+        @CompoundIndex(name = "status_created_idx", def = "{'status': 1, 'createdAt': 1}"),
+        @CompoundIndex(name = "airline_created_idx", def = "{'airlineCode': 1, 'createdAt': -1}")
+})
+public class AirlinePropagationJob {
+
+    @Id
+    private String id;
+
+    private String airlineCode;
+
+    // Values copied onto every flight of the airline
+    private String airlineName;
+    private String airlineLogoUrl;
+
+    private String status; // PENDING, RUNNING, COMPLETED, FAILED, SUPERSEDED
+
+    private Long totalFlights;
+    private Long updatedFlights;
+
+    // Flights are walked in _id order; the job resumes after this id
+    private String lastFlightId;
+
+    private String error;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+    private LocalDateTime updatedAt;
+}
@@ -1,16 +1,20 @@
 package com.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
 import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @Data
 @Builder
@@ -19,7 +23,11 @@ import java.util.List;
 @Document(collection = "flights")
 @CompoundIndexes({
         @CompoundIndex(name = "route_date_idx", def = "{'origin': 1, 'destination': 1, 'departureDateTime': 1}"),
-        @CompoundIndex(name = "airline_flight_idx", def = "{'airlineCode': 1, 'flightNumber': 1}")
+        @CompoundIndex(name = "airline_flight_idx", def = "{'airlineCode': 1, 'flightNumber': 1}"),
+        @CompoundIndex(name = "airline_id_idx", def = "{'airlineCode': 1, '_id': 1}"),
+        @CompoundIndex(name = "status_departure_idx", def = "{'status': 1, 'departureDateTime': 1}"),
+        @CompoundIndex(name = "reservation_status_idx", def = "{'reservations.status': 1, 'reservations.updatedAt': 1}", sparse = true),
+        @CompoundIndex(name = "flight_departure_unique_idx", def = "{'flightNumber': 1, 'departureDateTime': 1}", unique = true)
 })
 public class Flight {
 
@@ -44,9 +52,26 @@ public class Flight {
     private Double baseFare;
     private String currency;
 
+    // Computed by the pricing engine when the flight is served, never stored
+    @Transient
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Double currentFare;
+
+    @Transient
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Map<String, Double> cabinFares;
+
     private List<Seat> seats;
     private List<String> daysOfWeek;
 
+    // Schedule this dated flight was generated from, if any
+    private String scheduleId;
+
+    // Reservation ids seen for this flight, used to make reserve/release retries idempotent.
+    // Never serialized: a reservation id is enough to release someone else's hold.
+    @JsonIgnore
+    private List<SeatReservation> reservations;
+
     private String status; // SCHEDULED, DEPARTED, CANCELLED
 
     private LocalDateTime createdAt;
@@ -0,0 +1,57 @@
+package com.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "flight_schedules")
+@CompoundIndexes({
+        @CompoundIndex(name = "flight_validity_idx", def = "{'flightNumber': 1, 'validFrom': 1, 'validTo': 1}"),
+        @CompoundIndex(name = "active_idx", def = "{'active': 1, 'validTo': 1}")
+})
+public class FlightSchedule {
+
+    @Id
+    private String id;
+
+    private String flightNumber;
+    private String airlineCode;
+
+    private String origin;
+    private String destination;
+
+    private LocalTime departureTime;
+    private LocalTime arrivalTime;
+    private Integer arrivalDayOffset; // 1 for flights that land the next day
+
+    private List<String> daysOfWeek; // MON, TUE, ...
+    private LocalDate validFrom;
+    private LocalDate validTo;
+
+    private String aircraftType;
+    private Integer totalSeats;
+    private Double baseFare;
+    private String currency;
+
+    private Boolean active;
+
+    // Last date dated flights have been generated for
+    private LocalDate generatedThrough;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,23 @@
+package com.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatReservation {
+
+    private String reservationId;
+    private List<String> seatNumbers;
+    private String status; // HELD, CONFIRMED, RELEASED
+
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,51 @@
+package com.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "waitlist_entries")
+@CompoundIndexes({
+        @CompoundIndex(name = "flight_cabin_queue_idx", def = "{'flightId': 1, 'cabinClass': 1, 'status': 1, 'sequence': 1}"),
+        // One active entry per contact and flight; contactEmail is stored lower-cased
+        @CompoundIndex(name = "flight_contact_active_unique_idx", def = "{'flightId': 1, 'contactEmail': 1}",
+                unique = true, partialFilter = "{'status': {'$in': ['WAITING', 'PROMOTED']}}"),
+        @CompoundIndex(name = "hold_expiry_idx", def = "{'status': 1, 'holdExpiresAt': 1}")
+})
+public class WaitlistEntry {
+
+    @Id
+    private String id;
+
+    private String flightId;
+    private String cabinClass;
+
+    // Position in the flight's queue, assigned from a per-flight counter
+    private Long sequence;
+
+    private Integer passengers;
+    private String contactName;
+    private String contactEmail;
+
+    private String status; // WAITING, PROMOTED, BOOKED, EXPIRED, CANCELLED
+
+    // Seat hold created on promotion; the customer books it before it expires
+    private String reservationId;
+    private List<String> seatNumbers;
+    private LocalDateTime holdExpiresAt;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,119 @@
+package com.pricing;
+
+import com.model.Flight;
+import com.util.Constants;
+import com.util.DateTimeUtil;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Dynamic fares from load factor, days to departure and cabin. The rules are compiled into
+ * lookup tables at startup, so pricing a flight is a few array reads on data already loaded
+ * with it and never does I/O. It runs for every flight in every search result, so it is kept
+ * free of per-call instrumentation; PricingEngineBenchmark measures it instead.
+ */
+@Component
+@Slf4j
+public class PricingEngine {
+
+    private static final int MAX_LOAD_FACTOR_PERCENT = 100;
+    private static final int MAX_DAYS_TO_DEPARTURE = 365;
+
+    // Percent of seats sold -> multiplier
+    @Value("${app.pricing.load-factor-rules:0:0.9,40:1.0,60:1.1,75:1.25,85:1.45,95:1.7}")
+    private String loadFactorRules;
+
+    // Days until departure -> multiplier
+    @Value("${app.pricing.days-to-departure-rules:0:1.5,3:1.35,7:1.2,14:1.1,21:1.0,45:0.95}")
+    private String daysToDepartureRules;
+
+    // Cabin -> multiplier
+    @Value("${app.pricing.cabin-multipliers:ECONOMY:1.0,BUSINESS:1.6}")
+    private String cabinRules;
+
+    private PricingRuleTable loadFactorTable;
+    private PricingRuleTable daysToDepartureTable;
+    private Map<String, Double> cabinMultipliers;
+
+    @PostConstruct
+    void compileRules() {
+        loadFactorTable = PricingRuleTable.compile(loadFactorRules, MAX_LOAD_FACTOR_PERCENT);
+        daysToDepartureTable = PricingRuleTable.compile(daysToDepartureRules, MAX_DAYS_TO_DEPARTURE);
+
+        cabinMultipliers = compileCabinRules(cabinRules);
+
+        log.info("Pricing rules compiled for cabins {}", cabinMultipliers.keySet());
+    }
+
+    /**
+     * Fare per cabin for a flight at the given time; empty when the flight has no base fare
+     */
+    public Map<String, Double> cabinFares(Flight flight, LocalDateTime now) {
+        if (flight.getBaseFare() == null) {
+            return Map.of();
+        }
+        double demandFare = flight.getBaseFare()
+                * loadFactorTable.multiplier(loadFactorPercent(flight))
+                * daysToDepartureTable.multiplier(daysToDeparture(flight, now));
+
+        Map<String, Double> fares = new LinkedHashMap<>();
+        cabinMultipliers.forEach((cabin, multiplier) -> fares.put(cabin, roundFare(demandFare * multiplier)));
+        return fares;
+    }
+
+    /**
+     * Attach current fares to a flight: the per-cabin table and the economy fare
+     */
+    public Flight applyFares(Flight flight) {
+        Map<String, Double> fares = cabinFares(flight, DateTimeUtil.getCurrentTimestamp());
+        flight.setCabinFares(fares);
+        flight.setCurrentFare(fares.get(Constants.SEAT_ECONOMY));
+        return flight;
+    }
+
+    /**
+     * Parse "CABIN:multiplier" pairs, e.g. "ECONOMY:1.0,BUSINESS:1.6"
+     */
+    static Map<String, Double> compileCabinRules(String rules) {
+        Map<String, Double> cabins = new LinkedHashMap<>();
+        for (String rule : rules.split(",")) {
+            String[] parts = rule.trim().split(":");
+            if (parts.length != 2 || parts[0].isBlank()) {
+                throw new IllegalArgumentException("Invalid cabin rule '" + rule + "', expected cabin:multiplier");
+            }
+            double multiplier = Double.parseDouble(parts[1].trim());
+            if (multiplier <= 0) {
+                throw new IllegalArgumentException("Invalid cabin rule '" + rule + "', multiplier must be positive");
+            }
+            cabins.put(parts[0].trim().toUpperCase(), multiplier);
+        }
+        return Map.copyOf(cabins);
+    }
+
+    private int loadFactorPercent(Flight flight) {
+        Integer total = flight.getTotalSeats();
+        Integer available = flight.getAvailableSeats();
+        if (total == null || available == null || total <= 0) {
+            return 0;
+        }
+        return (total - available) * 100 / total;
+    }
+
+    private int daysToDeparture(Flight flight, LocalDateTime now) {
+        if (flight.getDepartureDateTime() == null) {
+            return MAX_DAYS_TO_DEPARTURE;
+        }
+        return (int) Math.min(Duration.between(now, flight.getDepartureDateTime()).toDays(), MAX_DAYS_TO_DEPARTURE);
+    }
+
+    private double roundFare(double fare) {
+        return Math.round(fare * 100) / 100.0;
+    }
+}
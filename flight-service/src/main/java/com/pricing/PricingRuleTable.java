@@ -0,0 +1,49 @@
+package com.pricing;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Step-function rule table compiled into a dense array, so a lookup is a clamp and an index
+ * instead of a scan over the rules. Rules are written as "threshold:multiplier" pairs, e.g.
+ * "0:0.9,50:1.0,80:1.25"; each multiplier applies from its threshold up to the next one.
+ */
+public final class PricingRuleTable {
+
+    private final double[] multipliers;
+
+    private PricingRuleTable(double[] multipliers) {
+        this.multipliers = multipliers;
+    }
+
+    /**
+     * Compile rules for keys 0..maxKey; keys below the first threshold use its multiplier
+     */
+    public static PricingRuleTable compile(String rules, int maxKey) {
+        TreeMap<Integer, Double> steps = new TreeMap<>();
+        for (String rule : rules.split(",")) {
+            String[] parts = rule.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid pricing rule '" + rule + "', expected threshold:multiplier");
+            }
+            steps.put(Integer.parseInt(parts[0].trim()), Double.parseDouble(parts[1].trim()));
+        }
+        if (steps.isEmpty()) {
+            throw new IllegalArgumentException("Pricing rule table is empty");
+        }
+
+        double[] table = new double[maxKey + 1];
+        for (int key = 0; key <= maxKey; key++) {
+            Map.Entry<Integer, Double> step = steps.floorEntry(key);
+            table[key] = step != null ? step.getValue() : steps.firstEntry().getValue();
+        }
+        return new PricingRuleTable(table);
+    }
+
+    public double multiplier(int key) {
+        if (key < 0) {
+            return multipliers[0];
+        }
+        return multipliers[Math.min(key, multipliers.length - 1)];
+    }
+}
@@ -0,0 +1,56 @@
+package com.pricing;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.dto.response.PriceQuote;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+
+/**
+ * Signs price quotes as "base64url(json).base64url(HMAC-SHA256)". Booking service verifies
+ * them with the same shared secret, so the token can't be altered without invalidating it.
+ */
+@Component
+@RequiredArgsConstructor
+public class QuoteTokenSigner {
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final ObjectMapper objectMapper;
+
+    // Required, from the config server or APP_QUOTES_SECRET; there is deliberately no default
+    @Value("${app.quotes.secret}")
+    private String secret;
+
+    @PostConstruct
+    void requireSecret() {
+        if (secret.isBlank()) {
+            throw new IllegalStateException("app.quotes.secret must not be blank");
+        }
+    }
+
+    public String sign(PriceQuote quote) {
+        try {
+            byte[] payload = objectMapper.writeValueAsBytes(quote);
+
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM));
+            byte[] signature = mac.doFinal(payload);
+
+            Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+            return encoder.encodeToString(payload) + "." + encoder.encodeToString(signature);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize price quote", ex);
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("Could not sign price quote", ex);
+        }
+    }
+}
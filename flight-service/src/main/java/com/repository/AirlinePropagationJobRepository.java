@@ -0,0 +1,53 @@
+package com.repository;
+
+import com.model.AirlinePropagationJob;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.data.mongodb.repository.Update;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface AirlinePropagationJobRepository extends ReactiveMongoRepository<AirlinePropagationJob, String> {
+
+    Flux<AirlinePropagationJob> findByAirlineCodeOrderByCreatedAtDesc(String airlineCode);
+
+    Flux<AirlinePropagationJob> findByStatusOrderByCreatedAtAsc(String status);
+
+    Flux<AirlinePropagationJob> findByStatusAndUpdatedAtBefore(String status, LocalDateTime cutoff);
+
+    /**
+     * Stop earlier jobs of an airline once a newer change has been queued
+     */
+    @Query("{ 'airlineCode': ?0, 'status': { '$in': ['PENDING', 'RUNNING'] } }")
+    @Update("{ '$set': { 'status': 'SUPERSEDED', 'completedAt': ?1, 'updatedAt': ?1 } }")
+    Mono<Long> supersedeActiveJobs(String airlineCode, LocalDateTime now);
+
+    /**
+     * Claim a pending job for this instance
+     */
+    @Query("{ '_id': ?0, 'status': 'PENDING' }")
+    @Update("{ '$set': { 'status': 'RUNNING', 'totalFlights': ?1, 'startedAt': ?2, 'updatedAt': ?2 } }")
+    Mono<Long> markRunning(String jobId, long totalFlights, LocalDateTime now);
+
+    /**
+     * Take over a running job whose owner stopped reporting progress
+     */
+    @Query("{ '_id': ?0, 'status': 'RUNNING', 'updatedAt': ?1 }")
+    @Update("{ '$set': { 'updatedAt': ?2 } }")
+    Mono<Long> claimStalledJob(String jobId, LocalDateTime lastUpdatedAt, LocalDateTime now);
+
+    /**
+     * Record a finished chunk; matches nothing once the job has been superseded
+     */
+    @Query("{ '_id': ?0, 'status': 'RUNNING' }")
+    @Update("{ '$set': { 'lastFlightId': ?1, 'updatedAt': ?3 }, '$inc': { 'updatedFlights': ?2 } }")
+    Mono<Long> recordProgress(String jobId, String lastFlightId, long updatedFlights, LocalDateTime now);
+
+    @Query("{ '_id': ?0, 'status': 'RUNNING' }")
+    @Update("{ '$set': { 'status': ?1, 'error': ?2, 'completedAt': ?3, 'updatedAt': ?3 } }")
+    Mono<Long> finish(String jobId, String status, String error, LocalDateTime now);
+}
@@ -6,6 +6,8 @@ import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+
 @Repository
 public interface AirlineRepository extends ReactiveMongoRepository<Airline, String> {
 
@@ -14,4 +16,6 @@ public interface AirlineRepository extends ReactiveMongoRepository<Airline, Stri
     Flux<Airline> findByIsActive(Boolean isActive);
 
     Mono<Boolean> existsByAirlineCode(String airlineCode);
+
+    Flux<Airline> findByAirlineCodeIn(Collection<String> airlineCodes);
 }
\ No newline at end of file
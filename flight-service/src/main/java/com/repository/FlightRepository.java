@@ -9,7 +9,7 @@ import reactor.core.publisher.Mono;
 import java.time.LocalDateTime;
 
 @Repository
-public interface FlightRepository extends ReactiveMongoRepository<Flight, String> {
+public interface FlightRepository extends ReactiveMongoRepository<Flight, String>, FlightRepositoryCustom {
 
     Flux<Flight> findByOriginAndDestinationAndDepartureDateTimeBetween(
             String origin,
@@ -25,10 +25,7 @@ public interface FlightRepository extends ReactiveMongoRepository<Flight, String
 
     Flux<Flight> findByAirlineCode(String airlineCode);
 
-    Flux<Flight> findByOriginAndDestination(String origin, String destination);
+    Mono<Long> countByAirlineCode(String airlineCode);
 
-    Mono<Boolean> existsByFlightNumberAndDepartureDateTime(
-            String flightNumber,
-            LocalDateTime departureDateTime
-    );
+    Flux<Flight> findByOriginAndDestination(String origin, String destination);
 }
\ No newline at end of file
@@ -0,0 +1,170 @@
+package com.repository;
+
+import com.dto.request.FareAdjustmentRequest;
+import com.dto.response.LoadFactorReport;
+import com.model.Flight;
+import com.model.SeatReservation;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public interface FlightRepositoryCustom {
+
+    /**
+     * Mark the reservation's seats unavailable and record the reservation, only if every seat
+     * is still available and the reservation id has not been seen on this flight before.
+     * @return true if the seats were reserved, false if a seat was taken or the id already exists
+     */
+    Mono<Boolean> reserveSeatsIfAvailable(String flightId, SeatReservation reservation);
+
+    /**
+     * Free the seats of an active (held or confirmed) reservation and mark it released.
+     * @return true if this call released the reservation
+     */
+    Mono<Boolean> releaseReservation(String flightId, SeatReservation reservation);
+
+    /**
+     * Free the seats of a reservation only while it is still held, i.e. not yet confirmed by a booking.
+     * @return true if this call released the reservation
+     */
+    Mono<Boolean> releaseHeldReservation(String flightId, SeatReservation reservation);
+
+    /**
+     * Record a released reservation with no seats, so a late retry of its reserve call is ignored.
+     * @return true if the tombstone was added, false if the id already exists
+     */
+    Mono<Boolean> addReleasedReservation(String flightId, String reservationId);
+
+    /**
+     * Drop released reservations last updated before the cutoff from every flight. Held and
+     * confirmed reservations are kept, so only tombstones old enough to outlive any retry go.
+     * @return number of flights pruned
+     */
+    Mono<Long> pruneReleasedReservations(LocalDateTime releasedBefore);
+
+    /**
+     * Move a held reservation to confirmed.
+     * @return true if this call confirmed the reservation
+     */
+    Mono<Boolean> confirmReservation(String flightId, String reservationId);
+
+    /**
+     * Free seats that were reserved without a reservation id, only if all of them are still taken.
+     * @return true if the seats were released
+     */
+    Mono<Boolean> releaseSeatsIfReserved(String flightId, List<String> seatNumbers);
+
+    /**
+     * Load only the fields needed to encode a seat map: seat numbers, availability and seat counts
+     */
+    Mono<Flight> findSeatMapById(String flightId);
+
+    /**
+     * Load only the fields needed for a seat price table: seat numbers and currency
+     */
+    Mono<Flight> findSeatChargesById(String flightId);
+
+    /**
+     * Load several flights in one query per collection, without seats or reservations. Flights not
+     * found among live flights are looked up in the archive; ids found in neither are skipped.
+     */
+    Flux<Flight> findDetailsByIds(Collection<String> flightIds);
+
+    /**
+     * Find which of the given flights already exist, matched on flight number and departure,
+     * with one query for the whole batch.
+     * @return schedule keys of the existing flights, see {@link #scheduleKey}
+     */
+    Mono<Set<String>> findExistingScheduleKeys(Collection<Flight> flights);
+
+    /**
+     * Insert flights in one unordered bulk write; a failing document does not stop the others.
+     * @return error messages of the documents that were not inserted, keyed by their index in the list
+     */
+    Mono<Map<Integer, String>> insertAllUnordered(List<Flight> flights);
+
+    /**
+     * Id of the last flight in the next chunk of an airline's flights, walking in _id order.
+     * @param afterId id the previous chunk ended at, or null to start from the beginning
+     * @return the chunk's last id, or empty when no flights remain
+     */
+    Mono<String> findAirlineChunkEnd(String airlineCode, String afterId, int chunkSize);
+
+    /**
+     * Copy airline name and logo onto the airline's flights with ids in (afterId, throughId]
+     * @return the number of flights changed
+     */
+    Mono<Long> updateAirlineDetails(String airlineCode, String afterId, String throughId,
+                                    String airlineName, String airlineLogoUrl);
+
+    /**
+     * Stream flights in _id order from a cursor, optionally filtered by airline and departure range
+     */
+    Flux<Flight> streamFlights(String airlineCode, LocalDateTime departureFrom, LocalDateTime departureTo,
+                               int cursorBatchSize);
+
+    /**
+     * Aggregate seats sold, load factor and base-fare revenue per route, airline and departure day,
+     * over both live and archived flights. Cancelled flights are excluded.
+     */
+    Flux<LoadFactorReport.Row> aggregateLoadFactor(String airlineCode, LocalDateTime departureFrom,
+                                                   LocalDateTime departureTo);
+
+    /**
+     * Count upcoming, non-cancelled flights matching a fare adjustment filter
+     */
+    Mono<Long> countFareAdjustable(FareAdjustmentRequest filter, LocalDateTime departingAfter);
+
+    /**
+     * Find the id closing the next chunk of flights matching a fare adjustment filter, in _id order
+     */
+    Mono<String> findFareChunkEnd(FareAdjustmentRequest filter, LocalDateTime departingAfter,
+                                  String afterId, int chunkSize);
+
+    /**
+     * Set baseFare to round(clamp(baseFare * multiplier + increment, minFare, maxFare), 2) for the
+     * matching flights with ids in (afterId, throughId], computed server-side without loading documents
+     */
+    Mono<Long> adjustFares(FareAdjustmentRequest filter, LocalDateTime departingAfter, String afterId,
+                           String throughId, double multiplier, double increment, Double minFare, Double maxFare);
+
+    /**
+     * Mark scheduled flights that departed before the given time as departed
+     * @return the number of flights changed
+     */
+    Mono<Long> markDeparted(LocalDateTime departedBefore);
+
+    /**
+     * Next batch of flights in the given statuses that departed before the cutoff, oldest first
+     */
+    Flux<Flight> findArchivable(LocalDateTime departedBefore, Collection<String> statuses, int limit);
+
+    /**
+     * Copy flights to the archive collection, then remove them from the flights collection.
+     * Flights already in the archive are left as they are, so an interrupted batch can be retried.
+     * @return the number of flights removed from the flights collection
+     */
+    Mono<Long> moveToArchive(List<Flight> flights);
+
+    /**
+     * Create the archive collection's departure index, used by reports that reach into the archive
+     */
+    Mono<Void> ensureArchiveIndexes();
+
+    /**
+     * Look a flight up in the archive collection
+     */
+    Mono<Flight> findArchivedById(String flightId);
+
+    /**
+     * Identity of a dated flight, matching the unique (flightNumber, departureDateTime) index
+     */
+    static String scheduleKey(String flightNumber, LocalDateTime departureDateTime) {
+        return flightNumber + "|" + departureDateTime;
+    }
+}
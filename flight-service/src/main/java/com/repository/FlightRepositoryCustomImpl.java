@@ -0,0 +1,523 @@
+package com.repository;
+
+import com.dto.response.LoadFactorReport;
+import com.dto.request.FareAdjustmentRequest;
+import com.model.Flight;
+import com.model.SeatReservation;
+import com.util.Constants;
+import com.util.DateTimeUtil;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.result.UpdateResult;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationExpression;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.ArithmeticOperators;
+import org.springframework.data.mongodb.core.aggregation.DateOperators;
+import org.springframework.data.mongodb.core.aggregation.UnionWithOperation;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+public class FlightRepositoryCustomImpl implements FlightRepositoryCustom {
+
+    private static final int DUPLICATE_KEY_ERROR_CODE = 11000;
+
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    @Override
+    public Mono<Boolean> reserveSeatsIfAvailable(String flightId, SeatReservation reservation) {
+        List<String> seatNumbers = reservation.getSeatNumbers();
+
+        List<Criteria> criteria = new ArrayList<>();
+        criteria.add(Criteria.where("id").is(flightId));
+        criteria.add(Criteria.where("availableSeats").gte(seatNumbers.size()));
+        criteria.add(Criteria.where("reservations.reservationId").ne(reservation.getReservationId()));
+        seatNumbers.forEach(seatNumber -> criteria.add(seatWithAvailability(seatNumber, true)));
+
+        Update update = new Update()
+                .set("seats.$[seat].isAvailable", false)
+                .inc("availableSeats", -seatNumbers.size())
+                .push("reservations", reservation)
+                .set("updatedAt", DateTimeUtil.getCurrentTimestamp())
+                .filterArray(Criteria.where("seat.seatNumber").in(seatNumbers));
+
+        return updateFlight(criteria, update);
+    }
+
+    @Override
+    public Mono<Boolean> releaseReservation(String flightId, SeatReservation reservation) {
+        return releaseReservationInStatus(flightId, reservation,
+                Constants.RESERVATION_HELD, Constants.RESERVATION_CONFIRMED);
+    }
+
+    @Override
+    public Mono<Boolean> releaseHeldReservation(String flightId, SeatReservation reservation) {
+        return releaseReservationInStatus(flightId, reservation, Constants.RESERVATION_HELD);
+    }
+
+    private Mono<Boolean> releaseReservationInStatus(String flightId, SeatReservation reservation,
+                                                     String... statuses) {
+        List<String> seatNumbers = reservation.getSeatNumbers();
+        LocalDateTime now = DateTimeUtil.getCurrentTimestamp();
+
+        List<Criteria> criteria = new ArrayList<>();
+        criteria.add(Criteria.where("id").is(flightId));
+        criteria.add(Criteria.where("reservations").elemMatch(
+                Criteria.where("reservationId").is(reservation.getReservationId())
+                        .and("status").in((Object[]) statuses)));
+
+        Update update = new Update()
+                .set("seats.$[seat].isAvailable", true)
+                .inc("availableSeats", seatNumbers.size())
+                .set("reservations.$[reservation].status", Constants.RESERVATION_RELEASED)
+                .set("reservations.$[reservation].updatedAt", now)
+                .set("updatedAt", now)
+                .filterArray(Criteria.where("seat.seatNumber").in(seatNumbers))
+                .filterArray(Criteria.where("reservation.reservationId").is(reservation.getReservationId()));
+
+        return updateFlight(criteria, update);
+    }
+
+    @Override
+    public Mono<Boolean> addReleasedReservation(String flightId, String reservationId) {
+        LocalDateTime now = DateTimeUtil.getCurrentTimestamp();
+
+        List<Criteria> criteria = new ArrayList<>();
+        criteria.add(Criteria.where("id").is(flightId));
+        criteria.add(Criteria.where("reservations.reservationId").ne(reservationId));
+
+        Update update = new Update()
+                .push("reservations", SeatReservation.builder()
+                        .reservationId(reservationId)
+                        .seatNumbers(List.of())
+                        .status(Constants.RESERVATION_RELEASED)
+                        .createdAt(now)
+                        .updatedAt(now)
+                        .build());
+
+        return updateFlight(criteria, update);
+    }
+
+    @Override
+    public Mono<Long> pruneReleasedReservations(LocalDateTime releasedBefore) {
+        Query query = new Query(Criteria.where("reservations").elemMatch(
+                Criteria.where("status").is(Constants.RESERVATION_RELEASED)
+                        .and("updatedAt").lt(releasedBefore)));
+
+        // Stored dates are converted from the system zone, so the raw $pull condition matches that
+        Update update = new Update().pull("reservations", new Document("status", Constants.RESERVATION_RELEASED)
+                .append("updatedAt", new Document("$lt",
+                        Date.from(releasedBefore.atZone(ZoneId.systemDefault()).toInstant()))));
+
+        return mongoTemplate.updateMulti(query, update, Flight.class)
+                .map(UpdateResult::getModifiedCount);
+    }
+
+    @Override
+    public Mono<Boolean> confirmReservation(String flightId, String reservationId) {
+        LocalDateTime now = DateTimeUtil.getCurrentTimestamp();
+
+        List<Criteria> criteria = new ArrayList<>();
+        criteria.add(Criteria.where("id").is(flightId));
+        criteria.add(Criteria.where("reservations").elemMatch(
+                Criteria.where("reservationId").is(reservationId)
+                        .and("status").is(Constants.RESERVATION_HELD)));
+
+        Update update = new Update()
+                .set("reservations.$[reservation].status", Constants.RESERVATION_CONFIRMED)
+                .set("reservations.$[reservation].updatedAt", now)
+                .filterArray(Criteria.where("reservation.reservationId").is(reservationId));
+
+        return updateFlight(criteria, update);
+    }
+
+    @Override
+    public Mono<Boolean> releaseSeatsIfReserved(String flightId, List<String> seatNumbers) {
+        List<Criteria> criteria = new ArrayList<>();
+        criteria.add(Criteria.where("id").is(flightId));
+        seatNumbers.forEach(seatNumber -> criteria.add(seatWithAvailability(seatNumber, false)));
+
+        Update update = new Update()
+                .set("seats.$[seat].isAvailable", true)
+                .inc("availableSeats", seatNumbers.size())
+                .set("updatedAt", DateTimeUtil.getCurrentTimestamp())
+                .filterArray(Criteria.where("seat.seatNumber").in(seatNumbers));
+
+        return updateFlight(criteria, update);
+    }
+
+    @Override
+    public Mono<Flight> findSeatMapById(String flightId) {
+        Query query = new Query(Criteria.where("id").is(flightId));
+        query.fields()
+                .include("totalSeats")
+                .include("availableSeats")
+                .include("seats.seatNumber")
+                .include("seats.isAvailable");
+
+        return mongoTemplate.findOne(query, Flight.class);
+    }
+
+    @Override
+    public Mono<Flight> findSeatChargesById(String flightId) {
+        Query query = new Query(Criteria.where("id").is(flightId));
+        query.fields()
+                .include("totalSeats")
+                .include("currency")
+                .include("seats.seatNumber");
+
+        return mongoTemplate.findOne(query, Flight.class);
+    }
+
+    @Override
+    public Flux<Flight> findDetailsByIds(Collection<String> flightIds) {
+        return mongoTemplate.find(detailsQuery(flightIds), Flight.class)
+                .collectList()
+                .flatMapMany(live -> {
+                    Set<String> found = live.stream().map(Flight::getId).collect(Collectors.toSet());
+                    List<String> missing = flightIds.stream().filter(id -> !found.contains(id)).toList();
+                    Flux<Flight> archived = missing.isEmpty()
+                            ? Flux.empty()
+                            : mongoTemplate.find(detailsQuery(missing), Flight.class, Constants.FLIGHTS_ARCHIVE_COLLECTION);
+
+                    return Flux.fromIterable(live).concatWith(archived);
+                });
+    }
+
+    private Query detailsQuery(Collection<String> flightIds) {
+        Query query = new Query(Criteria.where("id").in(flightIds));
+        query.fields()
+                .exclude("seats")
+                .exclude("reservations");
+        return query;
+    }
+
+    @Override
+    public Mono<Set<String>> findExistingScheduleKeys(Collection<Flight> flights) {
+        if (flights.isEmpty()) {
+            return Mono.just(Set.of());
+        }
+
+        // One clause per flight number, each covered by the unique (flightNumber, departureDateTime) index
+        Map<String, Set<LocalDateTime>> departuresByFlightNumber = flights.stream()
+                .collect(Collectors.groupingBy(Flight::getFlightNumber,
+                        Collectors.mapping(Flight::getDepartureDateTime, Collectors.toSet())));
+
+        Criteria[] clauses = departuresByFlightNumber.entrySet().stream()
+                .map(entry -> Criteria.where("flightNumber").is(entry.getKey())
+                        .and("departureDateTime").in(entry.getValue()))
+                .toArray(Criteria[]::new);
+
+        Query query = new Query(new Criteria().orOperator(clauses));
+        query.fields()
+                .include("flightNumber")
+                .include("departureDateTime");
+
+        return mongoTemplate.find(query, Flight.class)
+                .map(flight -> FlightRepositoryCustom.scheduleKey(flight.getFlightNumber(), flight.getDepartureDateTime()))
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public Mono<Map<Integer, String>> insertAllUnordered(List<Flight> flights) {
+        if (flights.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+
+        return mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Flight.class)
+                .insert(flights)
+                .execute()
+                .map(result -> Map.<Integer, String>of())
+                .onErrorResume(this::isBulkWriteFailure, error -> Mono.just(failedInserts(error)));
+    }
+
+    @Override
+    public Mono<String> findAirlineChunkEnd(String airlineCode, String afterId, int chunkSize) {
+        Query query = new Query(airlineRange(airlineCode, afterId))
+                .with(Sort.by(Sort.Direction.ASC, "id"))
+                .limit(chunkSize);
+        query.fields().include("id");
+
+        return mongoTemplate.find(query, Flight.class)
+                .takeLast(1)
+                .next()
+                .map(Flight::getId);
+    }
+
+    @Override
+    public Mono<Long> updateAirlineDetails(String airlineCode, String afterId, String throughId,
+                                           String airlineName, String airlineLogoUrl) {
+        // Flights that already carry the new values are not rewritten
+        Query query = new Query(airlineRange(airlineCode, afterId).lte(throughId)
+                .orOperator(
+                        Criteria.where("airlineName").ne(airlineName),
+                        Criteria.where("airlineLogoUrl").ne(airlineLogoUrl)));
+
+        Update update = new Update()
+                .set("airlineName", airlineName)
+                .set("airlineLogoUrl", airlineLogoUrl)
+                .set("updatedAt", DateTimeUtil.getCurrentTimestamp());
+
+        return mongoTemplate.updateMulti(query, update, Flight.class)
+                .map(result -> result.getModifiedCount());
+    }
+
+    @Override
+    public Flux<Flight> streamFlights(String airlineCode, LocalDateTime departureFrom, LocalDateTime departureTo,
+                                      int cursorBatchSize) {
+        Criteria criteria = new Criteria();
+        if (airlineCode != null) {
+            criteria.and("airlineCode").is(airlineCode);
+        }
+        if (departureFrom != null || departureTo != null) {
+            Criteria departure = criteria.and("departureDateTime");
+            if (departureFrom != null) {
+                departure.gte(departureFrom);
+            }
+            if (departureTo != null) {
+                departure.lt(departureTo);
+            }
+        }
+
+        Query query = new Query(criteria)
+                .with(Sort.by(Sort.Direction.ASC, "id"))
+                .cursorBatchSize(cursorBatchSize);
+
+        return mongoTemplate.find(query, Flight.class);
+    }
+
+    @Override
+    public Flux<LoadFactorReport.Row> aggregateLoadFactor(String airlineCode, LocalDateTime departureFrom,
+                                                          LocalDateTime departureTo) {
+        Criteria criteria = Criteria.where("departureDateTime").gte(departureFrom).lt(departureTo)
+                .and("status").ne(Constants.FLIGHT_CANCELLED)
+                .and("totalSeats").gt(0);
+        if (airlineCode != null) {
+            criteria.and("airlineCode").is(airlineCode);
+        }
+
+        // LocalDateTime values are stored as instants in the JVM zone, so group days in that zone too
+        DateOperators.Timezone zone = DateOperators.Timezone.valueOf(ZoneId.systemDefault().getId());
+
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(criteria),
+                // Departed flights move to the archive after the retention period; report them too
+                UnionWithOperation.unionWith(Constants.FLIGHTS_ARCHIVE_COLLECTION)
+                        .pipeline(Aggregation.match(criteria))
+                        .mapFieldsTo(Flight.class),
+                Aggregation.project("origin", "destination", "airlineCode", "currency", "totalSeats", "baseFare")
+                        .and(DateOperators.DateToString.dateOf("departureDateTime")
+                                .toString("%Y-%m-%d")
+                                .withTimezone(zone)).as("date")
+                        .and(ArithmeticOperators.Subtract.valueOf("totalSeats")
+                                .subtract("availableSeats")).as("seatsSold"),
+                Aggregation.group("origin", "destination", "airlineCode", "date", "currency")
+                        .count().as("flights")
+                        .sum("totalSeats").as("totalSeats")
+                        .sum("seatsSold").as("seatsSold")
+                        .sum(ArithmeticOperators.Multiply.valueOf("seatsSold")
+                                .multiplyBy("baseFare")).as("projectedRevenue"),
+                Aggregation.project("origin", "destination", "airlineCode", "date", "currency",
+                                "flights", "totalSeats", "seatsSold", "projectedRevenue")
+                        .andExclude("_id")
+                        .and(ArithmeticOperators.Divide.valueOf("seatsSold")
+                                .divideBy("totalSeats")).as("loadFactor"),
+                Aggregation.sort(Sort.by("date", "origin", "destination", "airlineCode"))
+        ).withOptions(AggregationOptions.builder().allowDiskUse(true).build());
+
+        return mongoTemplate.aggregate(aggregation, Flight.class, LoadFactorReport.Row.class);
+    }
+
+    @Override
+    public Mono<Long> countFareAdjustable(FareAdjustmentRequest filter, LocalDateTime departingAfter) {
+        return mongoTemplate.count(new Query(fareFilter(filter, departingAfter, null)), Flight.class);
+    }
+
+    @Override
+    public Mono<String> findFareChunkEnd(FareAdjustmentRequest filter, LocalDateTime departingAfter,
+                                         String afterId, int chunkSize) {
+        Query query = new Query(fareFilter(filter, departingAfter, afterId))
+                .with(Sort.by(Sort.Direction.ASC, "id"))
+                .limit(chunkSize);
+        query.fields().include("id");
+
+        return mongoTemplate.find(query, Flight.class)
+                .takeLast(1)
+                .next()
+                .map(Flight::getId);
+    }
+
+    @Override
+    public Mono<Long> adjustFares(FareAdjustmentRequest filter, LocalDateTime departingAfter, String afterId,
+                                  String throughId, double multiplier, double increment,
+                                  Double minFare, Double maxFare) {
+        Query query = new Query(fareFilter(filter, departingAfter, afterId).lte(throughId));
+
+        Object fare = new Document("$add", List.of(new Document("$multiply", List.of("$baseFare", multiplier)), increment));
+        if (maxFare != null) {
+            fare = new Document("$min", List.of(fare, maxFare));
+        }
+        // Fares never go negative, whatever the adjustment
+        fare = new Document("$max", List.of(fare, minFare != null ? minFare : 0.0));
+        Document adjustedFare = new Document("$round", List.of(fare, 2));
+
+        AggregationUpdate update = AggregationUpdate.update()
+                .set("baseFare").toValue((AggregationExpression) context -> adjustedFare)
+                .set("updatedAt").toValue(DateTimeUtil.getCurrentTimestamp());
+
+        return mongoTemplate.updateMulti(query, update, Flight.class)
+                .map(result -> result.getModifiedCount());
+    }
+
+    @Override
+    public Mono<Long> markDeparted(LocalDateTime departedBefore) {
+        Query query = new Query(Criteria.where("status").is(Constants.FLIGHT_SCHEDULED)
+                .and("departureDateTime").lt(departedBefore));
+
+        Update update = new Update()
+                .set("status", Constants.FLIGHT_DEPARTED)
+                .set("updatedAt", DateTimeUtil.getCurrentTimestamp());
+
+        return mongoTemplate.updateMulti(query, update, Flight.class)
+                .map(result -> result.getModifiedCount());
+    }
+
+    @Override
+    public Flux<Flight> findArchivable(LocalDateTime departedBefore, Collection<String> statuses, int limit) {
+        Query query = new Query(Criteria.where("status").in(statuses)
+                .and("departureDateTime").lt(departedBefore))
+                .with(Sort.by(Sort.Direction.ASC, "departureDateTime"))
+                .limit(limit);
+
+        return mongoTemplate.find(query, Flight.class);
+    }
+
+    @Override
+    public Mono<Long> moveToArchive(List<Flight> flights) {
+        if (flights.isEmpty()) {
+            return Mono.just(0L);
+        }
+
+        List<String> ids = flights.stream().map(Flight::getId).toList();
+
+        // Duplicate key errors only mean a previous attempt already archived the flight
+        Mono<Void> copy = mongoTemplate
+                .bulkOps(BulkOperations.BulkMode.UNORDERED, Flight.class, Constants.FLIGHTS_ARCHIVE_COLLECTION)
+                .insert(flights)
+                .execute()
+                .then()
+                .onErrorResume(this::isBulkWriteFailure, error -> {
+                    Optional<BulkWriteError> failure = writeErrors(error).stream()
+                            .filter(writeError -> writeError.getCode() != DUPLICATE_KEY_ERROR_CODE)
+                            .findFirst();
+                    return failure.isPresent()
+                            ? Mono.error(new IllegalStateException("Archiving failed: " + failure.get().getMessage()))
+                            : Mono.empty();
+                });
+
+        return copy.then(mongoTemplate.remove(new Query(Criteria.where("id").in(ids)), Flight.class))
+                .map(result -> result.getDeletedCount());
+    }
+
+    @Override
+    public Mono<Void> ensureArchiveIndexes() {
+        return mongoTemplate.indexOps(Constants.FLIGHTS_ARCHIVE_COLLECTION)
+                .ensureIndex(new Index().on("departureDateTime", Sort.Direction.ASC).named("departure_idx"))
+                .then();
+    }
+
+    @Override
+    public Mono<Flight> findArchivedById(String flightId) {
+        return mongoTemplate.findById(flightId, Flight.class, Constants.FLIGHTS_ARCHIVE_COLLECTION);
+    }
+
+    private Criteria fareFilter(FareAdjustmentRequest filter, LocalDateTime departingAfter, String afterId) {
+        Criteria criteria = Criteria.where("status").nin(Constants.FLIGHT_DEPARTED, Constants.FLIGHT_CANCELLED)
+                .and("baseFare").gte(0); // Numeric fares only
+
+        if (filter.getAirlineCode() != null) {
+            criteria.and("airlineCode").is(filter.getAirlineCode().toUpperCase());
+        }
+        if (filter.getOrigin() != null) {
+            criteria.and("origin").is(filter.getOrigin().toUpperCase());
+        }
+        if (filter.getDestination() != null) {
+            criteria.and("destination").is(filter.getDestination().toUpperCase());
+        }
+
+        // Departed flights are never repriced, even when they are not yet marked as such
+        LocalDateTime from = filter.getDepartureFrom() != null && filter.getDepartureFrom().atStartOfDay().isAfter(departingAfter)
+                ? filter.getDepartureFrom().atStartOfDay()
+                : departingAfter;
+        Criteria departure = criteria.and("departureDateTime").gte(from);
+        if (filter.getDepartureTo() != null) {
+            departure.lt(filter.getDepartureTo().plusDays(1).atStartOfDay());
+        }
+
+        Criteria id = criteria.and("id");
+        return afterId != null ? id.gt(afterId) : id.exists(true);
+    }
+
+    private Criteria airlineRange(String airlineCode, String afterId) {
+        Criteria criteria = Criteria.where("airlineCode").is(airlineCode).and("id");
+        return afterId != null ? criteria.gt(afterId) : criteria.exists(true);
+    }
+
+    private boolean isBulkWriteFailure(Throwable error) {
+        return error instanceof BulkOperationException || driverBulkError(error) != null;
+    }
+
+    private Map<Integer, String> failedInserts(Throwable error) {
+        Map<Integer, String> failures = new HashMap<>();
+        writeErrors(error).forEach(writeError -> failures.put(writeError.getIndex(), writeError.getMessage()));
+        return failures;
+    }
+
+    private List<BulkWriteError> writeErrors(Throwable error) {
+        return error instanceof BulkOperationException bulkError
+                ? bulkError.getErrors()
+                : driverBulkError(error).getWriteErrors();
+    }
+
+    // The reactive template may surface the driver exception directly or wrapped in a DataAccessException
+    private MongoBulkWriteException driverBulkError(Throwable error) {
+        if (error instanceof MongoBulkWriteException bulkError) {
+            return bulkError;
+        }
+        return error.getCause() instanceof MongoBulkWriteException bulkError ? bulkError : null;
+    }
+
+    private Criteria seatWithAvailability(String seatNumber, boolean available) {
+        return Criteria.where("seats").elemMatch(
+                Criteria.where("seatNumber").is(seatNumber).and("isAvailable").is(available));
+    }
+
+    private Mono<Boolean> updateFlight(List<Criteria> criteria, Update update) {
+        return mongoTemplate.updateFirst(new Query(new Criteria().andOperator(criteria)), update, Flight.class)
+                .map(result -> result.getModifiedCount() > 0);
+    }
+}
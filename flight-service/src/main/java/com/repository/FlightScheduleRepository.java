@@ -0,0 +1,30 @@
+package com.repository;
+
+import com.model.FlightSchedule;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.data.mongodb.repository.Update;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+@Repository
+public interface FlightScheduleRepository extends ReactiveMongoRepository<FlightSchedule, String> {
+
+    Flux<FlightSchedule> findByActiveTrueAndValidToGreaterThanEqual(LocalDate date);
+
+    Mono<Boolean> existsByFlightNumberAndActiveTrueAndValidFromLessThanEqualAndValidToGreaterThanEqual(
+            String flightNumber,
+            LocalDate validTo,
+            LocalDate validFrom
+    );
+
+    /**
+     * Move the generation watermark forward; never moves it back if runs overlap
+     */
+    @Query("{ '_id': ?0 }")
+    @Update("{ '$max': { 'generatedThrough': ?1 } }")
+    Mono<Long> advanceGeneratedThrough(String scheduleId, LocalDate generatedThrough);
+}
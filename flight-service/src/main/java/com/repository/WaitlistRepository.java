@@ -0,0 +1,43 @@
+package com.repository;
+
+import com.model.WaitlistEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+@Repository
+public interface WaitlistRepository extends ReactiveMongoRepository<WaitlistEntry, String>, WaitlistRepositoryCustom {
+
+    Flux<WaitlistEntry> findByFlightIdAndCabinClassAndStatusOrderBySequenceAsc(
+            String flightId,
+            String cabinClass,
+            String status,
+            Pageable pageable
+    );
+
+    Flux<WaitlistEntry> findByStatusAndHoldExpiresAtBefore(
+            String status,
+            LocalDateTime cutoff,
+            Pageable pageable
+    );
+
+    Mono<Long> countByFlightIdAndCabinClassAndStatusAndSequenceLessThan(
+            String flightId,
+            String cabinClass,
+            String status,
+            Long sequence
+    );
+
+    Mono<Boolean> existsByFlightIdAndContactEmailAndStatusIn(
+            String flightId,
+            String contactEmail,
+            Collection<String> statuses
+    );
+
+    Mono<WaitlistEntry> findByIdAndFlightId(String id, String flightId);
+}
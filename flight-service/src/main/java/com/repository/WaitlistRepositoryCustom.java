@@ -0,0 +1,33 @@
+package com.repository;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface WaitlistRepositoryCustom {
+
+    /**
+     * Atomically take the next queue position for a flight
+     */
+    Mono<Long> nextSequence(String flightId);
+
+    /**
+     * Record the seat hold on a waiting entry, only if it is still waiting.
+     * @return true if the entry was promoted by this call
+     */
+    Mono<Boolean> markPromoted(String entryId, String reservationId, List<String> seatNumbers,
+                               LocalDateTime holdExpiresAt);
+
+    /**
+     * Move an entry between statuses, only if it is still in the expected one.
+     * @return true if the status was changed by this call
+     */
+    Mono<Boolean> updateStatus(String entryId, String expectedStatus, String newStatus);
+
+    /**
+     * Flights that have at least one waiting entry
+     */
+    Flux<String> findFlightIdsWithWaitingEntries();
+}
@@ -0,0 +1,70 @@
+package com.repository;
+
+import com.model.WaitlistCounter;
+import com.model.WaitlistEntry;
+import com.util.Constants;
+import com.util.DateTimeUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class WaitlistRepositoryCustomImpl implements WaitlistRepositoryCustom {
+
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    @Override
+    public Mono<Long> nextSequence(String flightId) {
+        return mongoTemplate.findAndModify(
+                        new Query(Criteria.where("flightId").is(flightId)),
+                        new Update().inc("sequence", 1L),
+                        FindAndModifyOptions.options().upsert(true).returnNew(true),
+                        WaitlistCounter.class)
+                .map(WaitlistCounter::getSequence);
+    }
+
+    @Override
+    public Mono<Boolean> markPromoted(String entryId, String reservationId, List<String> seatNumbers,
+                                      LocalDateTime holdExpiresAt) {
+        Update update = new Update()
+                .set("status", Constants.WAITLIST_PROMOTED)
+                .set("reservationId", reservationId)
+                .set("seatNumbers", seatNumbers)
+                .set("holdExpiresAt", holdExpiresAt)
+                .set("updatedAt", DateTimeUtil.getCurrentTimestamp());
+
+        return updateEntry(entryId, Constants.WAITLIST_WAITING, update);
+    }
+
+    @Override
+    public Mono<Boolean> updateStatus(String entryId, String expectedStatus, String newStatus) {
+        Update update = new Update()
+                .set("status", newStatus)
+                .set("updatedAt", DateTimeUtil.getCurrentTimestamp());
+
+        return updateEntry(entryId, expectedStatus, update);
+    }
+
+    @Override
+    public Flux<String> findFlightIdsWithWaitingEntries() {
+        return mongoTemplate.findDistinct(
+                new Query(Criteria.where("status").is(Constants.WAITLIST_WAITING)),
+                "flightId",
+                WaitlistEntry.class,
+                String.class);
+    }
+
+    private Mono<Boolean> updateEntry(String entryId, String expectedStatus, Update update) {
+        Query query = new Query(Criteria.where("id").is(entryId).and("status").is(expectedStatus));
+        return mongoTemplate.updateFirst(query, update, WaitlistEntry.class)
+                .map(result -> result.getModifiedCount() > 0);
+    }
+}
@@ -0,0 +1,13 @@
+package com.service;
+
+import com.model.Airline;
+import com.model.AirlinePropagationJob;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface AirlinePropagationService {
+    Mono<AirlinePropagationJob> enqueue(Airline airline);
+    Mono<AirlinePropagationJob> getJob(String jobId);
+    Flux<AirlinePropagationJob> getJobsForAirline(String airlineCode);
+    Mono<Void> runPendingJobs();
+}
@@ -0,0 +1,7 @@
+package com.service;
+
+import reactor.core.publisher.Mono;
+
+public interface FlightArchiveService {
+    Mono<Long> archiveDepartedFlights();
+}
@@ -2,7 +2,13 @@ package com.service;
 
 import com.dto.request.CreateFlightRequest;
 import com.dto.request.FlightSearchRequest;
+import com.dto.request.SeatAssignmentRequest;
+import com.dto.request.SeatReservationRequest;
+import com.dto.response.CompactSeatMap;
 import com.dto.response.FlightSearchResponse;
+import com.dto.response.ReservationResponse;
+import com.dto.response.SeatAssignmentResponse;
+import com.dto.response.SeatPriceTable;
 import com.model.Flight;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -12,9 +18,17 @@ import java.util.List;
 public interface FlightService {
     Flux<FlightSearchResponse> searchFlights(FlightSearchRequest request);
     Mono<Flight> getFlightById(String flightId);
+    Flux<Flight> getFlightsByIds(List<String> flightIds);
     Mono<Flight> saveFlight(Flight flight);
     Mono<Flight> updateFlightSeats(String flightId, int seatsToBook);
     Mono<Void> reserveSeats(String flightId, List<String> seatNumbers);
     Mono<Void> releaseSeats(String flightId, List<String> seatNumbers);
     Mono<Flight> createFlight(CreateFlightRequest request);
+    Mono<CompactSeatMap> getCompactSeatMap(String flightId);
+    Mono<SeatPriceTable> getSeatPriceTable(String flightId);
+    Mono<SeatAssignmentResponse> assignSeats(String flightId, SeatAssignmentRequest request);
+    Mono<ReservationResponse> reserveSeats(String flightId, SeatReservationRequest request);
+    Mono<ReservationResponse> confirmReservation(String flightId, String reservationId);
+    Mono<ReservationResponse> releaseReservation(String flightId, String reservationId);
+    Mono<Long> pruneReleasedReservations();
 }
\ No newline at end of file
@@ -0,0 +1,137 @@
+package com.service.Impl;
+
+import com.exception.JobNotFoundException;
+import com.model.Airline;
+import com.model.AirlinePropagationJob;
+import com.repository.AirlinePropagationJobRepository;
+import com.repository.FlightRepository;
+import com.service.AirlinePropagationService;
+import com.util.Constants;
+import com.util.DateTimeUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Copies airline name and logo changes onto the airline's flights in the background.
+ * Jobs are stored, walk the flights in _id order one chunk at a time with a pause between
+ * chunks, and record their position after each chunk so they can resume after a restart.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AirlinePropagationServiceImpl implements AirlinePropagationService {
+
+    private static final String START_OF_COLLECTION = "";
+
+    private final AirlinePropagationJobRepository jobRepository;
+    private final FlightRepository flightRepository;
+
+    @Value("${app.airlines.propagation.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${app.airlines.propagation.pause-ms:200}")
+    private long pauseMillis;
+
+    @Value("${app.airlines.propagation.stall-timeout-seconds:120}")
+    private long stallTimeoutSeconds;
+
+    /**
+     * Queue a job for the airline's current name and logo; earlier unfinished jobs are superseded
+     */
+    @Override
+    public Mono<AirlinePropagationJob> enqueue(Airline airline) {
+        log.info("Queueing flight update for airline {}", airline.getAirlineCode());
+
+        return jobRepository.supersedeActiveJobs(airline.getAirlineCode(), DateTimeUtil.getCurrentTimestamp())
+                .then(jobRepository.save(AirlinePropagationJob.builder()
+                        .airlineCode(airline.getAirlineCode())
+                        .airlineName(airline.getName())
+                        .airlineLogoUrl(airline.getLogoUrl())
+                        .status(Constants.JOB_PENDING)
+                        .updatedFlights(0L)
+                        .createdAt(DateTimeUtil.getCurrentTimestamp())
+                        .updatedAt(DateTimeUtil.getCurrentTimestamp())
+                        .build()));
+    }
+
+    @Override
+    public Mono<AirlinePropagationJob> getJob(String jobId) {
+        return jobRepository.findById(jobId)
+                .switchIfEmpty(Mono.error(new JobNotFoundException(jobId)));
+    }
+
+    @Override
+    public Flux<AirlinePropagationJob> getJobsForAirline(String airlineCode) {
+        return jobRepository.findByAirlineCodeOrderByCreatedAtDesc(airlineCode.toUpperCase());
+    }
+
+    /**
+     * Run pending jobs and resume stalled ones, one at a time so only one job writes to flights
+     */
+    @Override
+    public Mono<Void> runPendingJobs() {
+        Flux<AirlinePropagationJob> pending = jobRepository.findByStatusOrderByCreatedAtAsc(Constants.JOB_PENDING)
+                .concatMap(job -> flightRepository.countByAirlineCode(job.getAirlineCode())
+                        .flatMap(total -> jobRepository.markRunning(job.getId(), total, DateTimeUtil.getCurrentTimestamp()))
+                        .filter(claimed -> claimed > 0)
+                        .map(claimed -> job));
+
+        Flux<AirlinePropagationJob> stalled = jobRepository.findByStatusAndUpdatedAtBefore(
+                        Constants.JOB_RUNNING,
+                        DateTimeUtil.getCurrentTimestamp().minusSeconds(stallTimeoutSeconds))
+                .concatMap(job -> jobRepository.claimStalledJob(job.getId(), job.getUpdatedAt(), DateTimeUtil.getCurrentTimestamp())
+                        .filter(claimed -> claimed > 0)
+                        .doOnNext(claimed -> log.warn("Resuming stalled airline job {} after flight {}",
+                                job.getId(), job.getLastFlightId()))
+                        .map(claimed -> job));
+
+        return Flux.concat(stalled, pending)
+                .concatMap(this::runJob)
+                .then();
+    }
+
+    private Mono<Void> runJob(AirlinePropagationJob job) {
+        log.info("Updating flights of airline {} (job {})", job.getAirlineCode(), job.getId());
+        String resumeAfter = job.getLastFlightId() != null ? job.getLastFlightId() : START_OF_COLLECTION;
+
+        return Mono.just(resumeAfter)
+                .expand(afterId -> runChunk(job, afterId)
+                        .delayElement(Duration.ofMillis(pauseMillis)))
+                .then(jobRepository.finish(job.getId(), Constants.JOB_COMPLETED, null, DateTimeUtil.getCurrentTimestamp()))
+                .doOnNext(finished -> {
+                    if (finished > 0) {
+                        log.info("Airline job {} completed", job.getId());
+                    } else {
+                        log.info("Airline job {} was superseded", job.getId());
+                    }
+                })
+                .onErrorResume(error -> {
+                    log.error("Airline job {} failed: {}", job.getId(), error.getMessage());
+                    return jobRepository.finish(job.getId(), Constants.JOB_FAILED, error.getMessage(),
+                            DateTimeUtil.getCurrentTimestamp());
+                })
+                .then();
+    }
+
+    /**
+     * Update one chunk and record it
+     * @return the id to continue after, or empty when the job is done or has been superseded
+     */
+    private Mono<String> runChunk(AirlinePropagationJob job, String afterId) {
+        String rangeStart = START_OF_COLLECTION.equals(afterId) ? null : afterId;
+
+        return flightRepository.findAirlineChunkEnd(job.getAirlineCode(), rangeStart, chunkSize)
+                .flatMap(chunkEnd -> flightRepository.updateAirlineDetails(
+                                job.getAirlineCode(), rangeStart, chunkEnd, job.getAirlineName(), job.getAirlineLogoUrl())
+                        .flatMap(updated -> jobRepository.recordProgress(
+                                job.getId(), chunkEnd, updated, DateTimeUtil.getCurrentTimestamp()))
+                        .filter(recorded -> recorded > 0)
+                        .map(recorded -> chunkEnd));
+    }
+}
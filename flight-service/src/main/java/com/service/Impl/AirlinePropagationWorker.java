@@ -0,0 +1,36 @@
+package com.service.Impl;
+
+import com.service.AirlinePropagationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Picks up queued airline propagation jobs
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AirlinePropagationWorker {
+
+    private final AirlinePropagationService propagationService;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Scheduled(fixedDelayString = "${app.airlines.propagation.poll-ms:5000}")
+    public void runPendingJobs() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+
+        propagationService.runPendingJobs()
+                .doFinally(signal -> running.set(false))
+                .subscribe(
+                        done -> { },
+                        error -> log.error("Airline propagation run failed: {}", error.getMessage())
+                );
+    }
+}
@@ -0,0 +1,71 @@
+package com.service.Impl;
+
+import com.repository.FlightRepository;
+import com.service.FlightArchiveService;
+import com.util.Constants;
+import com.util.DateTimeUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Moves flights that departed long ago out of the flights collection, so searches and the
+ * route index only cover flights that can still be booked. Archived flights stay readable by id.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FlightArchiveServiceImpl implements FlightArchiveService {
+
+    private static final List<String> ARCHIVABLE_STATUSES =
+            List.of(Constants.FLIGHT_DEPARTED, Constants.FLIGHT_CANCELLED);
+
+    private final FlightRepository flightRepository;
+
+    @Value("${app.archive.retention-days:30}")
+    private long retentionDays;
+
+    @Value("${app.archive.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.archive.pause-ms:100}")
+    private long pauseMillis;
+
+    /**
+     * @return the number of flights archived
+     */
+    @Override
+    public Mono<Long> archiveDepartedFlights() {
+        LocalDateTime now = DateTimeUtil.getCurrentTimestamp();
+        LocalDateTime cutoff = now.minusDays(retentionDays);
+
+        log.info("Archiving flights that departed before {}", cutoff);
+
+        // Nothing else moves flights out of SCHEDULED, so departures are marked here first
+        return flightRepository.ensureArchiveIndexes()
+                .then(flightRepository.markDeparted(now))
+                .doOnNext(marked -> {
+                    if (marked > 0) {
+                        log.info("Marked {} flights as departed", marked);
+                    }
+                })
+                .then(Mono.just(0L)
+                        .expand(archived -> archiveBatch(cutoff)
+                                .filter(moved -> moved > 0)
+                                .delayElement(Duration.ofMillis(pauseMillis)))
+                        .reduce(0L, Long::sum))
+                .doOnSuccess(archived -> log.info("Archived {} flights", archived));
+    }
+
+    private Mono<Long> archiveBatch(LocalDateTime cutoff) {
+        return flightRepository.findArchivable(cutoff, ARCHIVABLE_STATUSES, batchSize)
+                .collectList()
+                .flatMap(flightRepository::moveToArchive);
+    }
+}
@@ -0,0 +1,37 @@
+package com.service.Impl;
+
+import com.service.FlightArchiveService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Archives departed flights once a day, off peak
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FlightArchiveWorker {
+
+    private final FlightArchiveService archiveService;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Scheduled(cron = "${app.archive.cron:0 0 3 * * *}", zone = "Asia/Kolkata")
+    public void archiveDepartedFlights() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("Previous flight archival still running, skipping this run");
+            return;
+        }
+
+        archiveService.archiveDepartedFlights()
+                .doFinally(signal -> running.set(false))
+                .subscribe(
+                        archived -> { },
+                        error -> log.error("Flight archival failed: {}", error.getMessage())
+                );
+    }
+}
@@ -1,23 +1,49 @@
 package com.service.Impl;
 
 import com.dto.request.FlightSearchRequest;
+import com.dto.request.SeatAssignmentRequest;
+import com.dto.request.SeatReservationRequest;
+import com.dto.response.CompactSeatMap;
 import com.dto.response.FlightSearchResponse;
+import com.dto.response.ReservationResponse;
+import com.dto.response.SeatAssignmentResponse;
+import com.dto.response.SeatPriceTable;
+import com.exception.DuplicateResourceException;
 import com.exception.FlightNotFoundException;
+import com.exception.InvalidRequestException;
+import com.exception.ReservationNotFoundException;
+import com.exception.SeatUnavailableException;
+import com.metrics.SeatWriteMetrics;
 import com.model.Flight;
+import com.model.SeatReservation;
+import com.pricing.PricingEngine;
 import com.repository.FlightRepository;
 import com.service.FlightService;
+import com.util.Constants;
 import com.util.DateTimeUtil;
+import com.util.SeatAllocator;
+import com.util.SeatGenerator;
+import com.util.SeatMapCodec;
 import com.validator.FlightSearchValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 import com.dto.request.CreateFlightRequest;
 
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -26,6 +52,22 @@ public class FlightServiceImpl implements FlightService {
 
     private final FlightRepository flightRepository;
     private final FlightSearchValidator searchValidator;
+    private final SeatWriteMetrics seatWriteMetrics;
+    private final WaitlistPromotionQueue waitlistPromotionQueue;
+    private final PricingEngine pricingEngine;
+
+    @Value("${app.seats.assignment-attempts:3}")
+    private int seatAssignmentAttempts;
+
+    @Value("${app.flights.batch-max-size:100}")
+    private int batchMaxSize;
+
+    @Value("${app.reservations.confirm-attempts:3}")
+    private int reservationConfirmAttempts;
+
+    // How long a released reservation is remembered to turn away late reserve retries
+    @Value("${app.reservations.released-retention-hours:24}")
+    private long releasedRetentionHours;
 
     @Override
     public Flux<FlightSearchResponse> searchFlights(FlightSearchRequest request) {
@@ -47,7 +89,7 @@ public class FlightServiceImpl implements FlightService {
                         endOfDay
                 )
                 .filter(flight -> flight.getAvailableSeats() >= request.getPassengers())
-                .map(this::convertToSearchResponse)
+                .map(flight -> convertToSearchResponse(pricingEngine.applyFares(flight)))
                 .switchIfEmpty(Flux.defer(() -> {
                     log.warn("No flights found for search criteria");
                     return Flux.empty();
@@ -58,10 +100,75 @@ public class FlightServiceImpl implements FlightService {
     public Mono<Flight> getFlightById(String flightId) {
         log.info("Fetching flight with ID: {}", flightId);
 
+        // Departed flights may have been moved to the archive
         return flightRepository.findById(flightId)
+                .switchIfEmpty(Mono.defer(() -> flightRepository.findArchivedById(flightId)))
+                .switchIfEmpty(Mono.error(new FlightNotFoundException(
+                        "Flight with ID " + flightId + " not found"
+                )))
+                .map(pricingEngine::applyFares);
+    }
+
+    @Override
+    public Flux<Flight> getFlightsByIds(List<String> flightIds) {
+        Set<String> distinctIds = flightIds == null ? Set.of() : new HashSet<>(flightIds);
+        if (distinctIds.isEmpty() || distinctIds.size() > batchMaxSize) {
+            return Flux.error(new InvalidRequestException(
+                    "Between 1 and " + batchMaxSize + " flight ids are required"));
+        }
+        log.info("Fetching {} flights by ID", distinctIds.size());
+
+        return flightRepository.findDetailsByIds(distinctIds)
+                .map(pricingEngine::applyFares);
+    }
+
+    @Override
+    public Mono<CompactSeatMap> getCompactSeatMap(String flightId) {
+        log.info("Fetching compact seat map for flight: {}", flightId);
+
+        return flightRepository.findSeatMapById(flightId)
+                .switchIfEmpty(Mono.error(new FlightNotFoundException(
+                        "Flight with ID " + flightId + " not found"
+                )))
+                .map(flight -> {
+                    int seatCount = flight.getTotalSeats() != null
+                            ? flight.getTotalSeats()
+                            : (flight.getSeats() != null ? flight.getSeats().size() : 0);
+
+                    return CompactSeatMap.builder()
+                            .flightId(flightId)
+                            .layout(SeatGenerator.LAYOUT)
+                            .seatCount(seatCount)
+                            .availableSeats(flight.getAvailableSeats())
+                            .availability(SeatMapCodec.encodeAvailability(flight.getSeats(), seatCount))
+                            .build();
+                });
+    }
+
+    @Override
+    public Mono<SeatPriceTable> getSeatPriceTable(String flightId) {
+        log.info("Fetching seat price table for flight: {}", flightId);
+
+        return flightRepository.findSeatChargesById(flightId)
                 .switchIfEmpty(Mono.error(new FlightNotFoundException(
                         "Flight with ID " + flightId + " not found"
-                )));
+                )))
+                .map(flight -> {
+                    int seatCount = flight.getTotalSeats() != null
+                            ? flight.getTotalSeats()
+                            : (flight.getSeats() != null ? flight.getSeats().size() : 0);
+                    List<Double> charges = new ArrayList<>();
+                    String priceClasses = SeatMapCodec.encodePriceClasses(flight.getSeats(), seatCount, charges);
+
+                    return SeatPriceTable.builder()
+                            .flightId(flightId)
+                            .layout(SeatGenerator.LAYOUT)
+                            .seatCount(seatCount)
+                            .currency(flight.getCurrency())
+                            .charges(charges)
+                            .priceClasses(priceClasses)
+                            .build();
+                });
     }
 
     @Override
@@ -78,14 +185,14 @@ public class FlightServiceImpl implements FlightService {
     public Mono<Flight> updateFlightSeats(String flightId, int seatsToBook) {
         log.info("Updating seats for flight: {}, booking {} seats", flightId, seatsToBook);
 
-        return flightRepository.findById(flightId)
+        return seatWriteMetrics.timed(SeatWriteMetrics.OP_UPDATE_SEATS, flightId, flightRepository.findById(flightId)
                 .flatMap(flight -> {
                     int newAvailableSeats = flight.getAvailableSeats() - seatsToBook;
                     flight.setAvailableSeats(newAvailableSeats);
                     flight.setUpdatedAt(DateTimeUtil.getCurrentTimestamp());
                     return flightRepository.save(flight);
                 })
-                .switchIfEmpty(Mono.error(new FlightNotFoundException(flightId)));
+                .switchIfEmpty(Mono.error(new FlightNotFoundException(flightId))));
     }
 
     /**
@@ -109,6 +216,8 @@ public class FlightServiceImpl implements FlightService {
                 .arrivalDateTime(flight.getArrivalDateTime())
                 .duration(duration)
                 .baseFare(flight.getBaseFare())
+                .currentFare(flight.getCurrentFare())
+                .cabinFares(flight.getCabinFares())
                 .currency(flight.getCurrency())
                 .availableSeats(flight.getAvailableSeats())
                 .aircraftType(flight.getAircraftType())
@@ -117,81 +226,393 @@ public class FlightServiceImpl implements FlightService {
 
     @Override
     public Mono<Void> reserveSeats(String flightId, List<String> seatNumbers) {
+        return reserveSeats(flightId, SeatReservationRequest.builder()
+                        .seatNumbers(seatNumbers)
+                        .build())
+                .then();
+    }
+
+    @Override
+    public Mono<ReservationResponse> reserveSeats(String flightId, SeatReservationRequest request) {
+        validateDistinctSeats(request.getSeatNumbers());
+
+        SeatReservation reservation = newReservation(request.getReservationId(), request.getSeatNumbers());
+        log.info("Reserving seats {} for flight {} under reservation {}",
+                reservation.getSeatNumbers(), flightId, reservation.getReservationId());
+
+        return seatWriteMetrics.timed(SeatWriteMetrics.OP_RESERVE, flightId,
+                flightRepository.reserveSeatsIfAvailable(flightId, reservation)
+                        .flatMap(reserved -> reserved
+                                ? Mono.just(reservation)
+                                : resolveRejectedReservation(flightId, reservation))
+                        .map(saved -> convertToReservationResponse(flightId, saved)));
+    }
+
+    @Override
+    public Mono<ReservationResponse> confirmReservation(String flightId, String reservationId) {
+        log.info("Confirming reservation {} on flight {}", reservationId, flightId);
+
+        // If the conditional update loses a race, re-read and report the winner's outcome
+        return Mono.defer(() -> tryConfirmReservation(flightId, reservationId))
+                .retryWhen(Retry.max(reservationConfirmAttempts - 1)
+                        .filter(ReservationChangedException.class::isInstance)
+                        .doBeforeRetry(signal -> seatWriteMetrics.recordRetry(SeatWriteMetrics.OP_CONFIRM, flightId))
+                        .onRetryExhaustedThrow((spec, signal) -> new SeatUnavailableException(
+                                "Reservation " + reservationId + " on flight " + flightId
+                                        + " is changing too quickly, please try again")));
+    }
+
+    private Mono<ReservationResponse> tryConfirmReservation(String flightId, String reservationId) {
+        // Only live flights take writes; an archived flight has departed and can't be confirmed
         return flightRepository.findById(flightId)
+                .switchIfEmpty(Mono.error(new FlightNotFoundException(
+                        "Flight with ID " + flightId + " not found or already departed"
+                )))
                 .flatMap(flight -> {
-                    // Mark seats as unavailable
-                    flight.getSeats().forEach(seat -> {
-                        if (seatNumbers.contains(seat.getSeatNumber())) {
-                            seat.setIsAvailable(false);
-                        }
-                    });
+                    SeatReservation reservation = findReservation(flight, reservationId)
+                            .orElse(null);
 
-                    // Update available seats count
-                    flight.setAvailableSeats(flight.getAvailableSeats() - seatNumbers.size());
-                    flight.setUpdatedAt(DateTimeUtil.getCurrentTimestamp());
+                    if (reservation == null) {
+                        return Mono.error(ReservationNotFoundException.forId(flightId, reservationId));
+                    }
+                    if (Constants.RESERVATION_RELEASED.equals(reservation.getStatus())) {
+                        return Mono.error(new InvalidRequestException(
+                                "Reservation " + reservationId + " has already been released"
+                        ));
+                    }
+                    if (Constants.RESERVATION_CONFIRMED.equals(reservation.getStatus())) {
+                        return Mono.just(convertToReservationResponse(flightId, reservation));
+                    }
 
-                    return flightRepository.save(flight);
-                })
-                .then();
+                    return seatWriteMetrics.timed(SeatWriteMetrics.OP_CONFIRM, flightId,
+                                    flightRepository.confirmReservation(flightId, reservationId))
+                            .flatMap(confirmed -> {
+                                if (!confirmed) {
+                                    seatWriteMetrics.recordConflict(SeatWriteMetrics.OP_CONFIRM, flightId);
+                                    return Mono.error(new ReservationChangedException());
+                                }
+                                reservation.setStatus(Constants.RESERVATION_CONFIRMED);
+                                return Mono.just(convertToReservationResponse(flightId, reservation));
+                            });
+                });
+    }
+
+    @Override
+    public Mono<ReservationResponse> releaseReservation(String flightId, String reservationId) {
+        log.info("Releasing reservation {} on flight {}", reservationId, flightId);
+
+        return getFlightById(flightId)
+                .flatMap(flight -> findReservation(flight, reservationId)
+                        .map(reservation -> releaseActiveReservation(flightId, reservation))
+                        .orElseGet(() -> releaseUnknownReservation(flightId, reservationId)))
+                .map(released -> convertToReservationResponse(flightId, released))
+                .doOnSuccess(released -> waitlistPromotionQueue.signal(flightId));
+    }
+
+    /**
+     * Held and confirmed reservations each hold at least one seat, so with old released ones
+     * pruned a flight's reservation list stays bounded by its seat count plus recent releases
+     */
+    @Override
+    public Mono<Long> pruneReleasedReservations() {
+        LocalDateTime cutoff = DateTimeUtil.getCurrentTimestamp().minusHours(releasedRetentionHours);
+
+        return flightRepository.pruneReleasedReservations(cutoff)
+                .doOnNext(pruned -> log.info("Pruned released reservations older than {} from {} flights",
+                        cutoff, pruned));
     }
 
     @Override
     public Mono<Void> releaseSeats(String flightId, List<String> seatNumbers) {
-        return flightRepository.findById(flightId)
+        return getFlightById(flightId)
                 .flatMap(flight -> {
-                    // Mark seats as available
-                    flight.getSeats().forEach(seat -> {
-                        if (seatNumbers.contains(seat.getSeatNumber())) {
-                            seat.setIsAvailable(true);
-                        }
-                    });
+                    Set<String> requestedSeats = new HashSet<>(seatNumbers);
+                    List<SeatReservation> activeReservations = findActiveReservations(flight);
 
-                    // Update available seats count
-                    flight.setAvailableSeats(flight.getAvailableSeats() + seatNumbers.size());
-                    flight.setUpdatedAt(DateTimeUtil.getCurrentTimestamp());
+                    // Reservations fully covered by the request are released through their id
+                    List<SeatReservation> coveredReservations = activeReservations.stream()
+                            .filter(reservation -> !reservation.getSeatNumbers().isEmpty()
+                                    && requestedSeats.containsAll(reservation.getSeatNumbers()))
+                            .toList();
 
-                    return flightRepository.save(flight);
+                    Set<String> reservationSeats = activeReservations.stream()
+                            .flatMap(reservation -> reservation.getSeatNumbers().stream())
+                            .collect(Collectors.toSet());
+
+                    // Seats taken before reservation ids existed are only released if still taken
+                    List<String> untrackedSeats = requestedSeats.stream()
+                            .filter(seatNumber -> !reservationSeats.contains(seatNumber))
+                            .filter(seatNumber -> isSeatTaken(flight, seatNumber))
+                            .toList();
+
+                    requestedSeats.stream()
+                            .filter(reservationSeats::contains)
+                            .filter(seatNumber -> coveredReservations.stream()
+                                    .noneMatch(reservation -> reservation.getSeatNumbers().contains(seatNumber)))
+                            .forEach(seatNumber -> log.warn(
+                                    "Seat {} on flight {} belongs to a reservation that is not fully released, skipping",
+                                    seatNumber, flightId));
+
+                    Mono<Boolean> releaseUntracked = untrackedSeats.isEmpty()
+                            ? Mono.just(true)
+                            : seatWriteMetrics.timed(SeatWriteMetrics.OP_RELEASE, flightId,
+                                    flightRepository.releaseSeatsIfReserved(flightId, untrackedSeats));
+
+                    return Flux.fromIterable(coveredReservations)
+                            .concatMap(reservation -> releaseActiveReservation(flightId, reservation))
+                            .then(releaseUntracked)
+                            .doOnNext(released -> {
+                                if (!released) {
+                                    seatWriteMetrics.recordConflict(SeatWriteMetrics.OP_RELEASE, flightId);
+                                    log.warn("Seats {} on flight {} changed concurrently and were not released",
+                                            untrackedSeats, flightId);
+                                }
+                            });
                 })
+                .doOnSuccess(released -> waitlistPromotionQueue.signal(flightId))
                 .then();
     }
 
+    /**
+     * A reserve call was rejected: either it is a retry of a reservation that already
+     * exists (return it unchanged) or one of the seats is no longer available
+     */
+    private Mono<SeatReservation> resolveRejectedReservation(String flightId, SeatReservation reservation) {
+        return getFlightById(flightId)
+                .flatMap(flight -> {
+                    Optional<SeatReservation> existing = findReservation(flight, reservation.getReservationId());
+                    if (existing.isPresent()) {
+                        log.info("Reservation {} already recorded on flight {}, returning it",
+                                reservation.getReservationId(), flightId);
+                        return Mono.just(existing.get());
+                    }
+
+                    List<String> unavailableSeats = reservation.getSeatNumbers().stream()
+                            .filter(seatNumber -> !isSeatAvailable(flight, seatNumber))
+                            .toList();
+                    seatWriteMetrics.recordConflict(SeatWriteMetrics.OP_RESERVE, flightId);
+
+                    return Mono.error(unavailableSeats.isEmpty()
+                            ? new SeatUnavailableException("Seats changed while reserving, please try again")
+                            : new SeatUnavailableException(unavailableSeats));
+                });
+    }
+
+    private Mono<SeatReservation> releaseActiveReservation(String flightId, SeatReservation reservation) {
+        if (Constants.RESERVATION_RELEASED.equals(reservation.getStatus())) {
+            return Mono.just(reservation);
+        }
+
+        return seatWriteMetrics.timed(SeatWriteMetrics.OP_RELEASE, flightId,
+                        flightRepository.releaseReservation(flightId, reservation))
+                .map(released -> {
+                    if (!released) {
+                        log.info("Reservation {} on flight {} was already released",
+                                reservation.getReservationId(), flightId);
+                    }
+                    reservation.setStatus(Constants.RESERVATION_RELEASED);
+                    return reservation;
+                });
+    }
+
+    /**
+     * Releasing an id that was never reserved leaves a released tombstone behind,
+     * so a reserve retry that arrives late cannot take the seats afterwards
+     */
+    private Mono<SeatReservation> releaseUnknownReservation(String flightId, String reservationId) {
+        return seatWriteMetrics.timed(SeatWriteMetrics.OP_RELEASE, flightId,
+                        flightRepository.addReleasedReservation(flightId, reservationId))
+                .flatMap(added -> {
+                    if (!added) {
+                        seatWriteMetrics.recordConflict(SeatWriteMetrics.OP_RELEASE, flightId);
+                        // The reservation was recorded concurrently, release it properly
+                        return getFlightById(flightId)
+                                .flatMap(flight -> findReservation(flight, reservationId)
+                                        .map(reservation -> releaseActiveReservation(flightId, reservation))
+                                        .orElseGet(() -> Mono.error(
+                                                ReservationNotFoundException.forId(flightId, reservationId))));
+                    }
+                    return Mono.just(SeatReservation.builder()
+                            .reservationId(reservationId)
+                            .seatNumbers(List.of())
+                            .status(Constants.RESERVATION_RELEASED)
+                            .build());
+                });
+    }
+
+    private SeatReservation newReservation(String reservationId, List<String> seatNumbers) {
+        LocalDateTime now = DateTimeUtil.getCurrentTimestamp();
+
+        return SeatReservation.builder()
+                .reservationId(reservationId != null ? reservationId : UUID.randomUUID().toString())
+                .seatNumbers(seatNumbers)
+                .status(Constants.RESERVATION_HELD)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    private Optional<SeatReservation> findReservation(Flight flight, String reservationId) {
+        if (flight.getReservations() == null) {
+            return Optional.empty();
+        }
+        return flight.getReservations().stream()
+                .filter(reservation -> reservationId.equals(reservation.getReservationId()))
+                .findFirst();
+    }
+
+    private List<SeatReservation> findActiveReservations(Flight flight) {
+        if (flight.getReservations() == null) {
+            return List.of();
+        }
+        return flight.getReservations().stream()
+                .filter(reservation -> !Constants.RESERVATION_RELEASED.equals(reservation.getStatus()))
+                .toList();
+    }
+
+    private boolean isSeatAvailable(Flight flight, String seatNumber) {
+        return flight.getSeats() != null && flight.getSeats().stream()
+                .anyMatch(seat -> seat.getSeatNumber().equals(seatNumber)
+                        && Boolean.TRUE.equals(seat.getIsAvailable()));
+    }
+
+    private boolean isSeatTaken(Flight flight, String seatNumber) {
+        return flight.getSeats() != null && flight.getSeats().stream()
+                .anyMatch(seat -> seat.getSeatNumber().equals(seatNumber)
+                        && Boolean.FALSE.equals(seat.getIsAvailable()));
+    }
+
+    private void validateDistinctSeats(List<String> seatNumbers) {
+        if (new HashSet<>(seatNumbers).size() != seatNumbers.size()) {
+            throw new InvalidRequestException("Duplicate seat selections are not allowed");
+        }
+    }
+
+    private ReservationResponse convertToReservationResponse(String flightId, SeatReservation reservation) {
+        return ReservationResponse.builder()
+                .reservationId(reservation.getReservationId())
+                .flightId(flightId)
+                .seatNumbers(reservation.getSeatNumbers())
+                .status(reservation.getStatus())
+                .build();
+    }
+
     @Override
     public Mono<Flight> createFlight(CreateFlightRequest request) {
+        Flight flight = Flight.builder()
+                .flightNumber(request.getFlightNumber())
+                .airlineCode(request.getAirlineCode())
+                .airlineName(request.getAirlineName())
+                .airlineLogoUrl(request.getAirlineLogoUrl())
+                .origin(request.getOrigin().toUpperCase())
+                .destination(request.getDestination().toUpperCase())
+                .departureDateTime(request.getDepartureDateTime())
+                .arrivalDateTime(request.getArrivalDateTime())
+                .availableSeats(request.getTotalSeats())
+                .totalSeats(request.getTotalSeats())
+                .baseFare(request.getBaseFare())
+                .currency(request.getCurrency())
+                .aircraftType(request.getAircraftType())
+                .createdAt(DateTimeUtil.getCurrentTimestamp())
+                .updatedAt(DateTimeUtil.getCurrentTimestamp())
+                .build();
 
-        return flightRepository
-                .existsByFlightNumberAndDepartureDateTime(
-                        request.getFlightNumber(),
-                        request.getDepartureDateTime()
-                )
-                .flatMap(exists -> {
-                    if (exists) {
-                        return Mono.error(
-                                new IllegalArgumentException(
-                                        "Flight already exists for given date and time"
-                                )
-                        );
+        // The unique (flightNumber, departureDateTime) index rejects a flight that already exists
+        return flightRepository.save(flight)
+                .onErrorMap(DuplicateKeyException.class, ex -> new DuplicateResourceException(
+                        "Flight",
+                        request.getFlightNumber() + " on " + request.getDepartureDateTime()
+                ));
+    }
+
+    @Override
+    public Mono<SeatAssignmentResponse> assignSeats(String flightId, SeatAssignmentRequest request) {
+        String cabinClass = request.getCabinClass() != null
+                ? request.getCabinClass().toUpperCase()
+                : Constants.SEAT_ECONOMY;
+        boolean keepTogether = !Boolean.FALSE.equals(request.getKeepTogether());
+        String reservationId = request.getReservationId() != null
+                ? request.getReservationId()
+                : UUID.randomUUID().toString();
+
+        log.info("Assigning {} {} seats on flight {} (preference: {}, together: {})",
+                request.getPassengers(), cabinClass, flightId, request.getSeatPreference(), keepTogether);
+
+        // Each attempt re-reads the seat map; an attempt completes empty if another
+        // booking took one of the chosen seats between the read and the conditional update
+        return Flux.range(1, seatAssignmentAttempts)
+                .concatMap(attempt -> {
+                    if (attempt > 1) {
+                        seatWriteMetrics.recordRetry(SeatWriteMetrics.OP_ASSIGN, flightId);
                     }
+                    return seatWriteMetrics.timed(SeatWriteMetrics.OP_ASSIGN, flightId,
+                            tryAssignSeats(flightId, request, cabinClass, keepTogether, reservationId));
+                })
+                .next()
+                .switchIfEmpty(Mono.error(new SeatUnavailableException(
+                        "Seats on flight " + flightId + " are changing too quickly, please try again"
+                )))
+                .map(seatNumbers -> SeatAssignmentResponse.builder()
+                        .flightId(flightId)
+                        .reservationId(reservationId)
+                        .cabinClass(cabinClass)
+                        .seatNumbers(seatNumbers)
+                        .build())
+                .doOnSuccess(response -> log.info("Assigned seats {} on flight {}",
+                        response.getSeatNumbers(), flightId));
+    }
 
-                    Flight flight = Flight.builder()
-                            .flightNumber(request.getFlightNumber())
-                            .airlineCode(request.getAirlineCode())
-                            .airlineName(request.getAirlineName())
-                            .airlineLogoUrl(request.getAirlineLogoUrl())
-                            .origin(request.getOrigin().toUpperCase())
-                            .destination(request.getDestination().toUpperCase())
-                            .departureDateTime(request.getDepartureDateTime())
-                            .arrivalDateTime(request.getArrivalDateTime())
-                            .availableSeats(request.getTotalSeats())
-                            .totalSeats(request.getTotalSeats())
-                            .baseFare(request.getBaseFare())
-                            .currency(request.getCurrency())
-                            .aircraftType(request.getAircraftType())
-                            .createdAt(DateTimeUtil.getCurrentTimestamp())
-                            .updatedAt(DateTimeUtil.getCurrentTimestamp())
-                            .build();
+    /**
+     * Pick seats from the current seat map and reserve them in a single conditional update
+     */
+    private Mono<List<String>> tryAssignSeats(String flightId, SeatAssignmentRequest request,
+                                              String cabinClass, boolean keepTogether, String reservationId) {
+        return getFlightById(flightId)
+                .flatMap(flight -> {
+                    // A retried assignment gets back the seats it already holds
+                    Optional<SeatReservation> existing = findReservation(flight, reservationId);
+                    if (existing.isPresent()) {
+                        if (Constants.RESERVATION_RELEASED.equals(existing.get().getStatus())) {
+                            return Mono.error(new SeatUnavailableException(
+                                    "Reservation " + reservationId + " has already been released"
+                            ));
+                        }
+                        return Mono.just(existing.get().getSeatNumbers());
+                    }
 
-                    return flightRepository.save(flight);
+                    List<String> seatNumbers = SeatAllocator.allocate(
+                            flight.getSeats(),
+                            cabinClass,
+                            request.getPassengers(),
+                            request.getSeatPreference(),
+                            keepTogether
+                    );
+
+                    if (seatNumbers.isEmpty()) {
+                        return Mono.error(new SeatUnavailableException(String.format(
+                                "Not enough %s seats available on flight %s for %d passengers",
+                                cabinClass, flight.getFlightNumber(), request.getPassengers())));
+                    }
+
+                    return flightRepository.reserveSeatsIfAvailable(flightId, newReservation(reservationId, seatNumbers))
+                            .filter(Boolean::booleanValue)
+                            .map(reserved -> seatNumbers)
+                            .doOnSuccess(reserved -> {
+                                if (reserved == null) {
+                                    seatWriteMetrics.recordConflict(SeatWriteMetrics.OP_ASSIGN, flightId);
+                                    log.warn("Seats {} on flight {} were taken concurrently, retrying",
+                                            seatNumbers, flightId);
+                                }
+                            });
                 });
     }
 
-}
\ No newline at end of file
+    /**
+     * A reservation changed between the read and the conditional update; the attempt is retried
+     */
+    private static final class ReservationChangedException extends RuntimeException {
+        ReservationChangedException() {
+            super("Reservation changed concurrently", null, false, false);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.service.Impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.model.Flight;
+import com.repository.FlightRepository;
+import com.service.InventoryExportService;
+import com.util.GzipChunkEncoder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Streams flights from a Mongo cursor as gzip-compressed NDJSON. Flights are read as the
+ * client consumes the response, so memory use does not depend on the size of the export.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class InventoryExportServiceImpl implements InventoryExportService {
+
+    private final FlightRepository flightRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.inventory.export.cursor-batch-size:500}")
+    private int cursorBatchSize;
+
+    @Value("${app.inventory.export.flights-per-chunk:100}")
+    private int flightsPerChunk;
+
+    @Override
+    public Flux<DataBuffer> exportFlights(String airlineCode, LocalDate from, LocalDate to) {
+        log.info("Exporting flights (airline: {}, from: {}, to: {})", airlineCode, from, to);
+
+        Flux<Flight> flights = flightRepository.streamFlights(
+                airlineCode != null ? airlineCode.toUpperCase() : null,
+                from != null ? from.atStartOfDay() : null,
+                to != null ? to.plusDays(1).atStartOfDay() : null,
+                cursorBatchSize);
+
+        return Flux.using(
+                        GzipChunkEncoder::new,
+                        encoder -> flights
+                                .buffer(flightsPerChunk)
+                                .map(chunk -> encoder.encode(toNdjson(chunk)))
+                                .concatWith(Mono.fromCallable(encoder::finish)),
+                        GzipChunkEncoder::close)
+                .filter(bytes -> bytes.length > 0)
+                .map(DefaultDataBufferFactory.sharedInstance::wrap);
+    }
+
+    private byte[] toNdjson(List<Flight> flights) {
+        ByteArrayOutputStream lines = new ByteArrayOutputStream();
+        try {
+            for (Flight flight : flights) {
+                lines.write(objectMapper.writeValueAsBytes(flight));
+                lines.write('\n');
+            }
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize flight for export", ex);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return lines.toByteArray();
+    }
+}
@@ -0,0 +1,312 @@
+package com.service.Impl;
+
+import com.dto.request.InventoryRequest;
+import com.dto.response.BulkImportResponse;
+import com.exception.InvalidRequestException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.model.Airline;
+import com.model.Flight;
+import com.repository.AirlineRepository;
+import com.repository.FlightRepository;
+import com.repository.FlightRepositoryCustom;
+import com.service.InventoryImportService;
+import com.util.Constants;
+import com.util.CsvLineParser;
+import com.validator.InventoryValidator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.StringDecoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Streams a schedule file line by line and imports it chunk by chunk. Each chunk costs one
+ * airline lookup for codes not seen before, one query for already existing flights and one
+ * unordered bulk insert, instead of three round trips per flight.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class InventoryImportServiceImpl implements InventoryImportService {
+
+    private static final StringDecoder LINE_DECODER = StringDecoder.allMimeTypes();
+    private static final ResolvableType STRING_TYPE = ResolvableType.forClass(String.class);
+    private static final Set<String> REQUIRED_CSV_COLUMNS = Set.of(
+            "airlineCode", "flightNumber", "origin", "destination", "departureDateTime",
+            "arrivalDateTime", "aircraftType", "totalSeats", "baseFare");
+
+    private final FlightRepository flightRepository;
+    private final AirlineRepository airlineRepository;
+    private final InventoryValidator inventoryValidator;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.inventory.import.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${app.inventory.import.max-reported-errors:1000}")
+    private int maxReportedErrors;
+
+    @Override
+    public Mono<BulkImportResponse> importInventory(Flux<DataBuffer> content, MediaType contentType) {
+        boolean csv = contentType != null && contentType.isCompatibleWith(MediaType.parseMediaType(Constants.MEDIA_TYPE_CSV));
+        ImportContext context = new ImportContext(csv);
+        log.info("Starting bulk inventory import ({})", csv ? "CSV" : "NDJSON");
+
+        return LINE_DECODER.decode(content, STRING_TYPE, contentType, Map.of())
+                .index()
+                .filter(line -> !line.getT2().isBlank())
+                .<ImportRow>handle((line, sink) -> {
+                    ImportRow row = parseRow(context, line.getT1() + 1, line.getT2());
+                    if (row != null) {
+                        sink.next(row);
+                    }
+                })
+                .buffer(chunkSize)
+                .concatMap(chunk -> importChunk(context, chunk))
+                .then(Mono.fromSupplier(context::toResponse))
+                .doOnSuccess(response -> log.info("Bulk inventory import finished: {} imported, {} failed",
+                        response.getImported(), response.getFailed()));
+    }
+
+    /**
+     * Parse and validate one line; returns null for the CSV header
+     */
+    private ImportRow parseRow(ImportContext context, long lineNumber, String line) {
+        if (context.csv && context.columns == null) {
+            context.columns = readHeader(line);
+            return null;
+        }
+
+        InventoryRequest request;
+        try {
+            request = context.csv ? readCsvRow(context.columns, line) : objectMapper.readValue(line, InventoryRequest.class);
+        } catch (Exception ex) {
+            return ImportRow.failed(lineNumber, null, "Could not parse row: " + ex.getMessage());
+        }
+
+        Set<ConstraintViolation<InventoryRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            String message = violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+            return ImportRow.failed(lineNumber, request.getFlightNumber(), message);
+        }
+
+        try {
+            inventoryValidator.validateInventoryRequest(request);
+        } catch (InvalidRequestException ex) {
+            return ImportRow.failed(lineNumber, request.getFlightNumber(), ex.getMessage());
+        }
+
+        return new ImportRow(lineNumber, request, null);
+    }
+
+    private Mono<Void> importChunk(ImportContext context, List<ImportRow> chunk) {
+        List<ImportRow> candidates = new ArrayList<>();
+        for (ImportRow row : chunk) {
+            context.totalRows++;
+            if (row.error() != null) {
+                context.fail(row, row.error());
+            } else if (!context.scheduleKeys.add(FlightRepositoryCustom.scheduleKey(
+                    row.request().getFlightNumber(), row.request().getDepartureDateTime()))) {
+                context.fail(row, "Duplicate of an earlier row in this file");
+            } else {
+                candidates.add(row);
+            }
+        }
+
+        if (candidates.isEmpty()) {
+            return Mono.empty();
+        }
+
+        return resolveAirlines(context, candidates)
+                .then(Mono.defer(() -> {
+                    List<ImportRow> rows = new ArrayList<>(candidates.size());
+                    List<Flight> flights = new ArrayList<>(candidates.size());
+
+                    for (ImportRow row : candidates) {
+                        InventoryRequest request = row.request();
+                        Airline airline = context.airlines.get(request.getAirlineCode());
+                        if (airline == null) {
+                            context.fail(row, "Airline not found with code: " + request.getAirlineCode());
+                        } else {
+                            rows.add(row);
+                            flights.add(InventoryServiceImpl.buildFlight(request, airline.getName(), airline.getLogoUrl()));
+                        }
+                    }
+
+                    return flightRepository.findExistingScheduleKeys(flights)
+                            .flatMap(existingKeys -> insertNewFlights(context, rows, flights, existingKeys));
+                }));
+    }
+
+    private Mono<Void> insertNewFlights(ImportContext context, List<ImportRow> rows, List<Flight> flights,
+                                        Set<String> existingKeys) {
+        List<ImportRow> newRows = new ArrayList<>(rows.size());
+        List<Flight> newFlights = new ArrayList<>(flights.size());
+
+        for (int i = 0; i < flights.size(); i++) {
+            Flight flight = flights.get(i);
+            if (existingKeys.contains(FlightRepositoryCustom.scheduleKey(flight.getFlightNumber(), flight.getDepartureDateTime()))) {
+                context.fail(rows.get(i), "Flight " + flight.getFlightNumber() + " on "
+                        + flight.getDepartureDateTime() + " already exists");
+            } else {
+                newRows.add(rows.get(i));
+                newFlights.add(flight);
+            }
+        }
+
+        // Flights created concurrently since the check still fail on the unique index and are reported here
+        return flightRepository.insertAllUnordered(newFlights)
+                .doOnNext(failures -> {
+                    failures.forEach((index, message) -> context.fail(newRows.get(index), message));
+                    context.imported += newFlights.size() - failures.size();
+                })
+                .then();
+    }
+
+    /**
+     * Load airlines not seen earlier in this import; unknown codes are cached as missing too
+     */
+    private Mono<Void> resolveAirlines(ImportContext context, List<ImportRow> rows) {
+        Set<String> unresolved = rows.stream()
+                .map(row -> row.request().getAirlineCode())
+                .filter(code -> !context.airlines.containsKey(code))
+                .collect(Collectors.toSet());
+
+        if (unresolved.isEmpty()) {
+            return Mono.empty();
+        }
+
+        return airlineRepository.findByAirlineCodeIn(unresolved)
+                .doOnNext(airline -> context.airlines.put(airline.getAirlineCode(), airline))
+                .then(Mono.fromRunnable(() -> unresolved.forEach(code -> context.airlines.putIfAbsent(code, null))));
+    }
+
+    private Map<String, Integer> readHeader(String line) {
+        List<String> names = CsvLineParser.split(line);
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i), i);
+        }
+
+        List<String> missing = REQUIRED_CSV_COLUMNS.stream()
+                .filter(column -> !columns.containsKey(column))
+                .sorted()
+                .toList();
+        if (!missing.isEmpty()) {
+            throw new InvalidRequestException("CSV header is missing columns: " + String.join(", ", missing));
+        }
+        return columns;
+    }
+
+    private InventoryRequest readCsvRow(Map<String, Integer> columns, String line) {
+        List<String> fields = CsvLineParser.split(line);
+        if (fields.size() < columns.size()) {
+            throw new IllegalArgumentException(String.format(
+                    "expected %d columns but found %d", columns.size(), fields.size()));
+        }
+
+        String daysOfWeek = field(columns, fields, "daysOfWeek");
+        String totalSeats = field(columns, fields, "totalSeats");
+        String baseFare = field(columns, fields, "baseFare");
+        String departure = field(columns, fields, "departureDateTime");
+        String arrival = field(columns, fields, "arrivalDateTime");
+
+        return InventoryRequest.builder()
+                .airlineCode(field(columns, fields, "airlineCode"))
+                .flightNumber(field(columns, fields, "flightNumber"))
+                .origin(field(columns, fields, "origin"))
+                .destination(field(columns, fields, "destination"))
+                .departureDateTime(departure != null ? LocalDateTime.parse(departure) : null)
+                .arrivalDateTime(arrival != null ? LocalDateTime.parse(arrival) : null)
+                .aircraftType(field(columns, fields, "aircraftType"))
+                .totalSeats(totalSeats != null ? Integer.valueOf(totalSeats) : null)
+                .baseFare(baseFare != null ? Double.valueOf(baseFare) : null)
+                .currency(field(columns, fields, "currency"))
+                // Several days share one column, separated by '|'
+                .daysOfWeek(daysOfWeek != null ? Arrays.asList(daysOfWeek.split("\\|")) : null)
+                .build();
+    }
+
+    private String field(Map<String, Integer> columns, List<String> fields, String name) {
+        Integer index = columns.get(name);
+        if (index == null || fields.get(index).isEmpty()) {
+            return null;
+        }
+        return fields.get(index);
+    }
+
+    private record ImportRow(long line, InventoryRequest request, String error) {
+
+        static ImportRow failed(long line, String flightNumber, String error) {
+            InventoryRequest request = flightNumber != null
+                    ? InventoryRequest.builder().flightNumber(flightNumber).build()
+                    : null;
+            return new ImportRow(line, request, error);
+        }
+    }
+
+    /**
+     * Per-import state; chunks are processed one at a time, so plain collections suffice
+     */
+    private final class ImportContext {
+
+        private final boolean csv;
+        private Map<String, Integer> columns;
+
+        private final Map<String, Airline> airlines = new HashMap<>();
+        private final Set<String> scheduleKeys = new HashSet<>();
+        private final List<BulkImportResponse.RowError> errors = new ArrayList<>();
+
+        private long totalRows;
+        private long imported;
+        private long failed;
+
+        private ImportContext(boolean csv) {
+            this.csv = csv;
+        }
+
+        private void fail(ImportRow row, String message) {
+            failed++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(BulkImportResponse.RowError.builder()
+                        .line(row.line())
+                        .flightNumber(row.request() != null ? row.request().getFlightNumber() : null)
+                        .message(message)
+                        .build());
+            }
+        }
+
+        private BulkImportResponse toResponse() {
+            errors.sort(Comparator.comparing(BulkImportResponse.RowError::getLine));
+            return BulkImportResponse.builder()
+                    .totalRows(totalRows)
+                    .imported(imported)
+                    .failed(failed)
+                    .errors(errors)
+                    .errorsTruncated(failed > errors.size())
+                    .build();
+        }
+    }
+}
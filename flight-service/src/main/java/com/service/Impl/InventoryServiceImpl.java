@@ -1,7 +1,9 @@
 package com.service.Impl;
 
+import com.dto.request.FareAdjustmentRequest;
 import com.dto.request.InventoryRequest;
 import com.dto.response.ApiResponse;
+import com.dto.response.FareAdjustmentResponse;
 import com.exception.AirlineNotFoundException;
 import com.exception.DuplicateResourceException;
 import com.model.Flight;
@@ -9,14 +11,19 @@ import com.model.Seat;
 import com.repository.AirlineRepository;
 import com.repository.FlightRepository;
 import com.service.InventoryService;
+import com.util.Constants;
 import com.util.DateTimeUtil;
 import com.util.SeatGenerator;
+import com.validator.FareAdjustmentValidator;
 import com.validator.InventoryValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
@@ -24,9 +31,15 @@ import java.util.List;
 @Slf4j
 public class InventoryServiceImpl implements InventoryService {
 
+    private static final String START_OF_COLLECTION = "";
+
     private final FlightRepository flightRepository;
     private final AirlineRepository airlineRepository;
     private final InventoryValidator inventoryValidator;
+    private final FareAdjustmentValidator fareAdjustmentValidator;
+
+    @Value("${app.inventory.fare-adjustment.chunk-size:500}")
+    private int fareChunkSize;
 
     public Mono<ApiResponse<String>> addFlightInventory(InventoryRequest request) {
         log.info("Adding flight inventory: {} from {} to {}",
@@ -39,29 +52,18 @@ public class InventoryServiceImpl implements InventoryService {
         return airlineRepository.findByAirlineCode(request.getAirlineCode())
                 .switchIfEmpty(Mono.error(new AirlineNotFoundException(request.getAirlineCode())))
                 .flatMap(airline -> {
-                    // Check for duplicate flight
-                    return flightRepository
-                            .existsByFlightNumberAndDepartureDateTime(
-                                    request.getFlightNumber(),
-                                    request.getDepartureDateTime()
-                            )
-                            .flatMap(exists -> {
-                                if (Boolean.TRUE.equals(exists)) {
-                                    return Mono.error(new DuplicateResourceException(
-                                            "Flight",
-                                            request.getFlightNumber() + " on " + request.getDepartureDateTime()
-                                    ));
-                                }
-
-                                // Build and save flight
-                                Flight flight = buildFlight(request, airline.getName(), airline.getLogoUrl());
-
-                                return flightRepository.save(flight)
-                                        .map(savedFlight -> ApiResponse.success(
-                                                "Flight inventory added successfully",
-                                                savedFlight.getId()
-                                        ));
-                            });
+                    // Build and save flight; the unique (flightNumber, departureDateTime) index rejects duplicates
+                    Flight flight = buildFlight(request, airline.getName(), airline.getLogoUrl());
+
+                    return flightRepository.save(flight)
+                            .onErrorMap(DuplicateKeyException.class, ex -> new DuplicateResourceException(
+                                    "Flight",
+                                    request.getFlightNumber() + " on " + request.getDepartureDateTime()
+                            ))
+                            .map(savedFlight -> ApiResponse.success(
+                                    "Flight inventory added successfully",
+                                    savedFlight.getId()
+                            ));
                 })
                 .doOnSuccess(response -> log.info("Flight inventory added: {}", response.getData()))
                 .doOnError(error -> log.error("Error adding flight inventory: {}", error.getMessage()));
@@ -82,6 +84,10 @@ public class InventoryServiceImpl implements InventoryService {
                                     updateFlightFromRequest(existingFlight, request, airline.getName(), airline.getLogoUrl());
 
                                     return flightRepository.save(existingFlight)
+                                            .onErrorMap(DuplicateKeyException.class, ex -> new DuplicateResourceException(
+                                                    "Flight",
+                                                    request.getFlightNumber() + " on " + request.getDepartureDateTime()
+                                            ))
                                             .map(updatedFlight -> ApiResponse.success(
                                                     "Flight inventory updated successfully",
                                                     updatedFlight.getId()
@@ -93,9 +99,64 @@ public class InventoryServiceImpl implements InventoryService {
     }
 
     /**
-     * Build Flight entity from request
+     * Apply a fare change to every upcoming flight matching the filter. Fares are recomputed by
+     * Mongo in _id-ordered chunks, so no flight documents are loaded or rewritten.
+     */
+    public Mono<ApiResponse<FareAdjustmentResponse>> adjustFares(FareAdjustmentRequest request) {
+        fareAdjustmentValidator.validateFareAdjustmentRequest(request);
+
+        boolean dryRun = Boolean.TRUE.equals(request.getDryRun());
+        boolean percentage = Constants.FARE_ADJUSTMENT_PERCENTAGE.equalsIgnoreCase(request.getAdjustmentType());
+        double multiplier = percentage ? 1 + request.getAmount() / 100 : 1;
+        double increment = percentage ? 0 : request.getAmount();
+        LocalDateTime now = DateTimeUtil.getCurrentTimestamp();
+
+        log.info("Adjusting fares (airline: {}, route: {}-{}, type: {}, amount: {}, dry run: {})",
+                request.getAirlineCode(), request.getOrigin(), request.getDestination(),
+                request.getAdjustmentType(), request.getAmount(), dryRun);
+
+        Mono<Long> matched = flightRepository.countFareAdjustable(request, now);
+        if (dryRun) {
+            return matched.map(count -> ApiResponse.success(
+                    "Fare adjustment preview",
+                    FareAdjustmentResponse.builder()
+                            .dryRun(true)
+                            .matchedFlights(count)
+                            .build()
+            ));
+        }
+
+        // totals: [0] updated flights, [1] chunks
+        long[] totals = new long[2];
+        return matched.flatMap(count -> Mono.just(START_OF_COLLECTION)
+                        .expand(afterId -> {
+                            String rangeStart = START_OF_COLLECTION.equals(afterId) ? null : afterId;
+                            return flightRepository.findFareChunkEnd(request, now, rangeStart, fareChunkSize)
+                                    .flatMap(chunkEnd -> flightRepository.adjustFares(request, now, rangeStart, chunkEnd,
+                                                    multiplier, increment, request.getMinFare(), request.getMaxFare())
+                                            .doOnNext(updated -> {
+                                                totals[0] += updated;
+                                                totals[1]++;
+                                            })
+                                            .thenReturn(chunkEnd));
+                        })
+                        .then(Mono.fromSupplier(() -> ApiResponse.success(
+                                "Fares adjusted successfully",
+                                FareAdjustmentResponse.builder()
+                                        .dryRun(false)
+                                        .matchedFlights(count)
+                                        .updatedFlights(totals[0])
+                                        .chunks((int) totals[1])
+                                        .build()
+                        ))))
+                .doOnSuccess(response -> log.info("Fares adjusted on {} flights", response.getData().getUpdatedFlights()))
+                .doOnError(error -> log.error("Error adjusting fares: {}", error.getMessage()));
+    }
+
+    /**
+     * Build Flight entity from request; shared with the bulk import
      */
-    private Flight buildFlight(InventoryRequest request, String airlineName, String logoUrl) {
+    static Flight buildFlight(InventoryRequest request, String airlineName, String logoUrl) {
         List<Seat> seats = SeatGenerator.generateSeats(request.getTotalSeats());
 
         return Flight.builder()
@@ -0,0 +1,27 @@
+package com.service.Impl;
+
+import com.model.WaitlistEntry;
+import com.service.WaitlistNotifier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Default notifier until an email/SMS channel is wired in; records what would be sent
+ */
+@Component
+@Slf4j
+public class LoggingWaitlistNotifier implements WaitlistNotifier {
+
+    @Override
+    public void notifyPromoted(WaitlistEntry entry) {
+        log.info("Notify {}: seats {} on flight {} are held under reservation {} until {}",
+                entry.getContactEmail(), entry.getSeatNumbers(), entry.getFlightId(),
+                entry.getReservationId(), entry.getHoldExpiresAt());
+    }
+
+    @Override
+    public void notifyHoldExpired(WaitlistEntry entry) {
+        log.info("Notify {}: seat hold {} on flight {} expired",
+                entry.getContactEmail(), entry.getReservationId(), entry.getFlightId());
+    }
+}
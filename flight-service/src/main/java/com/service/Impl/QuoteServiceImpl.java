@@ -0,0 +1,152 @@
+package com.service.Impl;
+
+import com.dto.request.QuoteRequest;
+import com.dto.response.PriceQuote;
+import com.dto.response.QuoteResponse;
+import com.exception.InvalidRequestException;
+import com.exception.SeatUnavailableException;
+import com.model.Flight;
+import com.model.Seat;
+import com.pricing.QuoteTokenSigner;
+import com.service.FlightService;
+import com.service.QuoteService;
+import com.util.Constants;
+import com.util.DateTimeUtil;
+import com.util.SeatGenerator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class QuoteServiceImpl implements QuoteService {
+
+    private final FlightService flightService;
+    private final QuoteTokenSigner quoteTokenSigner;
+
+    @Value("${app.quotes.ttl-seconds:900}")
+    private long quoteTtlSeconds;
+
+    @Override
+    public Mono<QuoteResponse> createQuote(String flightId, QuoteRequest request) {
+        boolean seatsChosen = request.getSeatNumbers() != null && !request.getSeatNumbers().isEmpty();
+        if (!seatsChosen && request.getPassengers() == null) {
+            return Mono.error(new InvalidRequestException("Either seat numbers or a passenger count is required"));
+        }
+        if (seatsChosen && new HashSet<>(request.getSeatNumbers()).size() != request.getSeatNumbers().size()) {
+            return Mono.error(new InvalidRequestException("Duplicate seat selections are not allowed"));
+        }
+
+        log.info("Quoting flight {}", flightId);
+
+        return flightService.getFlightById(flightId)
+                .map(flight -> {
+                    List<PriceQuote.Line> lines = seatsChosen
+                            ? seatLines(flight, request.getSeatNumbers())
+                            : cabinLines(flight, request);
+                    return toResponse(flight, seatsChosen ? null : cabinOf(request), lines);
+                });
+    }
+
+    /**
+     * One line per chosen seat: its cabin fare plus the seat's own charge
+     */
+    private List<PriceQuote.Line> seatLines(Flight flight, List<String> seatNumbers) {
+        Map<String, Seat> seats = flight.getSeats().stream()
+                .collect(Collectors.toMap(Seat::getSeatNumber, Function.identity()));
+
+        List<PriceQuote.Line> lines = new ArrayList<>();
+        for (String seatNumber : seatNumbers) {
+            Seat seat = seats.get(seatNumber);
+            if (seat == null) {
+                throw new InvalidRequestException("Seat " + seatNumber + " does not exist on this flight");
+            }
+            if (!Boolean.TRUE.equals(seat.getIsAvailable())) {
+                throw new SeatUnavailableException("Seat " + seatNumber + " is not available");
+            }
+            lines.add(PriceQuote.Line.builder()
+                    .seatNumber(seatNumber)
+                    .cabinClass(seat.getSeatClass())
+                    .fare(cabinFare(flight, seat.getSeatClass()))
+                    .seatCharge(SeatGenerator.extraChargeOf(seatNumber))
+                    .build());
+        }
+        return lines;
+    }
+
+    /**
+     * One line per passenger for seats assigned at booking time; assigned seats carry no seat charge
+     */
+    private List<PriceQuote.Line> cabinLines(Flight flight, QuoteRequest request) {
+        String cabin = cabinOf(request);
+        if (!flight.getCabinFares().containsKey(cabin)) {
+            throw new InvalidRequestException("Cabin " + cabin + " is not offered on this flight");
+        }
+
+        PriceQuote.Line line = PriceQuote.Line.builder()
+                .cabinClass(cabin)
+                .fare(cabinFare(flight, cabin))
+                .seatCharge(0.0)
+                .build();
+        return new ArrayList<>(Collections.nCopies(request.getPassengers(), line));
+    }
+
+    private QuoteResponse toResponse(Flight flight, String cabinClass, List<PriceQuote.Line> lines) {
+        long issuedAt = System.currentTimeMillis();
+        long expiresAt = issuedAt + quoteTtlSeconds * 1000;
+        double total = lines.stream()
+                .mapToDouble(line -> line.getFare() + line.getSeatCharge())
+                .sum();
+
+        PriceQuote quote = PriceQuote.builder()
+                .flightId(flight.getId())
+                .flightNumber(flight.getFlightNumber())
+                .origin(flight.getOrigin())
+                .destination(flight.getDestination())
+                .departureDateTime(flight.getDepartureDateTime())
+                .currency(flight.getCurrency())
+                .availableSeats(flight.getAvailableSeats())
+                .cabinClass(cabinClass)
+                .passengers(lines.size())
+                .lines(lines)
+                .totalFare(Math.round(total * 100) / 100.0)
+                .issuedAt(issuedAt)
+                .expiresAt(expiresAt)
+                .build();
+
+        return QuoteResponse.builder()
+                .quoteToken(quoteTokenSigner.sign(quote))
+                .expiresAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(expiresAt), ZoneId.of(Constants.TIMEZONE_IST)))
+                .quote(quote)
+                .build();
+    }
+
+    private double cabinFare(Flight flight, String cabin) {
+        Double fare = flight.getCabinFares().get(cabin);
+        if (fare != null) {
+            return fare;
+        }
+        if (flight.getCurrentFare() != null) {
+            return flight.getCurrentFare();
+        }
+        throw new InvalidRequestException("Flight " + flight.getFlightNumber() + " has no fare");
+    }
+
+    private String cabinOf(QuoteRequest request) {
+        return request.getCabinClass() != null ? request.getCabinClass().toUpperCase() : Constants.SEAT_ECONOMY;
+    }
+}
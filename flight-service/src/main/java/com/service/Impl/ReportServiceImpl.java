@@ -0,0 +1,106 @@
+package com.service.Impl;
+
+import com.dto.response.LoadFactorReport;
+import com.exception.InvalidRequestException;
+import com.repository.FlightRepository;
+import com.service.ReportService;
+import com.util.DateTimeUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Load-factor reporting. The figures are computed by an aggregation inside Mongo over live and
+ * archived flights, so windows reaching past the archive retention period are complete. Each
+ * reporting window is cached briefly so repeated dashboard refreshes do not rerun it.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReportServiceImpl implements ReportService {
+
+    private final FlightRepository flightRepository;
+
+    private final Map<String, Mono<LoadFactorReport>> reportCache = new ConcurrentHashMap<>();
+
+    @Value("${app.reports.cache-ttl-seconds:300}")
+    private long cacheTtlSeconds;
+
+    @Value("${app.reports.cache-max-entries:256}")
+    private int cacheMaxEntries;
+
+    @Value("${app.reports.default-window-days:30}")
+    private int defaultWindowDays;
+
+    @Value("${app.reports.max-window-days:366}")
+    private int maxWindowDays;
+
+    @Override
+    public Mono<LoadFactorReport> getLoadFactorReport(String airlineCode, LocalDate from, LocalDate to) {
+        LocalDate start = from != null ? from : DateTimeUtil.getCurrentTimestamp().toLocalDate();
+        LocalDate end = to != null ? to : start.plusDays(defaultWindowDays - 1L);
+        String airline = airlineCode != null ? airlineCode.toUpperCase() : null;
+
+        if (end.isBefore(start)) {
+            return Mono.error(new InvalidRequestException("Report end date must not be before start date"));
+        }
+        if (ChronoUnit.DAYS.between(start, end) >= maxWindowDays) {
+            return Mono.error(new InvalidRequestException(
+                    "Report window cannot exceed " + maxWindowDays + " days"));
+        }
+
+        // Stale windows are replaced on their next request; this only caps the key count
+        if (reportCache.size() >= cacheMaxEntries) {
+            reportCache.clear();
+        }
+
+        String key = airline + "|" + start + "|" + end;
+        return reportCache.computeIfAbsent(key, k -> buildReport(airline, start, end)
+                .cache(report -> Duration.ofSeconds(cacheTtlSeconds),
+                        error -> Duration.ZERO,
+                        () -> Duration.ZERO));
+    }
+
+    private Mono<LoadFactorReport> buildReport(String airlineCode, LocalDate from, LocalDate to) {
+        return Mono.defer(() -> {
+            log.info("Computing load-factor report (airline: {}, from: {}, to: {})", airlineCode, from, to);
+
+            return flightRepository.aggregateLoadFactor(airlineCode, from.atStartOfDay(), to.plusDays(1).atStartOfDay())
+                    .collectList()
+                    .map(rows -> toReport(airlineCode, from, to, rows));
+        });
+    }
+
+    private LoadFactorReport toReport(String airlineCode, LocalDate from, LocalDate to,
+                                      List<LoadFactorReport.Row> rows) {
+        long flights = 0;
+        long seats = 0;
+        long sold = 0;
+        for (LoadFactorReport.Row row : rows) {
+            flights += row.getFlights();
+            seats += row.getTotalSeats();
+            sold += row.getSeatsSold();
+        }
+
+        return LoadFactorReport.builder()
+                .from(from)
+                .to(to)
+                .airlineCode(airlineCode)
+                .generatedAt(DateTimeUtil.getCurrentTimestamp())
+                .totalFlights(flights)
+                .totalSeats(seats)
+                .seatsSold(sold)
+                .loadFactor(seats > 0 ? (double) sold / seats : null)
+                .rows(rows)
+                .build();
+    }
+}
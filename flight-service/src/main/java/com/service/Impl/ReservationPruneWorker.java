@@ -0,0 +1,37 @@
+package com.service.Impl;
+
+import com.service.FlightService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Prunes old released reservations from flights every hour
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReservationPruneWorker {
+
+    private final FlightService flightService;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Scheduled(fixedDelayString = "${app.reservations.prune-interval-ms:3600000}")
+    public void pruneReleasedReservations() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("Previous reservation pruning still running, skipping this run");
+            return;
+        }
+
+        flightService.pruneReleasedReservations()
+                .doFinally(signal -> running.set(false))
+                .subscribe(
+                        pruned -> { },
+                        error -> log.error("Reservation pruning failed: {}", error.getMessage())
+                );
+    }
+}
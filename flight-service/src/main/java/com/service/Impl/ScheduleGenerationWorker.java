@@ -0,0 +1,37 @@
+package com.service.Impl;
+
+import com.service.ScheduleService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Rolls the generated-flights horizon forward once a day
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ScheduleGenerationWorker {
+
+    private final ScheduleService scheduleService;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Scheduled(cron = "${app.schedules.generation-cron:0 30 1 * * *}", zone = "Asia/Kolkata")
+    public void rollHorizon() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("Previous schedule generation still running, skipping this run");
+            return;
+        }
+
+        scheduleService.generateFlights()
+                .doFinally(signal -> running.set(false))
+                .subscribe(
+                        response -> { },
+                        error -> log.error("Schedule generation failed: {}", error.getMessage())
+                );
+    }
+}
@@ -0,0 +1,266 @@
+package com.service.Impl;
+
+import com.dto.request.InventoryRequest;
+import com.dto.request.ScheduleRequest;
+import com.dto.response.ScheduleGenerationResponse;
+import com.exception.AirlineNotFoundException;
+import com.exception.DuplicateResourceException;
+import com.exception.ScheduleNotFoundException;
+import com.model.Airline;
+import com.model.Flight;
+import com.model.FlightSchedule;
+import com.repository.AirlineRepository;
+import com.repository.FlightRepository;
+import com.repository.FlightRepositoryCustom;
+import com.repository.FlightScheduleRepository;
+import com.service.ScheduleService;
+import com.util.DateTimeUtil;
+import com.validator.ScheduleValidator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ScheduleServiceImpl implements ScheduleService {
+
+    private final FlightScheduleRepository scheduleRepository;
+    private final FlightRepository flightRepository;
+    private final AirlineRepository airlineRepository;
+    private final ScheduleValidator scheduleValidator;
+
+    @Value("${app.schedules.horizon-days:90}")
+    private int horizonDays;
+
+    @Value("${app.schedules.batch-size:200}")
+    private int batchSize;
+
+    @Value("${app.schedules.concurrency:4}")
+    private int concurrency;
+
+    @Override
+    public Mono<FlightSchedule> createSchedule(ScheduleRequest request) {
+        log.info("Creating schedule for flight {} from {} to {}",
+                request.getFlightNumber(), request.getValidFrom(), request.getValidTo());
+
+        scheduleValidator.validateScheduleRequest(request);
+
+        return airlineRepository.existsByAirlineCode(request.getAirlineCode())
+                .flatMap(airlineExists -> {
+                    if (!Boolean.TRUE.equals(airlineExists)) {
+                        return Mono.error(new AirlineNotFoundException(request.getAirlineCode()));
+                    }
+                    return scheduleRepository
+                            .existsByFlightNumberAndActiveTrueAndValidFromLessThanEqualAndValidToGreaterThanEqual(
+                                    request.getFlightNumber(), request.getValidTo(), request.getValidFrom());
+                })
+                .flatMap(overlaps -> {
+                    if (Boolean.TRUE.equals(overlaps)) {
+                        return Mono.error(new DuplicateResourceException(
+                                "Schedule",
+                                request.getFlightNumber() + " overlapping " + request.getValidFrom()
+                                        + " to " + request.getValidTo()
+                        ));
+                    }
+
+                    return scheduleRepository.save(FlightSchedule.builder()
+                            .flightNumber(request.getFlightNumber())
+                            .airlineCode(request.getAirlineCode())
+                            .origin(request.getOrigin().toUpperCase())
+                            .destination(request.getDestination().toUpperCase())
+                            .departureTime(request.getDepartureTime())
+                            .arrivalTime(request.getArrivalTime())
+                            .arrivalDayOffset(request.getArrivalDayOffset() != null ? request.getArrivalDayOffset() : 0)
+                            .daysOfWeek(request.getDaysOfWeek())
+                            .validFrom(request.getValidFrom())
+                            .validTo(request.getValidTo())
+                            .aircraftType(request.getAircraftType())
+                            .totalSeats(request.getTotalSeats())
+                            .baseFare(request.getBaseFare())
+                            .currency(request.getCurrency() != null ? request.getCurrency() : "INR")
+                            .active(true)
+                            .createdAt(DateTimeUtil.getCurrentTimestamp())
+                            .updatedAt(DateTimeUtil.getCurrentTimestamp())
+                            .build());
+                })
+                .doOnSuccess(schedule -> log.info("Schedule created: {}", schedule.getId()));
+    }
+
+    @Override
+    public Flux<FlightSchedule> getAllSchedules() {
+        return scheduleRepository.findAll();
+    }
+
+    @Override
+    public Mono<FlightSchedule> getScheduleById(String scheduleId) {
+        return scheduleRepository.findById(scheduleId)
+                .switchIfEmpty(Mono.error(new ScheduleNotFoundException(scheduleId)));
+    }
+
+    /**
+     * Stop generating flights for a schedule; flights already generated are kept
+     */
+    @Override
+    public Mono<FlightSchedule> deactivateSchedule(String scheduleId) {
+        log.info("Deactivating schedule {}", scheduleId);
+
+        return getScheduleById(scheduleId)
+                .flatMap(schedule -> {
+                    schedule.setActive(false);
+                    schedule.setUpdatedAt(DateTimeUtil.getCurrentTimestamp());
+                    return scheduleRepository.save(schedule);
+                });
+    }
+
+    /**
+     * Materialize dated flights for every active schedule up to the rolling horizon.
+     * Each schedule only looks at dates past its generatedThrough watermark, and dates that
+     * already have a flight are skipped, so runs can be repeated or overlap safely.
+     */
+    @Override
+    public Mono<ScheduleGenerationResponse> generateFlights() {
+        LocalDate today = DateTimeUtil.getCurrentTimestamp().toLocalDate();
+        LocalDate horizonEnd = today.plusDays(horizonDays);
+        Map<String, Mono<Airline>> airlines = new ConcurrentHashMap<>();
+
+        log.info("Generating scheduled flights through {}", horizonEnd);
+
+        return scheduleRepository.findByActiveTrueAndValidToGreaterThanEqual(today)
+                .flatMap(schedule -> generateForSchedule(schedule, today, horizonEnd, airlines)
+                        .map(created -> new int[]{1, 0, created[0], created[1]})
+                        .onErrorResume(error -> {
+                            log.error("Failed to generate flights for schedule {}: {}",
+                                    schedule.getId(), error.getMessage());
+                            return Mono.just(new int[]{0, 1, 0, 0});
+                        }), concurrency)
+                .reduce(new int[4], (total, result) -> {
+                    for (int i = 0; i < total.length; i++) {
+                        total[i] += result[i];
+                    }
+                    return total;
+                })
+                .map(total -> ScheduleGenerationResponse.builder()
+                        .horizonEnd(horizonEnd)
+                        .schedulesProcessed(total[0])
+                        .schedulesFailed(total[1])
+                        .flightsCreated(total[2])
+                        .flightsSkipped(total[3])
+                        .build())
+                .doOnSuccess(response -> log.info("Schedule generation finished: {} flights created, {} skipped",
+                        response.getFlightsCreated(), response.getFlightsSkipped()));
+    }
+
+    /**
+     * @return flights created and skipped for one schedule
+     */
+    private Mono<int[]> generateForSchedule(FlightSchedule schedule, LocalDate today, LocalDate horizonEnd,
+                                            Map<String, Mono<Airline>> airlines) {
+        LocalDate start = latest(today, schedule.getValidFrom(),
+                schedule.getGeneratedThrough() != null ? schedule.getGeneratedThrough().plusDays(1) : null);
+        LocalDate end = schedule.getValidTo().isBefore(horizonEnd) ? schedule.getValidTo() : horizonEnd;
+
+        if (start.isAfter(end)) {
+            return Mono.just(new int[2]);
+        }
+
+        Set<DayOfWeek> days = schedule.getDaysOfWeek().stream()
+                .map(DateTimeUtil::parseDayOfWeek)
+                .collect(Collectors.toSet());
+        LocalDateTime now = DateTimeUtil.getCurrentTimestamp();
+
+        List<LocalDateTime> departures = start.datesUntil(end.plusDays(1))
+                .filter(date -> days.contains(date.getDayOfWeek()))
+                .map(date -> date.atTime(schedule.getDepartureTime()))
+                .filter(departure -> departure.isAfter(now))
+                .toList();
+
+        Mono<Airline> airline = airlines.computeIfAbsent(schedule.getAirlineCode(), code ->
+                airlineRepository.findByAirlineCode(code)
+                        .switchIfEmpty(Mono.error(new AirlineNotFoundException(code)))
+                        .cache());
+
+        return airline
+                .flatMapMany(resolved -> Flux.fromIterable(departures)
+                        .buffer(batchSize)
+                        .concatMap(batch -> insertBatch(schedule, resolved, batch)))
+                .reduce(new int[2], (total, batch) -> {
+                    total[0] += batch[0];
+                    total[1] += batch[1];
+                    return total;
+                })
+                .flatMap(total -> scheduleRepository.advanceGeneratedThrough(schedule.getId(), end)
+                        .thenReturn(total));
+    }
+
+    private Mono<int[]> insertBatch(FlightSchedule schedule, Airline airline, List<LocalDateTime> departures) {
+        List<Flight> candidates = departures.stream()
+                .map(departure -> buildScheduledFlight(schedule, airline, departure))
+                .toList();
+
+        return flightRepository.findExistingScheduleKeys(candidates)
+                .flatMap(existing -> {
+                    List<Flight> flights = candidates.stream()
+                            .filter(flight -> !existing.contains(FlightRepositoryCustom.scheduleKey(
+                                    flight.getFlightNumber(), flight.getDepartureDateTime())))
+                            .toList();
+
+                    // Duplicates created by an overlapping run are rejected by the unique index
+                    return flightRepository.insertAllUnordered(flights)
+                            .map(failures -> {
+                                failures.values().forEach(message -> log.debug(
+                                        "Skipped flight for schedule {}: {}", schedule.getId(), message));
+                                return new int[]{
+                                        flights.size() - failures.size(),
+                                        candidates.size() - flights.size() + failures.size()
+                                };
+                            });
+                });
+    }
+
+    private Flight buildScheduledFlight(FlightSchedule schedule, Airline airline, LocalDateTime departure) {
+        LocalDateTime arrival = departure.toLocalDate()
+                .plusDays(schedule.getArrivalDayOffset() != null ? schedule.getArrivalDayOffset() : 0)
+                .atTime(schedule.getArrivalTime());
+
+        InventoryRequest request = InventoryRequest.builder()
+                .airlineCode(schedule.getAirlineCode())
+                .flightNumber(schedule.getFlightNumber())
+                .origin(schedule.getOrigin())
+                .destination(schedule.getDestination())
+                .departureDateTime(departure)
+                .arrivalDateTime(arrival)
+                .aircraftType(schedule.getAircraftType())
+                .totalSeats(schedule.getTotalSeats())
+                .baseFare(schedule.getBaseFare())
+                .currency(schedule.getCurrency())
+                .daysOfWeek(schedule.getDaysOfWeek())
+                .build();
+
+        Flight flight = InventoryServiceImpl.buildFlight(request, airline.getName(), airline.getLogoUrl());
+        flight.setScheduleId(schedule.getId());
+        return flight;
+    }
+
+    private LocalDate latest(LocalDate... dates) {
+        LocalDate latest = null;
+        for (LocalDate date : dates) {
+            if (date != null && (latest == null || date.isAfter(latest))) {
+                latest = date;
+            }
+        }
+        return latest;
+    }
+}
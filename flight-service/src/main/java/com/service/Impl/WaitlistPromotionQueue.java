@@ -0,0 +1,38 @@
+package com.service.Impl;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Flights whose seats were freed and whose waitlist should be promoted.
+ * Signalling is a set insert so cancellations never wait on promotion; repeated
+ * releases on the same flight collapse into one pending promotion.
+ */
+@Component
+public class WaitlistPromotionQueue {
+
+    private final Set<String> pendingFlightIds = ConcurrentHashMap.newKeySet();
+
+    public void signal(String flightId) {
+        pendingFlightIds.add(flightId);
+    }
+
+    /**
+     * Remove and return up to {@code max} pending flights
+     */
+    public List<String> drain(int max) {
+        List<String> flightIds = new ArrayList<>(Math.min(max, pendingFlightIds.size()));
+        Iterator<String> iterator = pendingFlightIds.iterator();
+        while (iterator.hasNext() && flightIds.size() < max) {
+            String flightId = iterator.next();
+            iterator.remove();
+            flightIds.add(flightId);
+        }
+        return flightIds;
+    }
+}
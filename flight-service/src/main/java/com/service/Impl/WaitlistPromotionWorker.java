@@ -0,0 +1,87 @@
+package com.service.Impl;
+
+import com.repository.WaitlistRepository;
+import com.service.WaitlistService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Runs waitlist promotions off the request path. Released flights are promoted in batches
+ * from the promotion queue; a slower sweep expires unbooked holds and re-queues every flight
+ * with waiting entries, which also recovers promotions lost to a restart.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class WaitlistPromotionWorker {
+
+    private final WaitlistService waitlistService;
+    private final WaitlistRepository waitlistRepository;
+    private final WaitlistPromotionQueue promotionQueue;
+
+    private final AtomicBoolean promoting = new AtomicBoolean();
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+
+    @Value("${app.waitlist.flights-per-run:100}")
+    private int flightsPerRun;
+
+    @Value("${app.waitlist.promotion-concurrency:4}")
+    private int promotionConcurrency;
+
+    @Scheduled(fixedDelayString = "${app.waitlist.promotion-interval-ms:2000}")
+    public void promotePendingFlights() {
+        if (!promoting.compareAndSet(false, true)) {
+            return;
+        }
+
+        List<String> flightIds = promotionQueue.drain(flightsPerRun);
+        if (flightIds.isEmpty()) {
+            promoting.set(false);
+            return;
+        }
+
+        Flux.fromIterable(flightIds)
+                .flatMap(flightId -> waitlistService.promoteWaitlist(flightId)
+                        .onErrorResume(error -> {
+                            log.error("Waitlist promotion failed for flight {}: {}", flightId, error.getMessage());
+                            promotionQueue.signal(flightId);
+                            return Mono.just(0);
+                        }), promotionConcurrency)
+                .reduce(0, Integer::sum)
+                .doFinally(signal -> promoting.set(false))
+                .subscribe(processed -> {
+                    if (processed > 0) {
+                        log.info("Processed {} waitlist entries across {} flights", processed, flightIds.size());
+                    }
+                });
+    }
+
+    @Scheduled(fixedDelayString = "${app.waitlist.sweep-interval-ms:60000}")
+    public void sweep() {
+        if (!sweeping.compareAndSet(false, true)) {
+            return;
+        }
+
+        waitlistService.expireHolds()
+                .doOnNext(expired -> {
+                    if (expired > 0) {
+                        log.info("Settled {} expired waitlist holds", expired);
+                    }
+                })
+                .thenMany(waitlistRepository.findFlightIdsWithWaitingEntries())
+                .doOnNext(promotionQueue::signal)
+                .doFinally(signal -> sweeping.set(false))
+                .subscribe(
+                        flightId -> { },
+                        error -> log.error("Waitlist sweep failed: {}", error.getMessage())
+                );
+    }
+}
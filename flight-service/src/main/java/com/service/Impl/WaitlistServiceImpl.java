@@ -0,0 +1,332 @@
+package com.service.Impl;
+
+import com.dto.request.SeatAssignmentRequest;
+import com.dto.request.WaitlistRequest;
+import com.dto.response.WaitlistResponse;
+import com.exception.DuplicateResourceException;
+import com.exception.InvalidRequestException;
+import com.exception.SeatUnavailableException;
+import com.exception.WaitlistEntryNotFoundException;
+import com.model.Flight;
+import com.model.SeatReservation;
+import com.model.WaitlistEntry;
+import com.repository.FlightRepository;
+import com.repository.WaitlistRepository;
+import com.service.FlightService;
+import com.service.WaitlistNotifier;
+import com.service.WaitlistService;
+import com.util.Constants;
+import com.util.DateTimeUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class WaitlistServiceImpl implements WaitlistService {
+
+    private static final Set<String> CABIN_CLASSES =
+            Set.of(Constants.SEAT_ECONOMY, Constants.SEAT_BUSINESS, Constants.SEAT_FIRST_CLASS);
+    private static final List<String> ACTIVE_STATUSES =
+            List.of(Constants.WAITLIST_WAITING, Constants.WAITLIST_PROMOTED);
+
+    private final WaitlistRepository waitlistRepository;
+    private final FlightRepository flightRepository;
+    private final FlightService flightService;
+    private final WaitlistPromotionQueue promotionQueue;
+    private final WaitlistNotifier waitlistNotifier;
+
+    @Value("${app.waitlist.hold-minutes:15}")
+    private long holdMinutes;
+
+    @Value("${app.waitlist.promotion-batch-size:50}")
+    private int promotionBatchSize;
+
+    @Override
+    public Mono<WaitlistResponse> joinWaitlist(String flightId, WaitlistRequest request) {
+        String cabinClass = normalizeCabinClass(request.getCabinClass());
+        String contactEmail = normalizeEmail(request.getContactEmail());
+        log.info("Adding {} to the {} waitlist of flight {} for {} passengers",
+                contactEmail, cabinClass, flightId, request.getPassengers());
+
+        return flightService.getFlightById(flightId)
+                .flatMap(flight -> {
+                    int freeSeats = freeSeatsByCabin(flight).getOrDefault(cabinClass, 0);
+                    if (freeSeats >= request.getPassengers()) {
+                        return Mono.error(new InvalidRequestException(String.format(
+                                "%d %s seats are still available on flight %s, please book them directly",
+                                freeSeats, cabinClass, flight.getFlightNumber())));
+                    }
+                    return waitlistRepository.existsByFlightIdAndContactEmailAndStatusIn(
+                            flightId, contactEmail, ACTIVE_STATUSES);
+                })
+                .flatMap(exists -> {
+                    if (Boolean.TRUE.equals(exists)) {
+                        return Mono.error(new DuplicateResourceException(
+                                "Waitlist entry", contactEmail + " on flight " + flightId));
+                    }
+                    return waitlistRepository.nextSequence(flightId);
+                })
+                .flatMap(sequence -> waitlistRepository.save(WaitlistEntry.builder()
+                        .flightId(flightId)
+                        .cabinClass(cabinClass)
+                        .sequence(sequence)
+                        .passengers(request.getPassengers())
+                        .contactName(request.getContactName())
+                        .contactEmail(contactEmail)
+                        .status(Constants.WAITLIST_WAITING)
+                        .createdAt(DateTimeUtil.getCurrentTimestamp())
+                        .updatedAt(DateTimeUtil.getCurrentTimestamp())
+                        .build()))
+                // The unique partial index rejects a concurrent join that passed the check above
+                .onErrorMap(DuplicateKeyException.class, ex -> new DuplicateResourceException(
+                        "Waitlist entry", contactEmail + " on flight " + flightId))
+                .flatMap(this::convertToWaitlistResponse)
+                .doOnSuccess(response -> log.info("Waitlist entry {} created at position {}",
+                        response.getEntryId(), response.getPosition()));
+    }
+
+    @Override
+    public Mono<WaitlistResponse> getWaitlistEntry(String flightId, String entryId) {
+        return findEntry(flightId, entryId)
+                .flatMap(this::convertToWaitlistResponse);
+    }
+
+    @Override
+    public Mono<WaitlistResponse> leaveWaitlist(String flightId, String entryId) {
+        log.info("Removing waitlist entry {} from flight {}", entryId, flightId);
+
+        return findEntry(flightId, entryId)
+                .flatMap(entry -> switch (entry.getStatus()) {
+                    case Constants.WAITLIST_WAITING -> waitlistRepository
+                            .updateStatus(entryId, Constants.WAITLIST_WAITING, Constants.WAITLIST_CANCELLED)
+                            .flatMap(cancelled -> cancelled
+                                    ? Mono.just(withStatus(entry, Constants.WAITLIST_CANCELLED))
+                                    : findEntry(flightId, entryId));
+                    case Constants.WAITLIST_PROMOTED -> settlePromotedEntry(entry, Constants.WAITLIST_CANCELLED);
+                    default -> Mono.just(entry);
+                })
+                .flatMap(this::convertToWaitlistResponse);
+    }
+
+    /**
+     * Promote waiting entries in queue order while their cabin has enough free seats.
+     * Each promotion holds seats through an idempotent assignment keyed by the entry id,
+     * so a promotion that is interrupted and repeated never holds seats twice.
+     *
+     * @return the number of entries processed
+     */
+    @Override
+    public Mono<Integer> promoteWaitlist(String flightId) {
+        return flightService.getFlightById(flightId)
+                .filter(flight -> flight.getDepartureDateTime() == null
+                        || flight.getDepartureDateTime().isAfter(DateTimeUtil.getCurrentTimestamp()))
+                .flatMapMany(flight -> Flux.fromIterable(freeSeatsByCabin(flight).entrySet()))
+                .concatMap(cabin -> promoteCabin(flightId, cabin.getKey(), cabin.getValue()))
+                .reduce(0, Integer::sum)
+                .defaultIfEmpty(0);
+    }
+
+    /**
+     * Release holds that were not booked in time, so the seats move on to the next in line
+     *
+     * @return the number of holds settled
+     */
+    @Override
+    public Mono<Integer> expireHolds() {
+        return waitlistRepository.findByStatusAndHoldExpiresAtBefore(
+                        Constants.WAITLIST_PROMOTED,
+                        DateTimeUtil.getCurrentTimestamp(),
+                        PageRequest.of(0, promotionBatchSize))
+                .concatMap(entry -> settlePromotedEntry(entry, Constants.WAITLIST_EXPIRED))
+                .count()
+                .map(Long::intValue);
+    }
+
+    /**
+     * Promote one batch of a cabin's queue. Promotion is strictly first come, first served:
+     * it stops at the first party that no longer fits instead of skipping ahead to smaller ones.
+     */
+    private Mono<Integer> promoteCabin(String flightId, String cabinClass, int freeSeats) {
+        AtomicInteger remainingSeats = new AtomicInteger(freeSeats);
+
+        return waitlistRepository.findByFlightIdAndCabinClassAndStatusOrderBySequenceAsc(
+                        flightId, cabinClass, Constants.WAITLIST_WAITING, PageRequest.of(0, promotionBatchSize))
+                .concatMap(entry -> entry.getPassengers() > remainingSeats.get()
+                        ? Mono.just(false)
+                        : promoteEntry(entry).doOnNext(promoted -> {
+                            if (promoted) {
+                                remainingSeats.addAndGet(-entry.getPassengers());
+                            }
+                        }))
+                .takeWhile(Boolean::booleanValue)
+                .count()
+                .map(Long::intValue)
+                .doOnNext(processed -> {
+                    // A full batch may have more waiting behind it; come back on the next run
+                    if (processed == promotionBatchSize && remainingSeats.get() > 0) {
+                        promotionQueue.signal(flightId);
+                    }
+                });
+    }
+
+    private Mono<Boolean> promoteEntry(WaitlistEntry entry) {
+        String flightId = entry.getFlightId();
+        String reservationId = Constants.WAITLIST_RESERVATION_PREFIX + entry.getId();
+
+        SeatAssignmentRequest assignmentRequest = SeatAssignmentRequest.builder()
+                .passengers(entry.getPassengers())
+                .cabinClass(entry.getCabinClass())
+                .keepTogether(true)
+                .reservationId(reservationId)
+                .build();
+
+        return flightService.assignSeats(flightId, assignmentRequest)
+                .flatMap(assignment -> {
+                    LocalDateTime holdExpiresAt = DateTimeUtil.getCurrentTimestamp().plusMinutes(holdMinutes);
+
+                    return waitlistRepository.markPromoted(
+                                    entry.getId(), reservationId, assignment.getSeatNumbers(), holdExpiresAt)
+                            .flatMap(promoted -> {
+                                if (!promoted) {
+                                    // The customer left while the seats were being held
+                                    log.info("Waitlist entry {} changed during promotion, releasing hold {}",
+                                            entry.getId(), reservationId);
+                                    return flightService.releaseReservation(flightId, reservationId)
+                                            .thenReturn(true);
+                                }
+
+                                entry.setStatus(Constants.WAITLIST_PROMOTED);
+                                entry.setReservationId(reservationId);
+                                entry.setSeatNumbers(assignment.getSeatNumbers());
+                                entry.setHoldExpiresAt(holdExpiresAt);
+                                log.info("Promoted waitlist entry {} on flight {} to seats {}",
+                                        entry.getId(), flightId, assignment.getSeatNumbers());
+                                waitlistNotifier.notifyPromoted(entry);
+                                return Mono.just(true);
+                            });
+                })
+                .onErrorResume(SeatUnavailableException.class, ex -> {
+                    log.debug("Waitlist entry {} could not be seated yet: {}", entry.getId(), ex.getMessage());
+                    return Mono.just(false);
+                });
+    }
+
+    /**
+     * Close out a promoted entry. A hold that is still held is released and the entry moves to
+     * {@code releasedStatus}; a hold that was confirmed by a booking marks the entry booked.
+     */
+    private Mono<WaitlistEntry> settlePromotedEntry(WaitlistEntry entry, String releasedStatus) {
+        SeatReservation hold = SeatReservation.builder()
+                .reservationId(entry.getReservationId())
+                .seatNumbers(entry.getSeatNumbers())
+                .build();
+
+        return flightRepository.releaseHeldReservation(entry.getFlightId(), hold)
+                .flatMap(released -> {
+                    if (released) {
+                        promotionQueue.signal(entry.getFlightId());
+                        return Mono.just(releasedStatus);
+                    }
+                    return resolveHoldOutcome(entry, releasedStatus);
+                })
+                .flatMap(status -> waitlistRepository
+                        .updateStatus(entry.getId(), Constants.WAITLIST_PROMOTED, status)
+                        .flatMap(updated -> {
+                            if (!updated) {
+                                return findEntry(entry.getFlightId(), entry.getId());
+                            }
+                            if (Constants.WAITLIST_EXPIRED.equals(status)) {
+                                waitlistNotifier.notifyHoldExpired(entry);
+                            }
+                            return Mono.just(withStatus(entry, status));
+                        }));
+    }
+
+    private Mono<String> resolveHoldOutcome(WaitlistEntry entry, String releasedStatus) {
+        return flightService.getFlightById(entry.getFlightId())
+                .map(flight -> flight.getReservations() == null ? releasedStatus : flight.getReservations().stream()
+                        .filter(reservation -> entry.getReservationId().equals(reservation.getReservationId()))
+                        .anyMatch(reservation -> Constants.RESERVATION_CONFIRMED.equals(reservation.getStatus()))
+                        ? Constants.WAITLIST_BOOKED
+                        : releasedStatus);
+    }
+
+    private Mono<WaitlistEntry> findEntry(String flightId, String entryId) {
+        return waitlistRepository.findByIdAndFlightId(entryId, flightId)
+                .switchIfEmpty(Mono.error(WaitlistEntryNotFoundException.forId(flightId, entryId)));
+    }
+
+    private Map<String, Integer> freeSeatsByCabin(Flight flight) {
+        if (flight.getSeats() == null) {
+            return Map.of();
+        }
+        return flight.getSeats().stream()
+                .filter(seat -> Boolean.TRUE.equals(seat.getIsAvailable()) && seat.getSeatClass() != null)
+                .collect(Collectors.groupingBy(
+                        seat -> seat.getSeatClass().toUpperCase(),
+                        Collectors.summingInt(seat -> 1)));
+    }
+
+    private String normalizeCabinClass(String cabinClass) {
+        if (cabinClass == null) {
+            return Constants.SEAT_ECONOMY;
+        }
+        String normalized = cabinClass.toUpperCase();
+        if (!CABIN_CLASSES.contains(normalized)) {
+            throw new InvalidRequestException("Unknown cabin class: " + cabinClass);
+        }
+        return normalized;
+    }
+
+    private String normalizeEmail(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private WaitlistEntry withStatus(WaitlistEntry entry, String status) {
+        entry.setStatus(status);
+        return entry;
+    }
+
+    /**
+     * Convert WaitlistEntry to WaitlistResponse, with the queue position while waiting
+     */
+    private Mono<WaitlistResponse> convertToWaitlistResponse(WaitlistEntry entry) {
+        WaitlistResponse response = WaitlistResponse.builder()
+                .entryId(entry.getId())
+                .flightId(entry.getFlightId())
+                .cabinClass(entry.getCabinClass())
+                .passengers(entry.getPassengers())
+                .status(entry.getStatus())
+                .reservationId(entry.getReservationId())
+                .seatNumbers(entry.getSeatNumbers())
+                .holdExpiresAt(entry.getHoldExpiresAt())
+                .createdAt(entry.getCreatedAt())
+                .build();
+
+        if (!Constants.WAITLIST_WAITING.equals(entry.getStatus())) {
+            return Mono.just(response);
+        }
+
+        return waitlistRepository.countByFlightIdAndCabinClassAndStatusAndSequenceLessThan(
+                        entry.getFlightId(), entry.getCabinClass(), Constants.WAITLIST_WAITING, entry.getSequence())
+                .map(ahead -> {
+                    response.setPosition(ahead + 1);
+                    return response;
+                });
+    }
+}
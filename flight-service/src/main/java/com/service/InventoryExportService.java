@@ -0,0 +1,10 @@
+package com.service;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDate;
+
+public interface InventoryExportService {
+    Flux<DataBuffer> exportFlights(String airlineCode, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,11 @@
+package com.service;
+
+import com.dto.response.BulkImportResponse;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.MediaType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface InventoryImportService {
+    Mono<BulkImportResponse> importInventory(Flux<DataBuffer> content, MediaType contentType);
+}
@@ -1,10 +1,13 @@
 package com.service;
 
+import com.dto.request.FareAdjustmentRequest;
 import com.dto.request.InventoryRequest;
 import com.dto.response.ApiResponse;
+import com.dto.response.FareAdjustmentResponse;
 import reactor.core.publisher.Mono;
 
 public interface InventoryService {
     Mono<ApiResponse<String>> addFlightInventory(InventoryRequest request);
     Mono<ApiResponse<String>> updateFlightInventory(String inventoryId, InventoryRequest request);
+    Mono<ApiResponse<FareAdjustmentResponse>> adjustFares(FareAdjustmentRequest request);
 }
\ No newline at end of file
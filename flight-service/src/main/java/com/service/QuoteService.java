@@ -0,0 +1,9 @@
+package com.service;
+
+import com.dto.request.QuoteRequest;
+import com.dto.response.QuoteResponse;
+import reactor.core.publisher.Mono;
+
+public interface QuoteService {
+    Mono<QuoteResponse> createQuote(String flightId, QuoteRequest request);
+}
@@ -0,0 +1,10 @@
+package com.service;
+
+import com.dto.response.LoadFactorReport;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+public interface ReportService {
+    Mono<LoadFactorReport> getLoadFactorReport(String airlineCode, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,15 @@
+package com.service;
+
+import com.dto.request.ScheduleRequest;
+import com.dto.response.ScheduleGenerationResponse;
+import com.model.FlightSchedule;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ScheduleService {
+    Mono<FlightSchedule> createSchedule(ScheduleRequest request);
+    Flux<FlightSchedule> getAllSchedules();
+    Mono<FlightSchedule> getScheduleById(String scheduleId);
+    Mono<FlightSchedule> deactivateSchedule(String scheduleId);
+    Mono<ScheduleGenerationResponse> generateFlights();
+}
@@ -0,0 +1,13 @@
+package com.service;
+
+import com.model.WaitlistEntry;
+
+/**
+ * Tells waitlisted customers about changes to their entry
+ */
+public interface WaitlistNotifier {
+
+    void notifyPromoted(WaitlistEntry entry);
+
+    void notifyHoldExpired(WaitlistEntry entry);
+}
@@ -0,0 +1,13 @@
+package com.service;
+
+import com.dto.request.WaitlistRequest;
+import com.dto.response.WaitlistResponse;
+import reactor.core.publisher.Mono;
+
+public interface WaitlistService {
+    Mono<WaitlistResponse> joinWaitlist(String flightId, WaitlistRequest request);
+    Mono<WaitlistResponse> getWaitlistEntry(String flightId, String entryId);
+    Mono<WaitlistResponse> leaveWaitlist(String flightId, String entryId);
+    Mono<Integer> promoteWaitlist(String flightId);
+    Mono<Integer> expireHolds();
+}
@@ -12,6 +12,18 @@ public final class Constants {
     public static final String BOOKINGS_PATH = API_BASE_PATH + "/bookings";
     public static final String ADMIN_PATH = API_BASE_PATH + "/admin";
 
+    // Collections
+    public static final String FLIGHTS_ARCHIVE_COLLECTION = "flights_archive";
+
+    // Flight Status
+    public static final String FLIGHT_SCHEDULED = "SCHEDULED";
+    public static final String FLIGHT_DEPARTED = "DEPARTED";
+    public static final String FLIGHT_CANCELLED = "CANCELLED";
+
+    // Media Types
+    public static final String MEDIA_TYPE_COMPACT_SEAT_MAP = "application/vnd.flightapp.seatmap.compact+json";
+    public static final String MEDIA_TYPE_CSV = "text/csv";
+
     // Date/Time Formats
     public static final String DATE_FORMAT = "yyyy-MM-dd";
     public static final String DATETIME_FORMAT = "yyyy-MM-dd'T'HH:mm:ss";
@@ -26,6 +38,30 @@ public final class Constants {
     public static final String STATUS_CANCELLED = "CANCELLED";
     public static final String STATUS_PENDING = "PENDING";
 
+    // Seat Reservation Status
+    public static final String RESERVATION_HELD = "HELD";
+    public static final String RESERVATION_CONFIRMED = "CONFIRMED";
+    public static final String RESERVATION_RELEASED = "RELEASED";
+
+    // Waitlist Entry Status
+    public static final String WAITLIST_WAITING = "WAITING";
+    public static final String WAITLIST_PROMOTED = "PROMOTED";
+    public static final String WAITLIST_BOOKED = "BOOKED";
+    public static final String WAITLIST_EXPIRED = "EXPIRED";
+    public static final String WAITLIST_CANCELLED = "CANCELLED";
+    public static final String WAITLIST_RESERVATION_PREFIX = "WL-";
+
+    // Background Job Status
+    public static final String JOB_PENDING = "PENDING";
+    public static final String JOB_RUNNING = "RUNNING";
+    public static final String JOB_COMPLETED = "COMPLETED";
+    public static final String JOB_FAILED = "FAILED";
+    public static final String JOB_SUPERSEDED = "SUPERSEDED";
+
+    // Fare Adjustment Types
+    public static final String FARE_ADJUSTMENT_ABSOLUTE = "ABSOLUTE";
+    public static final String FARE_ADJUSTMENT_PERCENTAGE = "PERCENTAGE";
+
     // Seat Types
     public static final String SEAT_ECONOMY = "ECONOMY";
     public static final String SEAT_BUSINESS = "BUSINESS";
@@ -1,5 +1,6 @@
 package com.util;
 
+import java.time.DayOfWeek;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
@@ -97,4 +98,17 @@ public final class DateTimeUtil {
     public static LocalDateTime getEndOfDay(LocalDateTime dateTime) {
         return dateTime.toLocalDate().atTime(23, 59, 59);
     }
+
+    /**
+     * Parse a day of week given as a short or full name, e.g. "MON" or "Monday"
+     */
+    public static DayOfWeek parseDayOfWeek(String day) {
+        String normalized = day.trim().toUpperCase();
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            if (dayOfWeek.name().equals(normalized) || dayOfWeek.name().substring(0, 3).equals(normalized)) {
+                return dayOfWeek;
+            }
+        }
+        throw new IllegalArgumentException("Unknown day of week: " + day);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,64 @@
+package com.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Incremental gzip compression for streamed responses: each call returns the compressed
+ * bytes produced so far, so only the deflate window is held in memory, never the whole body.
+ * Not thread-safe; use one instance per response.
+ */
+public final class GzipChunkEncoder implements AutoCloseable {
+
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    private final GZIPOutputStream gzip;
+
+    public GzipChunkEncoder() {
+        try {
+            this.gzip = new GZIPOutputStream(buffer);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Compress more data; may return an empty array while the compressor is still filling its window
+     */
+    public byte[] encode(byte[] data) {
+        try {
+            gzip.write(data);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return drain();
+    }
+
+    /**
+     * Flush the remaining data and the gzip trailer
+     */
+    public byte[] finish() {
+        try {
+            gzip.finish();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return drain();
+    }
+
+    @Override
+    public void close() {
+        try {
+            gzip.close();
+        } catch (IOException ignored) {
+            // Nothing left to release
+        }
+    }
+
+    private byte[] drain() {
+        byte[] compressed = buffer.toByteArray();
+        buffer.reset();
+        return compressed;
+    }
+}
@@ -0,0 +1,214 @@
+package com.util;
+
+import com.model.Seat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public final class SeatAllocator {
+
+    private SeatAllocator() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    public static final String PREFERENCE_WINDOW = "WINDOW";
+    public static final String PREFERENCE_AISLE = "AISLE";
+
+    private static final long FULL_ROW = (1L << SeatGenerator.SEATS_PER_ROW) - 1;
+    private static final long WINDOW_MASK = maskOf("WINDOW");
+    private static final long AISLE_MASK = maskOf("AISLE");
+
+    /**
+     * Pick the best set of available seats in a cabin.
+     * Free seats are tracked as one bitset per row (bit i = seat letter i), following
+     * the SeatGenerator layout, so block searches are simple mask comparisons.
+     *
+     * @return the chosen seat numbers, or an empty list if the cabin cannot seat the group
+     */
+    public static List<String> allocate(List<Seat> seats, String cabinClass, int count,
+                                        String preference, boolean keepTogether) {
+        long[] freeRows = buildFreeRows(seats, cabinClass);
+
+        int freeCount = 0;
+        for (long row : freeRows) {
+            freeCount += Long.bitCount(row);
+        }
+        if (count < 1 || freeCount < count) {
+            return Collections.emptyList();
+        }
+
+        long preferredMask = preferenceMask(preference);
+
+        if (keepTogether) {
+            if (count <= SeatGenerator.SEATS_PER_ROW) {
+                List<String> block = findBlockInRow(freeRows, count, preferredMask);
+                if (!block.isEmpty()) {
+                    return block;
+                }
+            }
+            return findAdjacentRows(freeRows, count, preferredMask);
+        }
+
+        return findIndividualSeats(freeRows, count, preferredMask);
+    }
+
+    /**
+     * Build per-row occupancy bitsets for the available seats of a cabin
+     */
+    private static long[] buildFreeRows(List<Seat> seats, String cabinClass) {
+        if (seats == null || seats.isEmpty()) {
+            return new long[0];
+        }
+
+        int maxRow = 0;
+        for (Seat seat : seats) {
+            if (SeatGenerator.isValidSeatNumber(seat.getSeatNumber())) {
+                maxRow = Math.max(maxRow, SeatGenerator.rowOf(seat.getSeatNumber()));
+            }
+        }
+
+        long[] freeRows = new long[maxRow + 1];
+        for (Seat seat : seats) {
+            if (!Boolean.TRUE.equals(seat.getIsAvailable())
+                    || !SeatGenerator.isValidSeatNumber(seat.getSeatNumber())
+                    || (cabinClass != null && !cabinClass.equalsIgnoreCase(seat.getSeatClass()))) {
+                continue;
+            }
+            int row = SeatGenerator.rowOf(seat.getSeatNumber());
+            freeRows[row] |= 1L << SeatGenerator.letterIndexOf(seat.getSeatNumber());
+        }
+        return freeRows;
+    }
+
+    /**
+     * Find a contiguous block of seats within a single row.
+     * Blocks split by the aisle score worse, blocks with a preferred seat score better,
+     * and front rows win ties.
+     */
+    private static List<String> findBlockInRow(long[] freeRows, int count, long preferredMask) {
+        long blockMask = (1L << count) - 1;
+        int bestRow = -1;
+        int bestStart = -1;
+        int bestScore = Integer.MAX_VALUE;
+
+        for (int row = 1; row < freeRows.length; row++) {
+            long free = freeRows[row];
+            if (Long.bitCount(free) < count) {
+                continue;
+            }
+            for (int start = 0; start + count <= SeatGenerator.SEATS_PER_ROW; start++) {
+                long candidate = blockMask << start;
+                if ((free & candidate) != candidate) {
+                    continue;
+                }
+                int score = 0;
+                if (start <= SeatGenerator.AISLE_AFTER_LETTER_INDEX
+                        && start + count - 1 > SeatGenerator.AISLE_AFTER_LETTER_INDEX) {
+                    score += 2;
+                }
+                if (preferredMask != 0 && (candidate & preferredMask) == 0) {
+                    score += 1;
+                }
+                if (score < bestScore) {
+                    bestScore = score;
+                    bestRow = row;
+                    bestStart = start;
+                }
+            }
+            if (bestScore == 0) {
+                break;
+            }
+        }
+
+        if (bestRow < 0) {
+            return Collections.emptyList();
+        }
+
+        List<String> seatNumbers = new ArrayList<>(count);
+        for (int i = bestStart; i < bestStart + count; i++) {
+            seatNumbers.add(SeatGenerator.seatNumberOf(bestRow, i));
+        }
+        return seatNumbers;
+    }
+
+    /**
+     * Seat the group across the smallest run of consecutive rows that has enough free seats
+     */
+    private static List<String> findAdjacentRows(long[] freeRows, int count, long preferredMask) {
+        int bestStartRow = -1;
+        int bestSpan = Integer.MAX_VALUE;
+
+        for (int startRow = 1; startRow < freeRows.length; startRow++) {
+            if (freeRows[startRow] == 0) {
+                continue;
+            }
+            int seatsFound = 0;
+            int row = startRow;
+            while (row < freeRows.length && row - startRow < bestSpan) {
+                seatsFound += Long.bitCount(freeRows[row]);
+                if (seatsFound >= count) {
+                    break;
+                }
+                row++;
+            }
+            if (seatsFound >= count && row - startRow + 1 < bestSpan) {
+                bestSpan = row - startRow + 1;
+                bestStartRow = startRow;
+            }
+        }
+
+        if (bestStartRow < 0) {
+            return findIndividualSeats(freeRows, count, preferredMask);
+        }
+
+        long[] window = new long[freeRows.length];
+        System.arraycopy(freeRows, bestStartRow, window, bestStartRow, bestSpan);
+        return findIndividualSeats(window, count, preferredMask);
+    }
+
+    /**
+     * Pick preferred seats first, then any other free seat, front to back
+     */
+    private static List<String> findIndividualSeats(long[] freeRows, int count, long preferredMask) {
+        List<String> seatNumbers = new ArrayList<>(count);
+
+        if (preferredMask != 0) {
+            collectSeats(freeRows, preferredMask, count, seatNumbers);
+        }
+        collectSeats(freeRows, FULL_ROW & ~preferredMask, count, seatNumbers);
+
+        return seatNumbers.size() == count ? seatNumbers : Collections.emptyList();
+    }
+
+    private static void collectSeats(long[] freeRows, long mask, int count, List<String> seatNumbers) {
+        for (int row = 1; row < freeRows.length && seatNumbers.size() < count; row++) {
+            long free = freeRows[row] & mask;
+            while (free != 0 && seatNumbers.size() < count) {
+                int letterIndex = Long.numberOfTrailingZeros(free);
+                seatNumbers.add(SeatGenerator.seatNumberOf(row, letterIndex));
+                free &= free - 1;
+            }
+        }
+    }
+
+    private static long preferenceMask(String preference) {
+        if (PREFERENCE_WINDOW.equalsIgnoreCase(preference)) {
+            return WINDOW_MASK;
+        }
+        if (PREFERENCE_AISLE.equalsIgnoreCase(preference)) {
+            return AISLE_MASK;
+        }
+        return 0L;
+    }
+
+    private static long maskOf(String seatType) {
+        long mask = 0L;
+        for (int i = 0; i < SeatGenerator.SEATS_PER_ROW; i++) {
+            if (seatType.equals(SeatGenerator.seatTypeOf(i))) {
+                mask |= 1L << i;
+            }
+        }
+        return mask;
+    }
+}
@@ -15,6 +15,14 @@ public final class SeatGenerator {
     private static final int BUSINESS_ROWS = 3;
     private static final int ECONOMY_ROWS_START = 4;
 
+    public static final int SEATS_PER_ROW = SEAT_LETTERS.length;
+
+    // The aisle runs between C and D (letter indexes 2 and 3)
+    public static final int AISLE_AFTER_LETTER_INDEX = 2;
+
+    // Layout reference: seat letters per row ('_' marks the aisle) and number of business rows
+    public static final String LAYOUT = "ABC_DEF:B" + BUSINESS_ROWS;
+
     /**
      * Generate seat map for an aircraft
      * @param totalSeats Total number of seats
@@ -33,7 +41,7 @@ public final class SeatGenerator {
                 String seatNumber = row + letter;
                 String seatClass = determineSeatClass(row);
                 String seatType = determineSeatType(letter);
-                Double extraCharge = calculateExtraCharge(seatClass, seatType);
+                Double extraCharge = calculateExtraCharge(seatType);
 
                 Seat seat = Seat.builder()
                         .seatNumber(seatNumber)
@@ -51,6 +59,14 @@ public final class SeatGenerator {
         return seats;
     }
 
+    /**
+     * Extra charge for a seat from its position in the row, e.g. 200 for "12A". Pricing uses this
+     * rather than the stored extraCharge, which on older flights also includes a business premium.
+     */
+    public static double extraChargeOf(String seatNumber) {
+        return calculateExtraCharge(seatTypeOf(letterIndexOf(seatNumber)));
+    }
+
     /**
      * Determine seat class based on row number
      */
@@ -75,16 +91,12 @@ public final class SeatGenerator {
     }
 
     /**
-     * Calculate extra charge for seat
+     * Calculate extra charge for seat position. The cabin premium is already in the cabin fare,
+     * so it is not charged again here.
      */
-    private static Double calculateExtraCharge(String seatClass, String seatType) {
+    private static Double calculateExtraCharge(String seatType) {
         double charge = 0.0;
 
-        // Business class premium
-        if (Constants.SEAT_BUSINESS.equals(seatClass)) {
-            charge += 2000.0;
-        }
-
         // Window seat premium
         if ("WINDOW".equals(seatType)) {
             charge += 200.0;
@@ -98,6 +110,41 @@ public final class SeatGenerator {
         return charge;
     }
 
+    /**
+     * Get the row number of a seat, e.g. 12 for "12C"
+     */
+    public static int rowOf(String seatNumber) {
+        return Integer.parseInt(seatNumber.substring(0, seatNumber.length() - 1));
+    }
+
+    /**
+     * Get the position of a seat within its row, e.g. 2 for "12C"
+     */
+    public static int letterIndexOf(String seatNumber) {
+        return seatNumber.charAt(seatNumber.length() - 1) - 'A';
+    }
+
+    /**
+     * Get the position of a seat in generation order, e.g. 14 for "3C"
+     */
+    public static int seatIndexOf(String seatNumber) {
+        return (rowOf(seatNumber) - 1) * SEATS_PER_ROW + letterIndexOf(seatNumber);
+    }
+
+    /**
+     * Build a seat number from its row and position within the row
+     */
+    public static String seatNumberOf(int row, int letterIndex) {
+        return row + SEAT_LETTERS[letterIndex];
+    }
+
+    /**
+     * Determine seat type based on the position within the row
+     */
+    public static String seatTypeOf(int letterIndex) {
+        return determineSeatType(SEAT_LETTERS[letterIndex]);
+    }
+
     /**
      * Check if a seat number is valid
      */
@@ -0,0 +1,81 @@
+package com.util;
+
+import com.model.Seat;
+
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+public final class SeatMapCodec {
+
+    // Digits for seat price classes, in index order
+    public static final String PRICE_CLASS_DIGITS =
+            "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+
+    private SeatMapCodec() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Encode seat availability as a base64 bitmap.
+     * Bit i (least significant bit first within each byte) is set when the seat at
+     * SeatGenerator position i is available, so 500 seats fit in 63 bytes.
+     */
+    public static String encodeAvailability(List<Seat> seats, int seatCount) {
+        byte[] bitmap = new byte[(seatCount + 7) / 8];
+
+        if (seats != null) {
+            for (Seat seat : seats) {
+                if (!Boolean.TRUE.equals(seat.getIsAvailable())
+                        || !SeatGenerator.isValidSeatNumber(seat.getSeatNumber())) {
+                    continue;
+                }
+                int index = SeatGenerator.seatIndexOf(seat.getSeatNumber());
+                if (index < seatCount) {
+                    bitmap[index >> 3] |= (byte) (1 << (index & 7));
+                }
+            }
+        }
+
+        return Base64.getEncoder().encodeToString(bitmap);
+    }
+
+    /**
+     * Encode seat charges as price classes: one digit per seat in SeatGenerator order, indexing
+     * into the distinct charges collected in chargeLevels. A flight's charges come from a handful
+     * of seat positions, so 500 seats fit in 500 characters.
+     * @param chargeLevels empty list, filled with the distinct charges starting with 0.0
+     */
+    public static String encodePriceClasses(List<Seat> seats, int seatCount, List<Double> chargeLevels) {
+        chargeLevels.add(0.0);
+
+        char[] classes = new char[seatCount];
+        Arrays.fill(classes, PRICE_CLASS_DIGITS.charAt(0));
+
+        if (seats != null) {
+            for (Seat seat : seats) {
+                if (!SeatGenerator.isValidSeatNumber(seat.getSeatNumber())) {
+                    continue;
+                }
+                int index = SeatGenerator.seatIndexOf(seat.getSeatNumber());
+                if (index >= seatCount) {
+                    continue;
+                }
+
+                double charge = SeatGenerator.extraChargeOf(seat.getSeatNumber());
+                int level = chargeLevels.indexOf(charge);
+                if (level < 0) {
+                    if (chargeLevels.size() == PRICE_CLASS_DIGITS.length()) {
+                        throw new IllegalStateException("More than " + PRICE_CLASS_DIGITS.length()
+                                + " distinct seat charges on one flight");
+                    }
+                    level = chargeLevels.size();
+                    chargeLevels.add(charge);
+                }
+                classes[index] = PRICE_CLASS_DIGITS.charAt(level);
+            }
+        }
+
+        return new String(classes);
+    }
+}
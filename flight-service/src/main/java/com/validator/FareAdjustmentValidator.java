@@ -0,0 +1,58 @@
+package com.validator;
+
+import com.dto.request.FareAdjustmentRequest;
+import com.exception.InvalidRequestException;
+import com.util.Constants;
+import org.springframework.stereotype.Component;
+
+@Component
+public class FareAdjustmentValidator {
+
+    /**
+     * Validate a bulk fare adjustment request
+     */
+    public void validateFareAdjustmentRequest(FareAdjustmentRequest request) {
+        // Guard against repricing the whole inventory by accident
+        if (isBlank(request.getAirlineCode()) && isBlank(request.getOrigin()) && isBlank(request.getDestination())) {
+            throw new InvalidRequestException(
+                    "An airline, origin or destination filter is required"
+            );
+        }
+
+        if (request.getDepartureFrom() != null && request.getDepartureTo() != null
+                && request.getDepartureTo().isBefore(request.getDepartureFrom())) {
+            throw new InvalidRequestException(
+                    "Departure end date cannot be before the start date"
+            );
+        }
+
+        String type = request.getAdjustmentType().toUpperCase();
+        if (!Constants.FARE_ADJUSTMENT_ABSOLUTE.equals(type) && !Constants.FARE_ADJUSTMENT_PERCENTAGE.equals(type)) {
+            throw new InvalidRequestException(
+                    "Adjustment type must be ABSOLUTE or PERCENTAGE"
+            );
+        }
+
+        if (Constants.FARE_ADJUSTMENT_PERCENTAGE.equals(type) && request.getAmount() <= -100) {
+            throw new InvalidRequestException(
+                    "Percentage decrease must be less than 100"
+            );
+        }
+
+        // Validate fare bounds
+        if (request.getMinFare() != null && request.getMinFare() < 0) {
+            throw new InvalidRequestException("Minimum fare must be non-negative");
+        }
+
+        if (request.getMinFare() != null && request.getMaxFare() != null
+                && request.getMaxFare() < request.getMinFare()) {
+            throw new InvalidRequestException(
+                    "Maximum fare cannot be below the minimum fare"
+            );
+        }
+    }
+
+    private boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
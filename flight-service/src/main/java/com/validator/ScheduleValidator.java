@@ -0,0 +1,79 @@
+package com.validator;
+
+import com.dto.request.ScheduleRequest;
+import com.exception.InvalidRequestException;
+import com.util.DateTimeUtil;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Component
+public class ScheduleValidator {
+
+    /**
+     * Validate a recurring schedule request
+     */
+    public void validateScheduleRequest(ScheduleRequest request) {
+        // Validate validity period
+        if (request.getValidTo().isBefore(request.getValidFrom())) {
+            throw new InvalidRequestException(
+                    "Validity end date cannot be before the start date"
+            );
+        }
+
+        if (request.getValidTo().isBefore(LocalDate.now())) {
+            throw new InvalidRequestException(
+                    "Validity end date cannot be in the past"
+            );
+        }
+
+        // Validate days of week
+        request.getDaysOfWeek().forEach(day -> {
+            try {
+                DateTimeUtil.parseDayOfWeek(day);
+            } catch (IllegalArgumentException ex) {
+                throw new InvalidRequestException(ex.getMessage());
+            }
+        });
+
+        // Validate arrival is after departure, allowing for overnight flights
+        int dayOffset = request.getArrivalDayOffset() != null ? request.getArrivalDayOffset() : 0;
+        LocalDateTime departure = request.getValidFrom().atTime(request.getDepartureTime());
+        LocalDateTime arrival = request.getValidFrom().plusDays(dayOffset).atTime(request.getArrivalTime());
+
+        if (!arrival.isAfter(departure)) {
+            throw new InvalidRequestException(
+                    "Arrival time must be after departure time; set arrivalDayOffset for overnight flights"
+            );
+        }
+
+        if (Duration.between(departure, arrival).toHours() > 24) {
+            throw new InvalidRequestException(
+                    "Flight duration cannot exceed 24 hours"
+            );
+        }
+
+        // Validate total seats is reasonable
+        if (request.getTotalSeats() < 1 || request.getTotalSeats() > 500) {
+            throw new InvalidRequestException(
+                    "Total seats must be between 1 and 500"
+            );
+        }
+
+        // Validate IATA codes format (3 letters)
+        if (!isValidIATACode(request.getOrigin()) || !isValidIATACode(request.getDestination())) {
+            throw new InvalidRequestException(
+                    "Invalid origin or destination IATA code format. Must be 3 letters"
+            );
+        }
+    }
+
+    /**
+     * Validate IATA code format
+     */
+    private boolean isValidIATACode(String code) {
+        return code != null && code.matches("^[A-Z]{3}$");
+    }
+}
@@ -0,0 +1,76 @@
+package com.pricing;
+
+import com.model.Flight;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to price one flight, and a page of search results, with the default rules. Pricing runs
+ * for every flight a search returns, so it should stay well under a microsecond per flight.
+ * Run with: mvn test-compile, then the main method on the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PricingEngineBenchmark {
+
+    private static final int SEARCH_PAGE_SIZE = 50;
+
+    private PricingEngine pricingEngine;
+    private Flight[] flights;
+    private LocalDateTime now;
+
+    @Setup
+    public void setUp() {
+        pricingEngine = PricingEngineTest.engine(
+                "0:0.9,40:1.0,60:1.1,75:1.25,85:1.45,95:1.7",
+                "0:1.5,3:1.35,7:1.2,14:1.1,21:1.0,45:0.95",
+                "ECONOMY:1.0,BUSINESS:1.6");
+        now = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+        // A spread of load factors and departure dates, so every table row is exercised
+        flights = new Flight[SEARCH_PAGE_SIZE];
+        for (int i = 0; i < flights.length; i++) {
+            flights[i] = PricingEngineTest.flight(180, 180 - (i * 37) % 181, now.plusDays(i * 3L % 60));
+        }
+    }
+
+    @Benchmark
+    public Map<String, Double> priceOneFlight() {
+        return pricingEngine.cabinFares(flights[0], now);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int priceSearchPage() {
+        int cabins = 0;
+        for (Flight flight : flights) {
+            cabins += pricingEngine.cabinFares(flight, now).size();
+        }
+        return cabins;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(PricingEngineBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
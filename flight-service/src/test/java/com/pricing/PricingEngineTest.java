@@ -0,0 +1,116 @@
+package com.pricing;
+
+import com.model.Flight;
+import com.util.Constants;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PricingEngineTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    private PricingEngine pricingEngine;
+
+    @BeforeEach
+    void setUp() {
+        pricingEngine = engine("0:1.0,50:1.2,100:2.0", "0:1.5,7:1.0", "ECONOMY:1.0,BUSINESS:1.6");
+    }
+
+    @Test
+    void pricesEachCabinFromDemandFare() {
+        Flight flight = flight(100, 100, NOW.plusDays(30));
+
+        Map<String, Double> fares = pricingEngine.cabinFares(flight, NOW);
+
+        assertEquals(Map.of(Constants.SEAT_ECONOMY, 1000.0, Constants.SEAT_BUSINESS, 1600.0), fares);
+    }
+
+    @Test
+    void appliesLoadFactorAndDaysToDepartureTogether() {
+        // 60% sold, 3 days out
+        Flight flight = flight(100, 40, NOW.plusDays(3));
+
+        assertEquals(1800.0, pricingEngine.cabinFares(flight, NOW).get(Constants.SEAT_ECONOMY));
+    }
+
+    @Test
+    void fullFlightUsesTheTopLoadFactorRule() {
+        Flight flight = flight(100, 0, NOW.plusDays(30));
+
+        assertEquals(2000.0, pricingEngine.cabinFares(flight, NOW).get(Constants.SEAT_ECONOMY));
+    }
+
+    @Test
+    void departedFlightUsesTheFirstDaysRule() {
+        Flight flight = flight(100, 100, NOW.minusDays(2));
+
+        assertEquals(1500.0, pricingEngine.cabinFares(flight, NOW).get(Constants.SEAT_ECONOMY));
+    }
+
+    @Test
+    void flightWithoutSeatCountsIsPricedAsEmpty() {
+        Flight flight = flight(null, null, NOW.plusDays(30));
+
+        assertEquals(1000.0, pricingEngine.cabinFares(flight, NOW).get(Constants.SEAT_ECONOMY));
+    }
+
+    @Test
+    void flightWithoutBaseFareHasNoFares() {
+        Flight flight = flight(100, 100, NOW.plusDays(30));
+        flight.setBaseFare(null);
+
+        assertTrue(pricingEngine.cabinFares(flight, NOW).isEmpty());
+        assertNull(pricingEngine.applyFares(flight).getCurrentFare());
+    }
+
+    @Test
+    void roundsFaresToCents() {
+        PricingEngine engine = engine("0:1.0", "0:1.0", "ECONOMY:1.0,BUSINESS:1.333");
+
+        assertEquals(1333.0, engine.cabinFares(flight(100, 100, NOW.plusDays(30)), NOW).get(Constants.SEAT_BUSINESS));
+        Flight odd = flight(100, 100, NOW.plusDays(30));
+        odd.setBaseFare(10.005);
+        assertEquals(13.34, engine.cabinFares(odd, NOW).get(Constants.SEAT_BUSINESS));
+    }
+
+    @Test
+    void rejectsMalformedCabinRules() {
+        assertThrows(IllegalArgumentException.class, () -> PricingEngine.compileCabinRules("ECONOMY"));
+        assertThrows(IllegalArgumentException.class, () -> PricingEngine.compileCabinRules(":1.0"));
+        assertThrows(IllegalArgumentException.class, () -> PricingEngine.compileCabinRules("ECONOMY:cheap"));
+        assertThrows(IllegalArgumentException.class, () -> PricingEngine.compileCabinRules("ECONOMY:0"));
+    }
+
+    @Test
+    void normalisesCabinNames() {
+        assertEquals(Map.of(Constants.SEAT_BUSINESS, 1.6), PricingEngine.compileCabinRules(" business : 1.6 "));
+    }
+
+    static PricingEngine engine(String loadFactorRules, String daysToDepartureRules, String cabinRules) {
+        PricingEngine engine = new PricingEngine();
+        ReflectionTestUtils.setField(engine, "loadFactorRules", loadFactorRules);
+        ReflectionTestUtils.setField(engine, "daysToDepartureRules", daysToDepartureRules);
+        ReflectionTestUtils.setField(engine, "cabinRules", cabinRules);
+        engine.compileRules();
+        return engine;
+    }
+
+    static Flight flight(Integer totalSeats, Integer availableSeats, LocalDateTime departure) {
+        return Flight.builder()
+                .id("FL1")
+                .baseFare(1000.0)
+                .totalSeats(totalSeats)
+                .availableSeats(availableSeats)
+                .departureDateTime(departure)
+                .build();
+    }
+}
@@ -0,0 +1,49 @@
+package com.pricing;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PricingRuleTableTest {
+
+    private final PricingRuleTable table = PricingRuleTable.compile("10:0.9, 50:1.0, 80:1.25", 100);
+
+    @Test
+    void appliesEachMultiplierFromItsThresholdToTheNext() {
+        assertEquals(0.9, table.multiplier(10));
+        assertEquals(0.9, table.multiplier(49));
+        assertEquals(1.0, table.multiplier(50));
+        assertEquals(1.0, table.multiplier(79));
+        assertEquals(1.25, table.multiplier(80));
+    }
+
+    @Test
+    void keysBelowTheFirstThresholdUseItsMultiplier() {
+        assertEquals(0.9, table.multiplier(0));
+        assertEquals(0.9, table.multiplier(9));
+    }
+
+    @Test
+    void clampsKeysOutsideTheTable() {
+        assertEquals(0.9, table.multiplier(-5));
+        assertEquals(1.25, table.multiplier(100));
+        assertEquals(1.25, table.multiplier(Integer.MAX_VALUE));
+    }
+
+    @Test
+    void acceptsRulesInAnyOrder() {
+        PricingRuleTable unordered = PricingRuleTable.compile("80:1.25,0:0.9,50:1.0", 100);
+
+        assertEquals(0.9, unordered.multiplier(49));
+        assertEquals(1.25, unordered.multiplier(90));
+    }
+
+    @Test
+    void rejectsMalformedRules() {
+        assertThrows(IllegalArgumentException.class, () -> PricingRuleTable.compile("0:0.9,50", 100));
+        assertThrows(IllegalArgumentException.class, () -> PricingRuleTable.compile("0:0.9:1", 100));
+        assertThrows(IllegalArgumentException.class, () -> PricingRuleTable.compile("x:0.9", 100));
+        assertThrows(IllegalArgumentException.class, () -> PricingRuleTable.compile("0:fast", 100));
+    }
+}
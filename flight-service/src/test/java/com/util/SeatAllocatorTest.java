@@ -0,0 +1,77 @@
+package com.util;
+
+import com.model.Seat;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SeatAllocatorTest {
+
+    // Rows 1-3 business, 4-10 economy
+    private final List<Seat> seats = SeatGenerator.generateSeats(60);
+
+    @Test
+    void keepsGroupTogetherInFrontRowOfCabin() {
+        List<String> allocated = SeatAllocator.allocate(seats, Constants.SEAT_ECONOMY, 3,
+                SeatAllocator.PREFERENCE_WINDOW, true);
+
+        assertEquals(List.of("4A", "4B", "4C"), allocated);
+    }
+
+    @Test
+    void avoidsSplittingPairAcrossAisle() {
+        occupy("4A", "4B");
+
+        List<String> allocated = SeatAllocator.allocate(seats, Constants.SEAT_ECONOMY, 2, null, true);
+
+        assertEquals(List.of("4D", "4E"), allocated);
+    }
+
+    @Test
+    void spreadsLargeGroupOverAdjacentRows() {
+        List<String> allocated = SeatAllocator.allocate(seats, Constants.SEAT_ECONOMY, 8, null, true);
+
+        assertEquals(List.of("4A", "4B", "4C", "4D", "4E", "4F", "5A", "5B"), allocated);
+    }
+
+    @Test
+    void picksPreferredSeatsFirstWhenNotTogether() {
+        List<String> allocated = SeatAllocator.allocate(seats, Constants.SEAT_ECONOMY, 3,
+                SeatAllocator.PREFERENCE_AISLE, false);
+
+        assertEquals(List.of("4C", "4D", "5C"), allocated);
+    }
+
+    @Test
+    void onlyAllocatesFromRequestedCabin() {
+        List<String> allocated = SeatAllocator.allocate(seats, Constants.SEAT_BUSINESS, 1, null, false);
+
+        assertEquals(List.of("1A"), allocated);
+    }
+
+    @Test
+    void skipsTakenSeats() {
+        occupy("1A", "1B", "1C");
+
+        List<String> allocated = SeatAllocator.allocate(seats, Constants.SEAT_BUSINESS, 2, null, true);
+
+        assertEquals(List.of("1D", "1E"), allocated);
+    }
+
+    @Test
+    void returnsEmptyWhenCabinCannotSeatGroup() {
+        List<String> allocated = SeatAllocator.allocate(seats, Constants.SEAT_BUSINESS, 19, null, false);
+
+        assertTrue(allocated.isEmpty());
+    }
+
+    private void occupy(String... seatNumbers) {
+        List<String> taken = List.of(seatNumbers);
+        seats.stream()
+                .filter(seat -> taken.contains(seat.getSeatNumber()))
+                .forEach(seat -> seat.setIsAvailable(false));
+    }
+}
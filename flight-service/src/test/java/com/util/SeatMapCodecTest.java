@@ -0,0 +1,66 @@
+package com.util;
+
+import com.model.Seat;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SeatMapCodecTest {
+
+    @Test
+    void encodesOneBitPerAvailableSeatInLayoutOrder() {
+        List<Seat> seats = SeatGenerator.generateSeats(12);
+        seats.get(1).setIsAvailable(false); // 1B
+        seats.get(9).setIsAvailable(false); // 2D
+
+        byte[] bitmap = Base64.getDecoder().decode(SeatMapCodec.encodeAvailability(seats, 12));
+
+        assertArrayEquals(new byte[]{(byte) 0b1111_1101, 0b0000_1101}, bitmap);
+    }
+
+    @Test
+    void ignoresSeatsOutsideTheSeatCount() {
+        List<Seat> seats = SeatGenerator.generateSeats(12);
+
+        byte[] bitmap = Base64.getDecoder().decode(SeatMapCodec.encodeAvailability(seats, 6));
+
+        assertArrayEquals(new byte[]{0b0011_1111}, bitmap);
+    }
+
+    @Test
+    void encodesNoSeatsAsAllTaken() {
+        byte[] bitmap = Base64.getDecoder().decode(SeatMapCodec.encodeAvailability(null, 10));
+
+        assertArrayEquals(new byte[2], bitmap);
+    }
+
+    @Test
+    void encodesOneDigitPerSeatIndexingDistinctCharges() {
+        List<Seat> seats = SeatGenerator.generateSeats(6);
+        List<Double> chargeLevels = new ArrayList<>();
+
+        String priceClasses = SeatMapCodec.encodePriceClasses(seats, 8, chargeLevels);
+
+        // Window 200, middle 0, aisle 100; the two seats past the generated ones have no charge
+        assertEquals(List.of(0.0, 200.0, 100.0), chargeLevels);
+        assertEquals("10220100", priceClasses);
+    }
+
+    @Test
+    void chargesBySeatPositionNotTheStoredCharge() {
+        List<Seat> seats = SeatGenerator.generateSeats(6);
+        // Business seats generated before the cabin premium moved to the cabin fare
+        seats.forEach(seat -> seat.setExtraCharge(seat.getExtraCharge() + 2000.0));
+        List<Double> chargeLevels = new ArrayList<>();
+
+        String priceClasses = SeatMapCodec.encodePriceClasses(seats, 6, chargeLevels);
+
+        assertEquals(List.of(0.0, 200.0, 100.0), chargeLevels);
+        assertEquals("102201", priceClasses);
+    }
+}